@@ -1,16 +1,24 @@
 package com.scheduleappdevelop2.comment.controller;
 
 import com.scheduleappdevelop2.comment.dto.CommentCreateRequest;
+import com.scheduleappdevelop2.comment.dto.CommentIngestResponse;
+import com.scheduleappdevelop2.comment.ingest.CommentIngestQueue;
 import com.scheduleappdevelop2.comment.dto.CommentResponse;
+import com.scheduleappdevelop2.comment.dto.CommentThreadResponse;
 import com.scheduleappdevelop2.comment.service.CommentService;
+import com.scheduleappdevelop2.global.pagination.CursorPageResponse;
+import com.scheduleappdevelop2.global.web.ETags;
 import com.scheduleappdevelop2.user.dto.sessionUser.SessionUser;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
-
+import static com.scheduleappdevelop2.global.exception.ErrorCode.PRECONDITION_REQUIRED;
 import static com.scheduleappdevelop2.global.exception.ErrorMessage.*;
 
 @RestController
@@ -19,6 +27,7 @@ import static com.scheduleappdevelop2.global.exception.ErrorMessage.*;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentIngestQueue commentIngestQueue;
 
     // 댓글 생성
     @PostMapping
@@ -36,26 +45,68 @@ public class CommentController {
         return commentService.createComment(scheduleId, request, sessionUser);
     }
 
-    // 댓글 전체 조회
+    // 댓글 비동기 접수: 저장을 기다리지 않고 202 Accepted + 접수 번호(ticket) 응답, 큐가 가득 차면 503
+    @PostMapping("/ingest")
+    public ResponseEntity<CommentIngestResponse> ingest(
+            @PathVariable Long scheduleId,
+            @RequestBody CommentCreateRequest request,
+            HttpServletRequest sessionRequest) {
+
+        HttpSession session = sessionRequest.getSession(false);
+        if (session == null) throw new CustomException(NOT_AUTHENTICATED);
+        SessionUser sessionUser = (SessionUser) session.getAttribute("loginUser");
+        if (sessionUser == null) throw new CustomException(NOT_AUTHENTICATED);
+        if (request.getContent() == null || request.getContent().isBlank()) throw new CustomException(INVALID_INPUT);
+
+        return ResponseEntity.accepted()
+                .body(commentIngestQueue.submit(scheduleId, sessionUser.getId(), request.getParentId(), request.getContent()));
+    }
+
+    // 비동기 접수 처리 상태 조회 (PENDING / SAVED / FAILED)
+    @GetMapping("/ingest/{ticket}")
+    public CommentIngestResponse ingestStatus(@PathVariable Long scheduleId, @PathVariable String ticket) {
+        CommentIngestResponse status = commentIngestQueue.status(scheduleId, ticket);
+        if (status == null) throw new CustomException(DATA_NOT_FOUND);
+        return status;
+    }
+
+    // 댓글 목록 조회 (최신순 커서 페이지네이션, 응답의 nextCursor 를 다음 요청의 cursor 로 전달)
+    // If-None-Match 가 현재 ETag와 같으면 304 Not Modified
     @GetMapping
-    public List<CommentResponse> findAll(@PathVariable Long scheduleId) {
-        return commentService.getComments(scheduleId);
+    public CursorPageResponse<CommentResponse> findAll(@PathVariable Long scheduleId, WebRequest webRequest,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer size) {
+        if (webRequest.checkNotModified(commentService.commentsETag(scheduleId))) {
+            return null;
+        }
+        return commentService.getComments(scheduleId, cursor, size);
+    }
+
+    // 답글 트리 조회: 댓글 + 하위 답글을 깊이 우선 순서로 (경로 접두사 범위 쿼리 한 번, 최대 개수를 넘으면 truncated)
+    @GetMapping("/{commentId}/thread")
+    public CommentThreadResponse thread(@PathVariable Long scheduleId, @PathVariable Long commentId) {
+        return commentService.getThread(scheduleId, commentId);
     }
 
-    // 댓글 수정
+    // 댓글 수정 (If-Match: "{commentId}-v{version}" 필수, 없으면 428 / 그 사이 변경되었으면 412)
     @PatchMapping("/{commentId}")
     public CommentResponse update(
             @PathVariable Long scheduleId,
             @PathVariable Long commentId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody CommentCreateRequest request,
-            HttpServletRequest sessionRequest) {
+            HttpServletRequest sessionRequest,
+            HttpServletResponse response) {
 
         HttpSession session = sessionRequest.getSession(false);
         if (session == null) throw new CustomException(NOT_AUTHENTICATED);
         SessionUser sessionUser = (SessionUser) session.getAttribute("loginUser");
         if (sessionUser == null) throw new CustomException(NOT_AUTHENTICATED);
+        if (ifMatch == null) throw new CustomException(PRECONDITION_REQUIRED);
 
-        return commentService.updateComment(commentId, request, sessionUser);
+        CommentResponse updated = commentService.updateComment(commentId, request, ifMatch, sessionUser);
+        response.setHeader(HttpHeaders.ETAG, ETags.of(commentId, updated.getVersion()));
+        return updated;
     }
 
     // 댓글 삭제
@@ -2,10 +2,13 @@ package com.scheduleappdevelop2.comment.dto;
 
 public class CommentCreateRequest {
     private final String content;
+    private final Long parentId; // 답글이면 부모 댓글 ID (수정 요청에서는 무시)
 
-    public CommentCreateRequest(String content) {
+    public CommentCreateRequest(String content, Long parentId) {
         this.content = content;
+        this.parentId = parentId;
     }
 
     public String getContent() { return content; }
+    public Long getParentId() { return parentId; }
 }
@@ -0,0 +1,32 @@
+package com.scheduleappdevelop2.comment.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * CommentIngestResponse
+ * - 비동기 댓글 접수 결과 / 처리 상태 응답.
+ * - PENDING: 큐에서 저장을 기다리는 중, SAVED: 저장 완료(commentId 포함), FAILED: 일정/부모 댓글이 없거나 저장 실패.
+ */
+public class CommentIngestResponse {
+
+    public enum Status { PENDING, SAVED, FAILED }
+
+    private final String ticket;
+    private final Status status;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long commentId; // 저장된 댓글 ID (SAVED 일 때만)
+
+    private CommentIngestResponse(String ticket, Status status, Long commentId) {
+        this.ticket = ticket;
+        this.status = status;
+        this.commentId = commentId;
+    }
+
+    public static CommentIngestResponse of(String ticket, Status status, Long commentId) {
+        return new CommentIngestResponse(ticket, status, commentId);
+    }
+
+    public String getTicket() { return ticket; }
+    public Status getStatus() { return status; }
+    public Long getCommentId() { return commentId; }
+}
@@ -1,5 +1,6 @@
 package com.scheduleappdevelop2.comment.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.scheduleappdevelop2.comment.entity.Comment;
 
 import java.time.LocalDateTime;
@@ -9,30 +10,52 @@ public class CommentResponse {
     private final Long id;
     private final String content;
     private final String userEmail;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long parentId;     // 부모 댓글 ID (최상위 댓글이면 생략)
+    private final int depth;         // 답글 깊이 (최상위 = 0)
+    private final int replyCount;    // 바로 아래 답글 수
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
+    private final Long version;
 
-    private CommentResponse(Long id, String content, String userEmail, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    private CommentResponse(Long id, String content, String userEmail, Long parentId, int depth, int replyCount, LocalDateTime createdAt, LocalDateTime modifiedAt, Long version) {
         this.id = id;
         this.content = content;
         this.userEmail = userEmail;
+        this.parentId = parentId;
+        this.depth = depth;
+        this.replyCount = replyCount;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.version = version;
     }
 
     public static CommentResponse from(Comment comment) {
+        return from(comment, comment.getUser().getEmail());
+    }
+
+    // 작성자가 ID 참조(프록시)일 때 이메일을 읽느라 유저를 조회하지 않도록 이메일을 따로 받는다
+    public static CommentResponse from(Comment comment, String userEmail) {
         return new CommentResponse(
                 comment.getId(),
                 comment.getContent(),
-                comment.getUser().getEmail(),
+                userEmail,
+                comment.getParentId(),
+                comment.getDepth(),
+                comment.getReplyCount(),
                 comment.getCreatedAt(),
-                comment.getModifiedAt()
+                comment.getModifiedAt(),
+                comment.getVersion()
         );
     }
 
     public Long getId() { return id; }
     public String getContent() { return content; }
     public String getUserEmail() { return userEmail; }
+    public Long getParentId() { return parentId; }
+    public int getDepth() { return depth; }
+    public int getReplyCount() { return replyCount; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getModifiedAt() { return modifiedAt; }
+    public Long getVersion() { return version; }
 }
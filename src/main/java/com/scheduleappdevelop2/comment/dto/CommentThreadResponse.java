@@ -0,0 +1,26 @@
+package com.scheduleappdevelop2.comment.dto;
+
+import java.util.List;
+
+/**
+ * CommentThreadResponse
+ * - 답글 트리 조회 응답. 댓글과 하위 답글을 깊이 우선 순서로 담는다. (첫 항목이 요청한 댓글)
+ * - truncated: 답글이 comment.thread.max-size 를 넘어 뒤쪽이 잘렸는지. 잘려도 깊이 우선 순서의 앞부분이므로 부모가 빠진 답글은 없다.
+ */
+public class CommentThreadResponse {
+
+    private final List<CommentResponse> comments;
+    private final boolean truncated;
+
+    private CommentThreadResponse(List<CommentResponse> comments, boolean truncated) {
+        this.comments = comments;
+        this.truncated = truncated;
+    }
+
+    public static CommentThreadResponse of(List<CommentResponse> comments, boolean truncated) {
+        return new CommentThreadResponse(comments, truncated);
+    }
+
+    public List<CommentResponse> getComments() { return comments; }
+    public boolean isTruncated() { return truncated; }
+}
@@ -9,12 +9,26 @@ import lombok.Builder;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 일정별 최상위 댓글 커서 목록(schedule_id = ? and parent_id is null order by created_at desc, id desc)
+        // + 일정별 집계용 인덱스
+        @Index(name = "idx_comments_schedule_parent_created_at_id", columnList = "schedule_id, parent_id, created_at, id"),
+        // 답글 트리(경로 접두사 LIKE 'prefix%') 범위 조회용 인덱스
+        @Index(name = "idx_comments_path", columnList = "path")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseTimeEntity {
 
+    // 답글 최대 깊이 (최상위 댓글 = 0)
+    public static final int MAX_DEPTH = 10;
+
+    // 경로 한 칸의 길이: 댓글 ID를 0으로 채운 8자리 36진수로 적는다 (36^8 ≈ 2.8조 까지)
+    private static final int SEGMENT_LENGTH = 8;
+
+    // pooled 시퀀스(테이블 에뮬레이션): 50개씩 미리 할당받아 INSERT를 JDBC 배치로 묶을 수 있다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comments_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -28,11 +42,31 @@ public class Comment extends BaseTimeEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // 바로 위 댓글 ID (최상위 댓글이면 null). 부모를 로딩하지 않도록 연관관계 대신 ID만 둔다
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    // 조상 경로 (materialized path): 최상위부터 부모까지의 ID 칸을 이어 붙인 값, 최상위 댓글은 ""
+    // 어떤 댓글의 모든 하위 답글은 path LIKE '{threadPath()}%' 한 번으로 조회된다
+    @Column(length = SEGMENT_LENGTH * MAX_DEPTH, nullable = false)
+    private String path;
+
+    // 바로 아래 답글 수 (답글 작성/삭제 시 원자적 UPDATE 로 증감, 버전은 올리지 않는다)
+    // 댓글 수정의 UPDATE 가 읽어 둔 옛 값으로 덮어쓰지 않도록 updatable = false
+    @Column(name = "reply_count", nullable = false, updatable = false)
+    private int replyCount;
+
+    // 낙관적 락 버전: 수정이 flush 될 때마다 증가, 동시 수정 시 나중 커밋은 실패한다
+    @Version
+    private Long version;
+
     @Builder
-    private Comment(String content, Schedule schedule, User user) {
+    private Comment(String content, Schedule schedule, User user, Long parentId, String path) {
         this.content = content;
         this.schedule = schedule;
         this.user = user;
+        this.parentId = parentId;
+        this.path = path == null ? "" : path;
     }
 
     public static Comment of(String content, Schedule schedule, User user) {
@@ -43,6 +77,27 @@ public class Comment extends BaseTimeEntity {
                 .build();
     }
 
+    // 답글 생성: 부모의 일정에 달리고, 부모의 전체 경로가 조상 경로가 된다
+    public static Comment reply(String content, Comment parent, User user) {
+        return Comment.builder()
+                .content(content)
+                .schedule(parent.getSchedule())
+                .user(user)
+                .parentId(parent.getId())
+                .path(parent.threadPath())
+                .build();
+    }
+
+    // 자기 자신까지 포함한 경로: 하위 답글 전체의 공통 접두사이자, 정렬하면 트리 깊이 우선 순서가 된다
+    public String threadPath() {
+        return threadPath(path, id);
+    }
+
+    public static String threadPath(String path, Long id) {
+        String segment = Long.toString(id, 36);
+        return path + "0".repeat(SEGMENT_LENGTH - segment.length()) + segment;
+    }
+
     public void update(String content) {
         if (content != null) this.content = content;
     }
@@ -51,4 +106,9 @@ public class Comment extends BaseTimeEntity {
     public String getContent() { return content; }
     public Schedule getSchedule() { return schedule; }
     public User getUser() { return user; }
+    public Long getVersion() { return version; }
+    public Long getParentId() { return parentId; }
+    public String getPath() { return path; }
+    public int getDepth() { return path.length() / SEGMENT_LENGTH; }
+    public int getReplyCount() { return replyCount; }
 }
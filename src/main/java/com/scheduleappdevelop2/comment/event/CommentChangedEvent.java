@@ -0,0 +1,42 @@
+package com.scheduleappdevelop2.comment.event;
+
+import com.scheduleappdevelop2.comment.entity.Comment;
+
+/**
+ * CommentChangedEvent
+ * - 댓글이 생성/수정/삭제되었음을 알리는 애플리케이션 이벤트.
+ * - CommentService/SyncService가 트랜잭션 안에서 발행하고, 변경 로그 등 부가 기능이 리스너로 반응한다.
+ * - 일정 연관은 프록시에서 ID만 꺼내므로 발행 시 추가 조회가 없다.
+ */
+public class CommentChangedEvent {
+
+    /** 변경 종류 */
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Long commentId;  // 변경된 댓글 ID
+    private final Long scheduleId; // 댓글이 달린 일정 ID
+    private final Type type;       // 변경 종류
+
+    private CommentChangedEvent(Long commentId, Long scheduleId, Type type) {
+        this.commentId = commentId;
+        this.scheduleId = scheduleId;
+        this.type = type;
+    }
+
+    public static CommentChangedEvent created(Comment comment) {
+        return new CommentChangedEvent(comment.getId(), comment.getSchedule().getId(), Type.CREATED);
+    }
+
+    public static CommentChangedEvent updated(Comment comment) {
+        return new CommentChangedEvent(comment.getId(), comment.getSchedule().getId(), Type.UPDATED);
+    }
+
+    public static CommentChangedEvent deleted(Long commentId, Long scheduleId) {
+        return new CommentChangedEvent(commentId, scheduleId, Type.DELETED);
+    }
+
+    //getter
+    public Long getCommentId() { return commentId; }
+    public Long getScheduleId() { return scheduleId; }
+    public Type getType() { return type; }
+}
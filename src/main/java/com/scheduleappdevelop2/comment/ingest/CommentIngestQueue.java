@@ -0,0 +1,355 @@
+package com.scheduleappdevelop2.comment.ingest;
+
+import com.scheduleappdevelop2.comment.dto.CommentIngestResponse;
+import com.scheduleappdevelop2.comment.dto.CommentIngestResponse.Status;
+import com.scheduleappdevelop2.comment.service.CommentService;
+import com.scheduleappdevelop2.global.exception.CustomException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.scheduleappdevelop2.global.exception.ErrorCode.SERVICE_BUSY;
+
+/**
+ * CommentIngestQueue
+ * - 댓글을 요청 스레드에서 바로 저장하지 않고, 크기가 정해진 큐에 접수만 한 뒤 접수 번호(ticket)를 돌려준다.
+ * - 일정 ID로 파티션을 나누고 파티션마다 저장 스레드 하나가 큐를 비운다.
+ *   같은 일정의 댓글은 항상 같은 파티션의 FIFO 큐를 거치므로 접수 순서대로 저장된다.
+ * - 저장 스레드는 첫 건을 꺼낸 뒤 max-wait 동안 batch-size 까지 모아서 트랜잭션 한 번으로 저장한다.
+ *   (일정/유저/부모 댓글은 배치 단위로 한 번씩 조회, INSERT는 JDBC 배치)
+ * - 일시적인 DB 오류는 간격을 늘려 가며 다시 시도하고, 그 밖의 오류는 배치를 나눠 문제 있는 건만 FAILED 로 만든다.
+ * - 큐가 가득 차면 접수하지 않고 503을 응답한다. (요청 스레드가 저장을 기다리며 쌓이지 않도록)
+ * - 접수 번호별 처리 상태는 최근 max-tracked-tickets 건까지만 보관한다. (LRU)
+ *   접수 번호는 접수한 일정에서만 조회된다.
+ */
+@Slf4j
+@Component
+public class CommentIngestQueue implements MeterBinder {
+
+    private final CommentService commentService;
+    private final int batchSize;
+    private final long maxWaitNanos;
+    private final int maxTrackedTickets;
+    private final int maxRetries;
+    private final long retryBackoffNanos;
+
+    /** 파티션별 큐 (일정 ID 해시로 선택) */
+    private final BlockingQueue<PendingComment>[] partitions;
+
+    /** 파티션마다 저장 스레드 하나 */
+    private final ExecutorService writers;
+    private volatile boolean running = true;
+
+    /** 접수 번호 → 상태. 삽입 순서 LinkedHashMap, 모든 접근은 this로 동기화한다. */
+    private final Map<String, Ticket> tickets;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong splits = new AtomicLong();
+
+    /** bindTo 이후에만 기록한다 */
+    private volatile DistributionSummary batchSizes;
+    private volatile Timer flushLatency;
+
+    @SuppressWarnings("unchecked")
+    public CommentIngestQueue(CommentService commentService,
+                              @Value("${comment.ingest.partitions:4}") int partitionCount,
+                              @Value("${comment.ingest.queue-capacity:10000}") int queueCapacity,
+                              @Value("${comment.ingest.batch-size:200}") int batchSize,
+                              @Value("${comment.ingest.max-wait:PT0.05S}") Duration maxWait,
+                              @Value("${comment.ingest.max-tracked-tickets:100000}") int maxTrackedTickets,
+                              @Value("${comment.ingest.max-retries:3}") int maxRetries,
+                              @Value("${comment.ingest.retry-backoff:PT0.1S}") Duration retryBackoff) {
+        this.commentService = commentService;
+        this.batchSize = batchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.maxTrackedTickets = maxTrackedTickets;
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBackoffNanos = retryBackoff.toNanos();
+        this.tickets = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Ticket> eldest) {
+                return size() > CommentIngestQueue.this.maxTrackedTickets;
+            }
+        };
+
+        this.partitions = new BlockingQueue[partitionCount];
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.writers = Executors.newFixedThreadPool(partitionCount, runnable -> {
+            Thread thread = new Thread(runnable, "comment-ingest-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < partitionCount; i++) {
+            BlockingQueue<PendingComment> queue = new ArrayBlockingQueue<>(queueCapacity);
+            partitions[i] = queue;
+            writers.execute(() -> runWriter(queue));
+        }
+    }
+
+    /**
+     * 댓글 접수
+     * - DB를 조회하지 않고 큐에 넣기만 한다. 일정/부모 댓글 존재 여부는 저장 시점에 확인한다.
+     * - 큐가 가득 차면 SERVICE_BUSY(503).
+     */
+    public CommentIngestResponse submit(Long scheduleId, Long userId, Long parentId, String content) {
+        PendingComment pending = new PendingComment(UUID.randomUUID().toString(), scheduleId, userId, parentId, content);
+        CommentIngestResponse response = CommentIngestResponse.of(pending.getTicket(), Status.PENDING, null);
+
+        track(scheduleId, response);
+        if (!running || !partitionOf(scheduleId).offer(pending)) {
+            untrack(pending.getTicket());
+            rejected.incrementAndGet();
+            throw new CustomException(SERVICE_BUSY);
+        }
+        accepted.incrementAndGet();
+        return response;
+    }
+
+    /** 접수 번호의 현재 상태 (보관 기간이 지났거나, 없거나, 다른 일정에 접수된 번호면 null) */
+    public synchronized CommentIngestResponse status(Long scheduleId, String ticket) {
+        Ticket tracked = tickets.get(ticket);
+        if (tracked == null || !tracked.scheduleId.equals(scheduleId)) {
+            return null;
+        }
+        return tracked.response;
+    }
+
+    private BlockingQueue<PendingComment> partitionOf(Long scheduleId) {
+        return partitions[Math.floorMod(Long.hashCode(scheduleId), partitions.length)];
+    }
+
+    /**
+     * 저장 스레드 루프
+     * - 첫 건을 기다렸다가, max-wait 안에 들어오는 것까지 batch-size 만큼 모아서 저장한다.
+     * - 종료 요청 후에도 큐에 남은 건은 모두 저장하고 끝낸다.
+     */
+    private void runWriter(BlockingQueue<PendingComment> queue) {
+        List<PendingComment> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingComment first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - batch.size());
+
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingComment next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치 저장
+     * - 저장하지 못한 건(일정/부모 댓글 없음)만 FAILED.
+     * - 저장 도중 스레드가 중단되면(종료 대기 초과) 아직 PENDING 인 건을 FAILED 로 바꾼다.
+     * - 그 밖의 예상하지 못한 오류(Error 포함)도 이 배치만 FAILED 로 두고 돌아간다.
+     *   저장 스레드가 끝나면 이 파티션에 접수된 댓글이 다시는 저장되지 않기 때문이다.
+     */
+    private void write(List<PendingComment> batch) throws InterruptedException {
+        try {
+            save(batch);
+        } catch (InterruptedException e) {
+            batch.forEach(pending -> fail(pending.getTicket()));
+            throw e;
+        } catch (Throwable e) {
+            log.error("댓글 배치 저장 중 예상하지 못한 오류: size = {}", batch.size(), e);
+            batch.forEach(pending -> fail(pending.getTicket()));
+            return;
+        }
+
+        DistributionSummary batchSizes = this.batchSizes;
+        Timer flushLatency = this.flushLatency;
+        if (batchSizes != null) {
+            batchSizes.record(batch.size());
+            // 배치에서 가장 오래 기다린 건(첫 건)의 접수 → 커밋 시간
+            flushLatency.record(System.nanoTime() - batch.get(0).getAcceptedAt(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 트랜잭션 한 번으로 저장하고 결과를 반영한다.
+     * - 일시적이지 않은 오류(제약 조건 위반 등 특정 건 때문일 수 있는 오류)면 배치를 반으로 나눠 각각 다시 저장한다.
+     *   한 건까지 나눠도 실패하는 건만 FAILED 가 되고 나머지는 접수 순서대로 저장된다.
+     */
+    private void save(List<PendingComment> batch) throws InterruptedException {
+        List<Long> commentIds;
+        try {
+            commentIds = saveWithRetry(batch);
+        } catch (RuntimeException e) {
+            if (batch.size() > 1) {
+                splits.incrementAndGet();
+                int middle = batch.size() / 2;
+                save(batch.subList(0, middle));
+                save(batch.subList(middle, batch.size()));
+                return;
+            }
+            log.error("댓글 저장 실패: ticket = {}", batch.get(0).getTicket(), e);
+            commentIds = null;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            Long commentId = commentIds == null ? null : commentIds.get(i);
+            if (commentId == null) {
+                failed.incrementAndGet();
+            }
+            complete(batch.get(i).getTicket(), commentId);
+        }
+    }
+
+    /**
+     * 일시적인 DB 오류(락 대기/데드락, 커넥션 획득 실패 등)는 retry-backoff 부터 두 배씩 늘려 max-retries 번까지 다시 시도한다.
+     * - 재시도를 다 써도 실패하면 나눠도 소용없는 DB 쪽 문제로 보고 null (배치 전체 FAILED).
+     * - 그 밖의 오류는 그대로 던진다.
+     */
+    private List<Long> saveWithRetry(List<PendingComment> batch) throws InterruptedException {
+        long backoffNanos = retryBackoffNanos;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return commentService.createCommentBatch(batch);
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    throw e;
+                }
+                if (attempt >= maxRetries) {
+                    log.error("댓글 배치 저장 실패 (재시도 {}회 초과): size = {}", maxRetries, batch.size(), e);
+                    return null;
+                }
+                retries.incrementAndGet();
+                log.warn("댓글 배치 저장 재시도 {}/{}: size = {}, {}", attempt + 1, maxRetries, batch.size(), e.toString());
+                TimeUnit.NANOSECONDS.sleep(backoffNanos);
+                backoffNanos *= 2;
+            }
+        }
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private synchronized void track(Long scheduleId, CommentIngestResponse response) {
+        tickets.put(response.getTicket(), new Ticket(scheduleId, response));
+    }
+
+    private synchronized void untrack(String ticket) {
+        tickets.remove(ticket);
+    }
+
+    /** 처리 결과 반영 (보관 기간이 지나 이미 밀려난 번호는 다시 넣지 않는다) */
+    private synchronized void complete(String ticket, Long commentId) {
+        Ticket tracked = tickets.get(ticket);
+        if (tracked != null) {
+            tickets.put(ticket, new Ticket(tracked.scheduleId, commentId == null
+                    ? CommentIngestResponse.of(ticket, Status.FAILED, null)
+                    : CommentIngestResponse.of(ticket, Status.SAVED, commentId)));
+        }
+    }
+
+    /** 아직 PENDING 인 번호만 FAILED 로 (이미 결과가 나온 번호는 그대로) */
+    private synchronized void fail(String ticket) {
+        Ticket tracked = tickets.get(ticket);
+        if (tracked != null && tracked.response.getStatus() == Status.PENDING) {
+            failed.incrementAndGet();
+            tickets.put(ticket, new Ticket(tracked.scheduleId, CommentIngestResponse.of(ticket, Status.FAILED, null)));
+        }
+    }
+
+    /**
+     * 종료 시 새 접수를 막고, 큐에 남은 댓글을 모두 저장할 때까지 잠시 기다린다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writers.shutdown();
+        if (!writers.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("댓글 접수 큐를 모두 비우지 못하고 종료합니다.");
+            writers.shutdownNow();
+        }
+    }
+
+    private long depth() {
+        long depth = 0;
+        for (BlockingQueue<PendingComment> queue : partitions) {
+            depth += queue.size();
+        }
+        return depth;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("comment.ingest.queue.depth", this, CommentIngestQueue::depth).register(registry);
+        FunctionCounter.builder("comment.ingest.accepted", accepted, AtomicLong::get).register(registry);
+        FunctionCounter.builder("comment.ingest.rejected", rejected, AtomicLong::get).register(registry);
+        FunctionCounter.builder("comment.ingest.failed", failed, AtomicLong::get).register(registry);
+        FunctionCounter.builder("comment.ingest.retries", retries, AtomicLong::get)
+                .description("일시적인 DB 오류로 배치 저장을 다시 시도한 횟수")
+                .register(registry);
+        FunctionCounter.builder("comment.ingest.splits", splits, AtomicLong::get)
+                .description("저장 실패로 배치를 나눠 다시 저장한 횟수")
+                .register(registry);
+        this.flushLatency = Timer.builder("comment.ingest.flush.latency")
+                .description("접수부터 배치 커밋까지 걸린 시간 (배치의 첫 건 기준)")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        this.batchSizes = DistributionSummary.builder("comment.ingest.batch.size").register(registry);
+    }
+
+    /** 접수 번호별로 보관하는 상태 (조회 시 일정 확인용으로 접수한 일정 ID를 함께 둔다) */
+    private static final class Ticket {
+
+        private final Long scheduleId;
+        private final CommentIngestResponse response;
+
+        private Ticket(Long scheduleId, CommentIngestResponse response) {
+            this.scheduleId = scheduleId;
+            this.response = response;
+        }
+    }
+}
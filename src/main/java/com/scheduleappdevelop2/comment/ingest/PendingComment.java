@@ -0,0 +1,33 @@
+package com.scheduleappdevelop2.comment.ingest;
+
+/**
+ * PendingComment
+ * - 비동기 접수된 뒤 아직 저장되지 않은 댓글 한 건.
+ * - 접수 시점에는 DB를 조회하지 않으므로 일정/유저/부모 댓글은 ID만 들고 있고, 존재 여부는 배치 저장 때 확인한다.
+ */
+public class PendingComment {
+
+    private final String ticket;     // 접수 번호 (상태 조회용)
+    private final Long scheduleId;   // 댓글을 달 일정 ID
+    private final Long userId;       // 작성자 ID
+    private final Long parentId;     // 답글이면 부모 댓글 ID
+    private final String content;    // 댓글 내용
+    private final long acceptedAt;   // 접수 시각 (System.nanoTime, 저장 지연 측정용)
+
+    public PendingComment(String ticket, Long scheduleId, Long userId, Long parentId, String content) {
+        this.ticket = ticket;
+        this.scheduleId = scheduleId;
+        this.userId = userId;
+        this.parentId = parentId;
+        this.content = content;
+        this.acceptedAt = System.nanoTime();
+    }
+
+    //getter
+    public String getTicket() { return ticket; }
+    public Long getScheduleId() { return scheduleId; }
+    public Long getUserId() { return userId; }
+    public Long getParentId() { return parentId; }
+    public String getContent() { return content; }
+    public long getAcceptedAt() { return acceptedAt; }
+}
@@ -0,0 +1,9 @@
+package com.scheduleappdevelop2.comment.repository;
+
+// 일정별 댓글 수 집계 프로젝션
+public interface CommentCount {
+
+    Long getScheduleId();
+
+    long getCommentCount();
+}
@@ -0,0 +1,11 @@
+package com.scheduleappdevelop2.comment.repository;
+
+import java.time.LocalDateTime;
+
+// 댓글 목록 ETag 계산용 집계 프로젝션 (댓글 수, 가장 최근 수정 시간)
+public interface CommentListVersion {
+
+    long getCommentCount();
+
+    LocalDateTime getLastModifiedAt();
+}
@@ -0,0 +1,11 @@
+package com.scheduleappdevelop2.comment.repository;
+
+/**
+ * 여러 댓글의 존재/작성자 확인용 프로젝션 (댓글 ID + 작성자 ID)
+ */
+public interface CommentOwner {
+
+    Long getId();
+
+    Long getOwnerId();
+}
@@ -0,0 +1,17 @@
+package com.scheduleappdevelop2.comment.repository;
+
+/**
+ * 댓글 권한 검사/삭제용 프로젝션 (작성자 ID + 일정 ID + 답글 트리 위치)
+ */
+public interface CommentOwnership {
+
+    Long getOwnerId();
+
+    Long getScheduleId();
+
+    Long getParentId();
+
+    String getPath();
+
+    int getReplyCount();
+}
@@ -1,10 +1,98 @@
 package com.scheduleappdevelop2.comment.repository;
 
 import com.scheduleappdevelop2.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findAllByScheduleId(Long scheduleId);
+
+    // 커서 목록 - 첫 페이지: (schedule_id, parent_id, created_at, id) 인덱스를 따라 최신 최상위 댓글부터, 작성자는 fetch join
+    @Query("select c from Comment c join fetch c.user " +
+            "where c.schedule.id = :scheduleId and c.parentId is null " +
+            "order by c.createdAt desc, c.id desc")
+    List<Comment> findFirstPageWithUserByScheduleId(@Param("scheduleId") Long scheduleId, Pageable pageable);
+
+    // 커서 목록 - 다음 페이지: 마지막으로 읽은 (createdAt, id) 다음부터 (OFFSET 없음)
+    @Query("select c from Comment c join fetch c.user " +
+            "where c.schedule.id = :scheduleId and c.parentId is null " +
+            "and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id)) " +
+            "order by c.createdAt desc, c.id desc")
+    List<Comment> findPageAfterWithUserByScheduleId(@Param("scheduleId") Long scheduleId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+
+    // 댓글 목록 ETag 계산용: 엔티티 로딩 없이 개수와 최근 수정 시간만 집계
+    @Query("select count(c) as commentCount, max(c.modifiedAt) as lastModifiedAt " +
+            "from Comment c where c.schedule.id = :scheduleId")
+    CommentListVersion findListVersionByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    // 여러 일정의 댓글 수를 GROUP BY 한 번으로 집계 (Comment 엔티티는 로딩하지 않음)
+    @Query("select c.schedule.id as scheduleId, count(c) as commentCount " +
+            "from Comment c where c.schedule.id in :scheduleIds group by c.schedule.id")
+    List<CommentCount> countByScheduleIds(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    long countByScheduleId(Long scheduleId);
+
+    // 수정용: 댓글 + 작성자를 쿼리 1번으로 조회 (권한 검사 + 응답 변환)
+    @Query("select c from Comment c join fetch c.user where c.id = :id")
+    Optional<Comment> findWithUserById(@Param("id") Long id);
+
+    // 답글 트리 조회: 경로 접두사 범위(idx_comments_path, ID 만 읽는 커버링 인덱스)에서 하위 답글 ID를 깊이 우선 순서로 limit 건
+    // 정렬 기준은 자기 ID 칸까지 붙인 전체 경로 (Comment.threadPath 와 같은 8자리 소문자 36진수 형식)
+    // (path, id) 순으로 자르면 얕은 답글이 먼저 채워져 깊이 우선 순서의 앞부분이 아니게 된다
+    @Query(value = "select id from comments where path like :prefix " +
+            "order by concat(path, lpad(lower(conv(id, 10, 36)), 8, '0')) limit :limit", nativeQuery = true)
+    List<Long> findReplyIdsInThreadOrder(@Param("prefix") String prefix, @Param("limit") int limit);
+
+    // 동기화의 일정 삭제용: 주어진 댓글 중 그 일정에 달린 댓글 ID만 조회
+    @Query("select c.id from Comment c where c.schedule.id = :scheduleId and c.id in :ids")
+    List<Long> findIdsByScheduleIdAndIdIn(@Param("scheduleId") Long scheduleId, @Param("ids") Collection<Long> ids);
+
+    // 삭제 이벤트용: 하위 답글 ID만 경로 접두사로 조회
+    @Query("select c.id from Comment c where c.path like :prefix")
+    List<Long> findIdsByPathPrefix(@Param("prefix") String prefix);
+
+    // 답글 수 원자적 증감 (동시에 달리는 답글끼리 덮어쓰지 않도록 읽고-쓰기 대신 UPDATE 한 번)
+    @Modifying
+    @Query("update Comment c set c.replyCount = c.replyCount + :delta where c.id = :id")
+    int addReplyCount(@Param("id") Long id, @Param("delta") int delta);
+
+    // 권한 검사/삭제용: PK로 작성자 ID + 일정 ID + 트리 위치만 조회 (삭제 이벤트에 일정 ID를 담기 위해)
+    @Query("select c.user.id as ownerId, c.schedule.id as scheduleId, c.parentId as parentId, " +
+            "c.path as path, c.replyCount as replyCount from Comment c where c.id = :id")
+    Optional<CommentOwnership> findOwnershipById(@Param("id") Long id);
+
+    // 여러 댓글의 작성자 ID 조회 (동기화 요청 하나에서 가리키는 댓글을 IN 조회 한 번으로 확인, 없는 댓글은 빠진다)
+    @Query("select c.id as id, c.user.id as ownerId from Comment c where c.id in :ids")
+    List<CommentOwner> findOwnersByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 변경 피드용: 여러 댓글 + 작성자를 쿼리 1번으로 조회
+    @Query("select c from Comment c join fetch c.user where c.id in :ids")
+    List<Comment> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 일정 삭제용: 일정의 댓글 전체를 엔티티 로딩 없이 DELETE 한 번 (schedule_id 인덱스 범위 삭제)
+    // 앞서 읽어 둔 댓글 엔티티가 영속성 컨텍스트에 남아 이후 조회/수정에 쓰이지 않도록 clear 한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Comment c where c.schedule.id = :scheduleId")
+    int deleteByScheduleIdInBulk(@Param("scheduleId") Long scheduleId);
+
+    // 댓글 + 하위 답글 전체를 DELETE 한 번으로 삭제 (삭제된 답글 엔티티가 남지 않도록 clear)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Comment c where c.id = :id or c.path like :prefix")
+    int deleteThreadInBulk(@Param("id") Long id, @Param("prefix") String prefix);
+
+    // 엔티티 조회 없이 PK 기준 DELETE 한 번
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Comment c where c.id = :id")
+    int deleteByIdInBulk(@Param("id") Long id);
 }
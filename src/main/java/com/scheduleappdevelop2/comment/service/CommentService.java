@@ -2,20 +2,43 @@ package com.scheduleappdevelop2.comment.service;
 
 import com.scheduleappdevelop2.comment.dto.CommentCreateRequest;
 import com.scheduleappdevelop2.comment.dto.CommentResponse;
+import com.scheduleappdevelop2.comment.dto.CommentThreadResponse;
 import com.scheduleappdevelop2.comment.entity.Comment;
+import com.scheduleappdevelop2.comment.event.CommentChangedEvent;
+import com.scheduleappdevelop2.comment.ingest.PendingComment;
+import com.scheduleappdevelop2.comment.repository.CommentOwnership;
+import com.scheduleappdevelop2.comment.repository.CommentListVersion;
 import com.scheduleappdevelop2.comment.repository.CommentRepository;
 import com.scheduleappdevelop2.global.exception.CustomException;
+import com.scheduleappdevelop2.global.pagination.Cursor;
+import com.scheduleappdevelop2.global.pagination.CursorPageResponse;
+import com.scheduleappdevelop2.global.pagination.PageSize;
+import com.scheduleappdevelop2.global.web.ETags;
 import com.scheduleappdevelop2.schedule.entity.Schedule;
 import com.scheduleappdevelop2.schedule.repository.ScheduleRepository;
 import com.scheduleappdevelop2.user.dto.sessionUser.SessionUser;
 import com.scheduleappdevelop2.user.entity.User;
 import com.scheduleappdevelop2.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static com.scheduleappdevelop2.global.exception.ErrorCode.COMMENT_NOT_FOUND;
+import static com.scheduleappdevelop2.global.exception.ErrorCode.PRECONDITION_FAILED;
 import static com.scheduleappdevelop2.global.exception.ErrorMessage.*;
 
 @Service
@@ -25,54 +48,225 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final ScheduleRepository scheduleRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional
+    // 댓글 목록 한 페이지의 최대 크기
+    @Value("${comment.page.max-size:100}")
+    private int maxPageSize;
+
+    // 답글 트리 한 번 조회의 최대 답글 수
+    @Value("${comment.thread.max-size:1000}")
+    private int maxThreadSize;
+
+    // 댓글 생성 / 수정 / 삭제: 검증/권한 실패(CustomException)는 쓰기 전에 던지므로 롤백 표시를 남기지 않는다
+    // (동기화처럼 바깥 트랜잭션에서 여러 작업을 이어서 호출할 때 실패한 작업만 건너뛰도록)
+    @Transactional(noRollbackFor = CustomException.class)
     public CommentResponse createComment(Long scheduleId, CommentCreateRequest request, SessionUser sessionUser) {
 
+        requireContent(request);
+
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new CustomException(NOT_FOUND_USER));
 
-        User user = userRepository.findById(sessionUser.getId())
-                .orElseThrow(() -> new CustomException(NOT_VALID_LOGIN));
+        // 작성자는 ID 참조(프록시)만 건다 (FK만 필요하므로 엔티티를 만들지 않는다)
+        // 세션이 남아 있는 동안 탈퇴한 유저면 FK 위반(500) 대신 DATA_NOT_FOUND (PK 존재 확인 1번)
+        if (!userRepository.existsById(sessionUser.getId())) {
+            throw new CustomException(DATA_NOT_FOUND);
+        }
+        User user = userRepository.getReferenceById(sessionUser.getId());
+
+        // 답글이면 같은 일정의 부모 댓글 아래에 단다 (부모 경로 + 부모 ID 가 새 댓글의 경로)
+        Comment comment;
+        if (request.getParentId() == null) {
+            comment = Comment.of(request.getContent(), schedule, user);
+        } else {
+            Comment parent = commentRepository.findById(request.getParentId())
+                    .orElseThrow(() -> new CustomException(COMMENT_NOT_FOUND));
+            if (!parent.getSchedule().getId().equals(scheduleId) || parent.getDepth() >= Comment.MAX_DEPTH) {
+                throw new CustomException(INVALID_INPUT);
+            }
+            comment = Comment.reply(request.getContent(), parent, user);
+            commentRepository.addReplyCount(parent.getId(), 1);
+        }
 
-        Comment comment = Comment.of(request.getContent(), schedule, user);
         Comment saved = commentRepository.save(comment);
+        eventPublisher.publishEvent(CommentChangedEvent.created(saved));
+
+        return CommentResponse.from(saved, sessionUser.getEmail());
+    }
+
+    // 비동기 접수된 댓글 배치 저장 (CommentIngestQueue 저장 스레드에서 호출)
+    // - 일정/작성자/부모 댓글을 배치 단위로 한 번씩 조회하고, INSERT 는 JDBC 배치로 묶인다
+    // - 일정/부모 댓글이 없거나 답글 조건이 맞지 않는 건은 건너뛰고 null, 나머지는 저장된 댓글 ID (입력 순서 그대로)
+    // - 부모의 답글 수는 부모별로 모아서 UPDATE 한 번씩 (중간 flush 로 INSERT 배치가 끊기지 않도록 마지막에)
+    @Transactional
+    public List<Long> createCommentBatch(List<PendingComment> batch) {
 
-        return CommentResponse.from(saved);
+        Map<Long, Schedule> schedules = scheduleRepository.findAllById(
+                        batch.stream().map(PendingComment::getScheduleId).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Schedule::getId, Function.identity()));
+        Map<Long, User> users = userRepository.findAllById(
+                        batch.stream().map(PendingComment::getUserId).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(User::getId, Function.identity()));
+        Set<Long> parentIds = batch.stream().map(PendingComment::getParentId)
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, Comment> parents = parentIds.isEmpty() ? new HashMap<>()
+                : commentRepository.findAllById(parentIds).stream()
+                .collect(Collectors.toMap(Comment::getId, Function.identity()));
+
+        List<Long> commentIds = new ArrayList<>(batch.size());
+        Map<Long, Integer> newReplies = new HashMap<>();
+        for (PendingComment pending : batch) {
+            Schedule schedule = schedules.get(pending.getScheduleId());
+            User user = users.get(pending.getUserId());
+            if (schedule == null || user == null) {
+                commentIds.add(null);
+                continue;
+            }
+
+            Comment comment;
+            if (pending.getParentId() == null) {
+                comment = Comment.of(pending.getContent(), schedule, user);
+            } else {
+                Comment parent = parents.get(pending.getParentId());
+                if (parent == null || !parent.getSchedule().getId().equals(schedule.getId())
+                        || parent.getDepth() >= Comment.MAX_DEPTH) {
+                    commentIds.add(null);
+                    continue;
+                }
+                comment = Comment.reply(pending.getContent(), parent, user);
+                newReplies.merge(parent.getId(), 1, Integer::sum);
+            }
+
+            commentRepository.save(comment);
+            eventPublisher.publishEvent(CommentChangedEvent.created(comment));
+            commentIds.add(comment.getId());
+        }
+
+        newReplies.forEach(commentRepository::addReplyCount);
+        return commentIds;
     }
 
+    // 답글 트리 조회: 댓글 1번 + 경로 접두사 범위 1번 + 답글/작성자 IN 조회 1번으로 하위 답글을 깊이 우선 순서로 반환 (첫 항목이 요청한 댓글)
+    // 한 번에 내려주는 답글 수는 comment.thread.max-size 로 제한한다. DB에서 깊이 우선 순서로 자르므로 잘려도 그 앞부분이고,
+    // 잘렸는지는 한 건 더 읽어 truncated 로 알려준다
     @Transactional(readOnly = true)
-    public List<CommentResponse> getComments(Long scheduleId) {
-        return commentRepository.findAllByScheduleId(scheduleId)
-                .stream()
+    public CommentThreadResponse getThread(Long scheduleId, Long commentId) {
+
+        Comment comment = commentRepository.findWithUserById(commentId)
+                .orElseThrow(() -> new CustomException(COMMENT_NOT_FOUND));
+        if (!comment.getSchedule().getId().equals(scheduleId)) {
+            throw new CustomException(COMMENT_NOT_FOUND);
+        }
+
+        List<Comment> thread = new ArrayList<>();
+        thread.add(comment);
+        boolean truncated = false;
+        if (comment.getReplyCount() > 0) {
+            List<Long> replyIds = commentRepository.findReplyIdsInThreadOrder(comment.threadPath() + "%", maxThreadSize + 1);
+            truncated = replyIds.size() > maxThreadSize;
+            if (truncated) {
+                replyIds = replyIds.subList(0, maxThreadSize);
+            }
+            if (!replyIds.isEmpty()) {
+                thread.addAll(commentRepository.findAllWithUserByIdIn(replyIds));
+            }
+        }
+
+        // IN 조회는 순서를 보장하지 않으므로 같은 기준(전체 경로)으로 다시 정렬한다
+        List<CommentResponse> comments = thread.stream()
+                .sorted(Comparator.comparing(Comment::threadPath))
                 .map(CommentResponse::from)
                 .toList();
+        return CommentThreadResponse.of(comments, truncated);
     }
 
-    @Transactional
-    public CommentResponse updateComment(Long commentId, CommentCreateRequest request, SessionUser sessionUser) {
+    // 댓글 목록 (커서 페이지네이션): 최신순으로 size 건씩, 다음 페이지 확인용으로 size + 1 건 조회
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentResponse> getComments(Long scheduleId, String cursor, Integer size) {
+
+        int pageSize = PageSize.clamp(size, maxPageSize);
+        Cursor after = Cursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Comment> rows = (after == null)
+                ? commentRepository.findFirstPageWithUserByScheduleId(scheduleId, limit)
+                : commentRepository.findPageAfterWithUserByScheduleId(scheduleId, after.getCreatedAt(), after.getId(), limit);
 
-        Comment comment = commentRepository.findById(commentId)
+        return CursorPageResponse.of(rows, pageSize, CommentResponse::from,
+                comment -> Cursor.of(comment.getCreatedAt(), comment.getId()));
+    }
+
+    // 댓글 목록 ETag: 일정 ID + 댓글 수 + 최근 수정 시간 (엔티티 로딩 없는 집계 쿼리)
+    @Transactional(readOnly = true)
+    public String commentsETag(Long scheduleId) {
+        CommentListVersion version = commentRepository.findListVersionByScheduleId(scheduleId);
+        return ETags.ofList(scheduleId, version.getCommentCount(), version.getLastModifiedAt());
+    }
+
+    // 댓글 수정: 댓글 + 작성자 fetch join 1번으로 조회 후, 작성자 ID와 세션 ID를 메모리에서 비교
+    // If-Match 버전이 다르면 412, 버전 조건 UPDATE 를 바로 flush 해 동시 수정 충돌도 412로 끝낸다
+    @Transactional(noRollbackFor = CustomException.class)
+    public CommentResponse updateComment(Long commentId, CommentCreateRequest request, String ifMatch, SessionUser sessionUser) {
+
+        requireContent(request);
+
+        Comment comment = commentRepository.findWithUserById(commentId)
                 .orElseThrow(() -> new CustomException(NOT_FOUND_USER));
 
         if (!comment.getUser().getId().equals(sessionUser.getId())) {
             throw new CustomException(NOT_VALID_OWNER);
         }
 
+        if (!ETags.matches(ifMatch, commentId, comment.getVersion())) {
+            throw new CustomException(PRECONDITION_FAILED);
+        }
+
         comment.update(request.getContent());
+        eventPublisher.publishEvent(CommentChangedEvent.updated(comment));
+        commentRepository.flush();
         return CommentResponse.from(comment);
     }
 
-    @Transactional
-    public void deleteComment(Long commentId, SessionUser sessionUser) {
+    // 댓글 삭제: 작성자 ID(+ 일정 ID, 트리 위치)만 조회해 권한 검사 후, 엔티티 로딩 없이 DELETE 1번
+    // 답글이 있으면 하위 답글 전체를 경로 접두사로 함께 지운다 (삭제 이벤트용 ID 조회 1번 + DELETE 1번)
+    // 삭제된 댓글 ID 목록을 반환한다 (요청한 댓글이 첫 항목, 이어서 하위 답글)
+    @Transactional(noRollbackFor = CustomException.class)
+    public List<Long> deleteComment(Long commentId, SessionUser sessionUser) {
 
-        Comment comment = commentRepository.findById(commentId)
+        CommentOwnership ownership = commentRepository.findOwnershipById(commentId)
                 .orElseThrow(() -> new CustomException(NOT_FOUND_USER));
 
-        if (!comment.getUser().getId().equals(sessionUser.getId())) {
+        if (!ownership.getOwnerId().equals(sessionUser.getId())) {
             throw new CustomException(NOT_VALID_OWNER);
         }
 
-        commentRepository.delete(comment);
+        List<Long> replyIds = List.of();
+        if (ownership.getReplyCount() > 0) {
+            String prefix = Comment.threadPath(ownership.getPath(), commentId) + "%";
+            replyIds = commentRepository.findIdsByPathPrefix(prefix);
+            commentRepository.deleteThreadInBulk(commentId, prefix);
+        } else {
+            commentRepository.deleteByIdInBulk(commentId);
+        }
+        if (ownership.getParentId() != null) {
+            commentRepository.addReplyCount(ownership.getParentId(), -1);
+        }
+
+        eventPublisher.publishEvent(CommentChangedEvent.deleted(commentId, ownership.getScheduleId()));
+        for (Long replyId : replyIds) {
+            eventPublisher.publishEvent(CommentChangedEvent.deleted(replyId, ownership.getScheduleId()));
+        }
+
+        List<Long> deletedIds = new ArrayList<>(replyIds.size() + 1);
+        deletedIds.add(commentId);
+        deletedIds.addAll(replyIds);
+        return deletedIds;
+    }
+
+    private void requireContent(CommentCreateRequest request) {
+        if (request.getContent() == null || request.getContent().isBlank()) {
+            throw new CustomException(INVALID_INPUT);
+        }
     }
 }
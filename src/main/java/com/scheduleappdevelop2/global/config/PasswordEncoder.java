@@ -1,12 +1,38 @@
 package com.scheduleappdevelop2.global.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
+/**
+ * PasswordEncoder
+ * - BCrypt 로 비밀번호 해시를 만들고 검증한다.
+ * - cost(작업 계수)는 시작 시 이 서버에서 직접 재어, 검증 한 번이 target-latency 를 넘지 않는 가장 큰 값으로 정한다.
+ *   (cost 가 1 오를 때마다 시간이 2배) security.password-hash.cost 로 고정할 수도 있다.
+ * - cost 는 해시 문자열("$2a$12$...")에 함께 저장되므로, 예전 cost 로 만든 해시도 그대로 검증된다.
+ *   needsRehash() 가 true 인 해시는 로그인 성공 시 현재 cost 로 다시 만든다.
+ */
+@Slf4j
 @Component
 public class PasswordEncoder {
+
+    private static final BCrypt.Version VERSION = BCrypt.Version.VERSION_2A;
+    private static final String VERSION_PREFIX = "$2a$";
+
+    private final int cost;
+
+    public PasswordEncoder(@Value("${security.password-hash.cost:0}") int fixedCost,
+                           @Value("${security.password-hash.target-latency:PT0.25S}") Duration targetLatency,
+                           @Value("${security.password-hash.min-cost:10}") int minCost,
+                           @Value("${security.password-hash.max-cost:16}") int maxCost) {
+        this.cost = fixedCost > 0 ? fixedCost : calibrate(targetLatency, minCost, maxCost);
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return BCrypt.with(VERSION).hashToString(cost, rawPassword.toCharArray());
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
@@ -14,4 +40,61 @@ public class PasswordEncoder {
                 (), encodedPassword);
         return result.verified;
     }
-}
\ No newline at end of file
+
+    /**
+     * 다시 해시해야 하는지 확인
+     * - 현재 버전($2a$)이 아니거나 cost 가 현재 값보다 낮으면 true. (해시 문자열만 읽으므로 BCrypt 연산 없음)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return !encodedPassword.startsWith(VERSION_PREFIX) || costOf(encodedPassword) < cost;
+    }
+
+    /** "$2a$12$..." → 12 (형식이 맞지 않으면 0) */
+    static int costOf(String encodedPassword) {
+        if (encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * cost 보정
+     * - minCost 부터 검증 시간을 재고, 다음 단계(2배)도 목표 안에 들어오는 동안 cost 를 올린다.
+     * - 이 서버에서는 minCost 조차 목표를 넘어도 보안 하한인 minCost 는 유지한다.
+     */
+    private static int calibrate(Duration targetLatency, int minCost, int maxCost) {
+        char[] sample = "password-hash-calibration".toCharArray();
+        long target = targetLatency.toNanos();
+
+        int cost = minCost;
+        long elapsed = measure(sample, cost);
+        while (cost < maxCost && elapsed * 2 <= target) {
+            cost++;
+            elapsed = measure(sample, cost);
+        }
+
+        if (elapsed > target) {
+            log.warn("BCrypt cost {} 검증이 목표 시간보다 깁니다: {}ms > {}ms", cost, elapsed / 1_000_000, target / 1_000_000);
+        }
+        log.info("BCrypt cost = {} (검증 {}ms, 목표 {}ms)", cost, elapsed / 1_000_000, target / 1_000_000);
+        return cost;
+    }
+
+    /** 해당 cost 의 검증 시간 (JIT/스케줄링 영향을 줄이기 위해 3번 중 최솟값) */
+    private static long measure(char[] sample, int cost) {
+        String hash = BCrypt.with(VERSION).hashToString(cost, sample);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            BCrypt.verifyer().verify(sample, hash);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    public int getCost() { return cost; }
+}
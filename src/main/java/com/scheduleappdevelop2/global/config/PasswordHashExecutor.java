@@ -0,0 +1,125 @@
+package com.scheduleappdevelop2.global.config;
+
+import com.scheduleappdevelop2.global.exception.ServiceBusyException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * PasswordHashExecutor
+ * - BCrypt 해시 생성/검증(PasswordEncoder)을 요청 스레드가 아닌 전용 스레드 풀에서 실행한다.
+ * - 스레드 수와 대기 큐 크기가 고정되어 있어, 로그인이 몰려도 BCrypt가 쓰는 CPU/스레드는 이 풀 안으로 제한된다.
+ * - 풀과 큐가 모두 차면 기다리지 않고 바로 503 + Retry-After 로 거절한다. (다른 API의 요청 스레드를 지키기 위해)
+ * - 결과는 CompletableFuture 로 돌려주므로, 컨트롤러가 그대로 반환하면 요청 스레드는 해시가 끝날 때까지 잡혀 있지 않는다.
+ */
+@Component
+public class PasswordHashExecutor implements MeterBinder {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    /** bindTo 이후에만 기록한다 */
+    private volatile Timer waitTime;
+    private volatile Timer hashTime;
+
+    public PasswordHashExecutor(PasswordEncoder passwordEncoder,
+                                @Value("${security.password-hash.threads:0}") int threads,
+                                @Value("${security.password-hash.queue-capacity:64}") int queueCapacity,
+                                @Value("${security.password-hash.retry-after:PT1S}") Duration retryAfter) {
+        this.passwordEncoder = passwordEncoder;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+
+        // 0 이면 CPU 코어 수 (BCrypt는 CPU 작업이므로 코어 수보다 많이 둘 이유가 없다)
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /** 비밀번호 해시 생성 */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /** 비밀번호 검증 */
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 전용 풀에 작업 제출
+     * - 큐까지 가득 차 있으면 RejectedExecutionException → ServiceBusyException(503, Retry-After)
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    record(startedAt - submittedAt, System.nanoTime() - startedAt);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new ServiceBusyException(retryAfterSeconds);
+        }
+    }
+
+    private void record(long waitNanos, long hashNanos) {
+        Timer waitTime = this.waitTime;
+        Timer hashTime = this.hashTime;
+        if (waitTime != null && hashTime != null) {
+            waitTime.record(waitNanos, TimeUnit.NANOSECONDS);
+            hashTime.record(hashNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("password.hash.queue.size", executor, pool -> pool.getQueue().size()).register(registry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+        Gauge.builder("password.hash.cost", passwordEncoder, PasswordEncoder::getCost)
+                .description("새 해시에 쓰는 BCrypt cost (시작 시 보정)")
+                .register(registry);
+        FunctionCounter.builder("password.hash.rejected", rejected, AtomicLong::get).register(registry);
+        this.waitTime = Timer.builder("password.hash.wait")
+                .description("큐에서 기다린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        this.hashTime = Timer.builder("password.hash.latency")
+                .description("BCrypt 해시/검증 실행 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+}
@@ -13,8 +13,18 @@ public enum ErrorCode {
     NOT_AUTHENTICATED(HttpStatus.UNAUTHORIZED, 401, "로그인이 필요합니다."),
     // 404
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, 404, "유저를 찾을 수 없습니다."),
+    SCHEDULE_NOT_FOUND(HttpStatus.NOT_FOUND, 404, "일정을 찾을 수 없습니다."),
+    COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, 404, "댓글을 찾을 수 없습니다."),
+    // 410
+    RESYNC_REQUIRED(HttpStatus.GONE, 410, "변경 기록 보관 기간이 지났습니다. 전체 목록을 다시 조회한 뒤 동기화를 시작해 주세요."),
+    // 412
+    PRECONDITION_FAILED(HttpStatus.PRECONDITION_FAILED, 412, "다른 요청에 의해 이미 변경되었습니다. 다시 조회한 후 수정해 주세요."),
+    // 428
+    PRECONDITION_REQUIRED(HttpStatus.PRECONDITION_REQUIRED, 428, "수정 요청에는 If-Match 헤더가 필요합니다."),
     // 500
-    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 500, "알 수 없는 서버 에러가 발생했습니다.");
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 500, "알 수 없는 서버 에러가 발생했습니다."),
+    // 503
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, 503, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
 
 
     private final HttpStatus status;
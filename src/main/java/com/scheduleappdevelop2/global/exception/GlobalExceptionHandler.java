@@ -2,6 +2,8 @@ package com.scheduleappdevelop2.global.exception;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -21,4 +23,45 @@ public class GlobalExceptionHandler {
             .status(errorCode.getStatus())
             .body(ErrorResponse.of(errorCode));
     }
+
+    @ExceptionHandler(CustomException.class)
+    public ResponseEntity<ErrorResponse> handleCustomException(CustomException e){
+    ErrorCode errorCode = e.getErrorCode();
+
+    log.warn("CustomException 발생: code = {}, message = {}",errorCode.getCode(),errorCode.getMessage());
+
+    return ResponseEntity
+            .status(errorCode.getStatus())
+            .body(ErrorResponse.of(errorCode));
+    }
+
+    /**
+     * 처리 용량 초과 (503 + Retry-After)
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponse> handleServiceBusy(ServiceBusyException e){
+    ErrorCode errorCode = e.getErrorCode();
+
+    log.warn("ServiceBusyException 발생: retryAfter = {}s", e.getRetryAfterSeconds());
+
+    return ResponseEntity
+            .status(errorCode.getStatus())
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(ErrorResponse.of(errorCode));
+    }
+
+    /**
+     * 낙관적 락 충돌
+     * - If-Match 검사 이후 다른 요청이 먼저 커밋해 버전 조건 UPDATE 가 0건이 된 경우. (412)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLock(OptimisticLockingFailureException e){
+    ErrorCode errorCode = ErrorCode.PRECONDITION_FAILED;
+
+    log.warn("OptimisticLockingFailureException 발생: {}", e.getMessage());
+
+    return ResponseEntity
+            .status(errorCode.getStatus())
+            .body(ErrorResponse.of(errorCode));
+    }
 }
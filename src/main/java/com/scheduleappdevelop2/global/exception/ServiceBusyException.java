@@ -0,0 +1,18 @@
+package com.scheduleappdevelop2.global.exception;
+
+import lombok.Getter;
+
+/**
+ * 처리 용량이 가득 차 요청을 바로 거절할 때 사용하는 예외 (503)
+ * - 클라이언트가 언제 다시 시도하면 되는지 Retry-After 헤더(초)로 알려준다.
+ */
+@Getter
+public class ServiceBusyException extends CustomException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(long retryAfterSeconds) {
+        super(ErrorCode.SERVICE_BUSY);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
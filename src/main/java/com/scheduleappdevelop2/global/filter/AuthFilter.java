@@ -21,7 +21,9 @@ public class AuthFilter implements Filter {
         // ===== 예외 처리 경로 =====
         boolean isLogin = uri.equals("/users/login") && method.equals("POST");
         boolean isSignup = uri.equals("/users") && method.equals("POST");
-        boolean isScheduleRead = uri.startsWith("/schedules") && method.equals("GET");
+        // 내보내기는 DB 커넥션을 오래 잡는 스트리밍이고 본인 일정만 내보내므로 로그인 필요
+        boolean isScheduleRead = uri.startsWith("/schedules") && method.equals("GET")
+                && !uri.equals("/schedules/export");
 
         if (isLogin || isSignup || isScheduleRead) {
             chain.doFilter(request, response);
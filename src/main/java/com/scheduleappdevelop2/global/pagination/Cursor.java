@@ -0,0 +1,71 @@
+package com.scheduleappdevelop2.global.pagination;
+
+import com.scheduleappdevelop2.global.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static com.scheduleappdevelop2.global.exception.ErrorCode.INVALID_INPUT_VALUE;
+
+/**
+ * Cursor
+ * - 키셋(커서) 페이지네이션에서 "마지막으로 읽은 행"의 위치를 나타내는 값 객체.
+ * - 정렬 키인 (createdAt, id) 쌍을 담고, 클라이언트에게는 Base64 문자열로만 노출한다.
+ * - 클라이언트는 문자열 내부 구조를 몰라도 되며 그대로 다음 요청에 돌려주기만 하면 된다.
+ */
+public class Cursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt; // 마지막 행의 생성 시간
+    private final Long id;                 // 마지막 행의 PK (같은 createdAt 사이의 순서 보장용)
+
+    private Cursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static Cursor of(LocalDateTime createdAt, Long id) {
+        return new Cursor(createdAt, id);
+    }
+
+    /**
+     * 커서 → 불투명 문자열 변환
+     * - URL 파라미터로 그대로 쓸 수 있도록 URL-safe Base64를 사용한다.
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 불투명 문자열 → 커서 변환
+     * - null 또는 빈 값이면 첫 페이지 요청으로 보고 null을 반환한다.
+     * - 형식이 깨진 커서는 잘못된 요청으로 처리한다.
+     */
+    public static Cursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new CustomException(INVALID_INPUT_VALUE);
+            }
+            return new Cursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(INVALID_INPUT_VALUE);
+        }
+    }
+
+    //getter
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public Long getId() { return id; }
+}
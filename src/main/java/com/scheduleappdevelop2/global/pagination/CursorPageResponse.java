@@ -0,0 +1,44 @@
+package com.scheduleappdevelop2.global.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * CursorPageResponse
+ * - 커서 기반 목록 조회의 공통 응답 DTO.
+ * - 현재 페이지 항목(items)과 다음 페이지를 요청할 때 쓰는 nextCursor를 함께 내려준다.
+ * - 더 이상 읽을 데이터가 없으면 nextCursor는 null, hasNext는 false 이다.
+ */
+public class CursorPageResponse<T> {
+
+    private final List<T> items;      // 현재 페이지 항목
+    private final String nextCursor;  // 다음 페이지 커서 (없으면 null)
+    private final boolean hasNext;    // 다음 페이지 존재 여부
+
+    private CursorPageResponse(List<T> items, String nextCursor, boolean hasNext) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * 조회 결과 → 페이지 응답 변환
+     * - 리포지토리는 size + 1 건을 조회하고, 초과분이 있으면 다음 페이지가 있다고 판단한다.
+     * - 마지막 항목의 정렬 키로 다음 커서를 만든다.
+     */
+    public static <E, T> CursorPageResponse<T> of(List<E> rows, int size,
+                                                 Function<E, T> mapper,
+                                                 Function<E, Cursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+
+        return new CursorPageResponse<>(page.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+
+    //getter
+    public List<T> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean isHasNext() { return hasNext; }
+}
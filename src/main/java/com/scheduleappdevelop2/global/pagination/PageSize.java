@@ -0,0 +1,27 @@
+package com.scheduleappdevelop2.global.pagination;
+
+/**
+ * PageSize
+ * - 목록 조회 시 클라이언트가 요청한 페이지 크기를 안전한 범위로 보정한다.
+ * - 너무 큰 값으로 한 번에 대량 조회하는 것을 막기 위해 상한을 둔다.
+ */
+public final class PageSize {
+
+    public static final int DEFAULT = 20;
+    public static final int MAX = 100;
+
+    private PageSize() {
+    }
+
+    /** 1 ~ max 범위로 보정 */
+    public static int clamp(Integer requested, int max) {
+        if (requested == null || requested < 1) {
+            return Math.min(DEFAULT, max);
+        }
+        return Math.min(requested, max);
+    }
+
+    public static int clamp(Integer requested) {
+        return clamp(requested, MAX);
+    }
+}
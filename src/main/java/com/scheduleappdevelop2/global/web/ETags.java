@@ -0,0 +1,80 @@
+package com.scheduleappdevelop2.global.web;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * ETags
+ * - 조건부 GET(If-None-Match)과 조건부 수정(If-Match)에 사용할 강한(strong) ETag 값을 만드는 유틸리티.
+ * - 엔티티 ID와 버전처럼 "내용이 바뀌면 반드시 바뀌는 값"을 조합해 만든다.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * 식별자 + 엔티티 버전(@Version)으로 ETag 생성
+     * - 예: "12-v3"
+     * - 수정 요청의 If-Match 값으로 그대로 사용할 수 있다.
+     */
+    public static String of(Object id, long version) {
+        return quote(id + "-v" + version);
+    }
+
+    /**
+     * 하위 목록 정보까지 포함한 ETag 생성
+     * - 응답에 하위 항목 집계(예: 댓글 수)가 포함될 때, 하위 항목이 바뀌어도 ETag가 바뀌도록 한다.
+     * - 예: "12-v3-5-18c2f0a1b3d4e5f6"
+     */
+    public static String of(Object id, long version, long childCount, LocalDateTime childModifiedAt) {
+        return quote(id + "-v" + version + "-" + childCount + "-" + toHex(childModifiedAt));
+    }
+
+    /**
+     * 목록용 ETag 생성
+     * - 목록의 소유 ID, 항목 수, 가장 최근 수정 시간을 조합한다.
+     */
+    public static String ofList(Object ownerId, long count, LocalDateTime lastModifiedAt) {
+        return quote(ownerId + "-" + count + "-" + toHex(lastModifiedAt));
+    }
+
+    /**
+     * If-Match 검사
+     * - 콤마로 구분된 ETag 중 하나라도 현재 엔티티 버전과 같으면 true, "*" 는 항상 true.
+     * - 하위 집계가 붙은 ETag("12-v3-5-...")도 엔티티 버전이 같으면 일치로 본다. (수정 대상은 엔티티 자체)
+     * - 약한 ETag(W/...)는 강한 비교 규칙에 따라 일치하지 않는다.
+     */
+    public static boolean matches(String ifMatch, Object id, long version) {
+        if (ifMatch == null) {
+            return false;
+        }
+        String current = id + "-v" + version;
+        for (String tag : ifMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.length() < 2 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+                continue;
+            }
+            String value = tag.substring(1, tag.length() - 1);
+            if (value.equals(current) || value.startsWith(current + "-")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String toHex(LocalDateTime time) {
+        if (time == null) {
+            return "0";
+        }
+        long nanos = time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+        return Long.toHexString(nanos);
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
@@ -0,0 +1,211 @@
+package com.scheduleappdevelop2.schedule.cache;
+
+import com.scheduleappdevelop2.schedule.dto.checkSchedule.ScheduleResponse;
+import com.scheduleappdevelop2.schedule.event.ScheduleChangedEvent;
+import com.scheduleappdevelop2.user.event.UserEmailChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ScheduleViewCache
+ * - 단일 일정 조회 결과(ScheduleResponse)를 일정 ID 기준으로 보관하는 프로세스 내 캐시.
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터(LRU), TTL이 지나면 조회 시점에 제거한다.
+ * - 권한 검사를 캐시 적중 시에도 할 수 있도록 작성자 ID를, 조건부 GET의 ETag용으로 엔티티 버전을 함께 보관한다.
+ * - 일정이 수정/삭제되면 트랜잭션 커밋 이후에 해당 항목을 무효화한다.
+ * - 응답에 작성자 이메일이 들어가므로, 유저의 이메일이 바뀌면 그 유저가 작성한 항목을 모두 무효화한다.
+ * - 적중/미스/제거 횟수는 Micrometer 메트릭(schedule.cache.*)으로 노출한다.
+ */
+@Component
+public class ScheduleViewCache implements MeterBinder {
+
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /** 접근 순서(access-order) LinkedHashMap → LRU. 모든 접근은 this로 동기화한다. */
+    private final Map<Long, Entry> entries;
+
+    /**
+     * 무효화가 일어날 때마다 증가하는 세대 번호.
+     * - 어떤 무효화가 "조회를 시작한 뒤"에 일어났는지 판단하는 시계로만 쓴다.
+     */
+    private long generation;
+
+    /**
+     * 일정 ID / 작성자 ID 별 마지막 무효화 세대.
+     * - 조회 전 세대보다 뒤에 그 일정(또는 작성자)이 무효화되었을 때만 저장을 막는다.
+     *   (다른 일정의 무효화 때문에 저장을 건너뛰지 않는다)
+     * - 크기를 넘으면 오래된 기록부터 버리고, 버린 세대 중 가장 큰 값을 floor 로 남긴다.
+     *   기록이 없는 키는 floor 로 보므로, 기록을 버린 뒤에도 오래된 값이 저장되지는 않는다. (대신 가끔 저장을 건너뛴다)
+     */
+    private final Map<Long, Long> scheduleStamps;
+    private final Map<Long, Long> ownerStamps;
+    private long stampFloor;
+
+    public ScheduleViewCache(@Value("${schedule.cache.max-size:10000}") int maxSize,
+                             @Value("${schedule.cache.ttl:PT5M}") Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                boolean evict = size() > ScheduleViewCache.this.maxSize;
+                if (evict) evictions.incrementAndGet();
+                return evict;
+            }
+        };
+        this.scheduleStamps = stampMap();
+        this.ownerStamps = stampMap();
+    }
+
+    /**
+     * 캐시 조회
+     * - 없거나 TTL이 지난 항목이면 null을 반환한다(미스).
+     */
+    public synchronized CachedSchedule get(Long scheduleId) {
+        Entry entry = entries.get(scheduleId);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (System.nanoTime() - entry.storedAt > ttlNanos) {
+            entries.remove(scheduleId);
+            evictions.incrementAndGet();
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.value;
+    }
+
+    /** DB 조회 전에 현재 세대 번호를 받아둔다. */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * 캐시 저장
+     * - 조회를 시작한 이후 이 일정과 그 작성자가 한 번도 무효화되지 않았을 때만 저장한다.
+     */
+    public synchronized void putIfUnchanged(Long scheduleId, CachedSchedule value, long generationAtLoad) {
+        if (stampOf(scheduleStamps, scheduleId) <= generationAtLoad
+                && stampOf(ownerStamps, value.getOwnerId()) <= generationAtLoad) {
+            entries.put(scheduleId, new Entry(value, System.nanoTime()));
+        }
+    }
+
+    public synchronized void invalidate(Long scheduleId) {
+        entries.remove(scheduleId);
+        stamp(scheduleStamps, scheduleId);
+    }
+
+    /** 작성자가 같은 항목을 모두 무효화한다. (전체를 훑으므로 이메일 변경처럼 드문 경우에만 쓴다) */
+    public synchronized void invalidateOwner(Long ownerId) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (ownerId.equals(iterator.next().value.getOwnerId())) {
+                iterator.remove();
+            }
+        }
+        stamp(ownerStamps, ownerId);
+    }
+
+    /**
+     * 일정 변경 이벤트 수신
+     * - 커밋이 끝난 뒤에 무효화해야 다른 요청이 커밋 전 값을 다시 캐시에 넣지 않는다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (event.getType() != ScheduleChangedEvent.Type.CREATED) {
+            invalidate(event.getScheduleId());
+        }
+    }
+
+    /** 유저 이메일 변경 이벤트 수신 (커밋 이후, 캐시된 응답의 작성자 이메일이 바뀌었으므로 무효화) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserEmailChanged(UserEmailChangedEvent event) {
+        invalidateOwner(event.getUserId());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("schedule.cache.hits", hits, AtomicLong::get).register(registry);
+        FunctionCounter.builder("schedule.cache.misses", misses, AtomicLong::get).register(registry);
+        FunctionCounter.builder("schedule.cache.evictions", evictions, AtomicLong::get).register(registry);
+        Gauge.builder("schedule.cache.size", this, cache -> cache.size()).register(registry);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void stamp(Map<Long, Long> stamps, Long key) {
+        // 다시 넣어서 가장 최근 기록으로 옮긴다 (삽입 순서 기준으로 오래된 것부터 버린다)
+        stamps.remove(key);
+        stamps.put(key, ++generation);
+    }
+
+    private long stampOf(Map<Long, Long> stamps, Long key) {
+        Long stamp = stamps.get(key);
+        return stamp != null ? stamp : stampFloor;
+    }
+
+    private Map<Long, Long> stampMap() {
+        return new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                boolean evict = size() > ScheduleViewCache.this.maxSize;
+                if (evict) stampFloor = Math.max(stampFloor, eldest.getValue());
+                return evict;
+            }
+        };
+    }
+
+    /**
+     * 캐시에 보관되는 값
+     * - 응답 DTO와 권한 검사용 작성자 ID, ETag용 엔티티 버전.
+     * - 버전이 바뀌는 변경은 모두 커밋 후 무효화되므로, 캐시에 있는 동안 버전은 DB와 같다.
+     */
+    public static class CachedSchedule {
+
+        private final Long ownerId;
+        private final Long version;
+        private final ScheduleResponse response;
+
+        public CachedSchedule(Long ownerId, Long version, ScheduleResponse response) {
+            this.ownerId = ownerId;
+            this.version = version;
+            this.response = response;
+        }
+
+        public Long getOwnerId() { return ownerId; }
+        public Long getVersion() { return version; }
+        public ScheduleResponse getResponse() { return response; }
+    }
+
+    private static class Entry {
+
+        private final CachedSchedule value;
+        private final long storedAt;
+
+        private Entry(CachedSchedule value, long storedAt) {
+            this.value = value;
+            this.storedAt = storedAt;
+        }
+    }
+}
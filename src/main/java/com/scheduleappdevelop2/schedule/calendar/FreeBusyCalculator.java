@@ -0,0 +1,81 @@
+package com.scheduleappdevelop2.schedule.calendar;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * FreeBusyCalculator
+ * - 시간 구간 목록을 스윕 라인(sweep line)으로 합쳐 바쁜 구간(busy)과 빈 구간(free)을 계산한다.
+ * - 구간의 시작/끝을 +1/-1 이벤트로 바꿔 시간 순으로 훑으면서, 겹친 구간 수가 0 → 1 이 되는 곳에서
+ *   바쁜 구간이 열리고 1 → 0 이 되는 곳에서 닫힌다. 정렬 O(n log n) + 스윕 O(n).
+ * - 같은 시각에는 시작 이벤트를 먼저 처리해 맞닿은 구간([a, b), [b, c))은 하나로 합쳐진다.
+ */
+public final class FreeBusyCalculator {
+
+    private static final Comparator<long[]> EVENT_ORDER =
+            Comparator.<long[]>comparingLong(event -> event[0]).thenComparingLong(event -> -event[1]);
+
+    private FreeBusyCalculator() {
+    }
+
+    /**
+     * 바쁜 구간 합치기
+     * - 조회 기간 [from, to) 밖의 부분은 잘라낸다.
+     * - 결과는 서로 겹치지 않고 시작 시간 순으로 정렬되어 있다.
+     */
+    public static List<TimeBlock> mergeBusy(List<TimeBlock> blocks, LocalDateTime from, LocalDateTime to) {
+
+        // 이벤트: [시각(기간 시작으로부터의 나노초), +1(시작) / -1(끝)]
+        List<long[]> events = new ArrayList<>(blocks.size() * 2);
+        for (TimeBlock block : blocks) {
+            LocalDateTime start = block.getStartAt().isBefore(from) ? from : block.getStartAt();
+            LocalDateTime end = block.getEndAt().isAfter(to) ? to : block.getEndAt();
+            if (!end.isAfter(start)) continue;
+            events.add(new long[]{offset(from, start), 1});
+            events.add(new long[]{offset(from, end), -1});
+        }
+        events.sort(EVENT_ORDER);
+
+        List<TimeBlock> busy = new ArrayList<>();
+        int active = 0;
+        long openedAt = 0;
+        for (long[] event : events) {
+            if (event[1] > 0) {
+                if (active++ == 0) openedAt = event[0];
+            } else if (--active == 0) {
+                busy.add(TimeBlock.of(from.plusNanos(openedAt), from.plusNanos(event[0])));
+            }
+        }
+        return busy;
+    }
+
+    /**
+     * 빈 구간 계산
+     * - 합쳐진 바쁜 구간(mergeBusy 결과)의 여집합 중 minLength 이상인 구간만 반환한다.
+     */
+    public static List<TimeBlock> freeSlots(List<TimeBlock> mergedBusy, LocalDateTime from, LocalDateTime to,
+                                            Duration minLength) {
+        List<TimeBlock> free = new ArrayList<>();
+        LocalDateTime cursor = from;
+        for (TimeBlock block : mergedBusy) {
+            addIfLongEnough(free, cursor, block.getStartAt(), minLength);
+            cursor = block.getEndAt();
+        }
+        addIfLongEnough(free, cursor, to, minLength);
+        return free;
+    }
+
+    private static void addIfLongEnough(List<TimeBlock> free, LocalDateTime start, LocalDateTime end, Duration minLength) {
+        if (end.isAfter(start) && Duration.between(start, end).compareTo(minLength) >= 0) {
+            free.add(TimeBlock.of(start, end));
+        }
+    }
+
+    /** 기간 시작으로부터의 나노초 오프셋 (기간은 최대 수개월이므로 long 범위 안이다) */
+    private static long offset(LocalDateTime from, LocalDateTime at) {
+        return Duration.between(from, at).toNanos();
+    }
+}
@@ -0,0 +1,91 @@
+package com.scheduleappdevelop2.schedule.calendar;
+
+import com.scheduleappdevelop2.schedule.dto.calendarSchedule.CalendarScheduleResponse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * IntervalTree
+ * - 한 유저의 일정들을 [startAt, endAt) 구간으로 보관하고, 특정 기간과 겹치는 일정을 찾는 불변 자료구조.
+ * - 시작 시간 순으로 정렬된 배열을 그대로 균형 이진 트리로 사용한다. (구간 [lo, hi)의 루트 = 가운데 원소)
+ * - 노드마다 서브트리의 최대 종료 시간(maxEnd)을 저장해, 겹칠 수 없는 서브트리는 통째로 건너뛴다.
+ * - 조회는 O(log n + k) 이며 결과는 시작 시간 순이다.
+ * - 생성 후 변경되지 않으므로 여러 스레드가 동시에 조회해도 안전하다.
+ */
+public final class IntervalTree {
+
+    private static final Comparator<CalendarScheduleResponse> BY_START =
+            Comparator.comparing(CalendarScheduleResponse::getStartAt)
+                    .thenComparing(CalendarScheduleResponse::getId);
+
+    private final CalendarScheduleResponse[] items;
+    private final LocalDateTime[] maxEnd;
+
+    private IntervalTree(CalendarScheduleResponse[] items) {
+        this.items = items;
+        this.maxEnd = new LocalDateTime[items.length];
+        build(0, items.length);
+    }
+
+    /**
+     * 트리 생성
+     * - 시작/종료 시간이 없는 일정은 제외한다.
+     */
+    public static IntervalTree of(List<CalendarScheduleResponse> schedules) {
+        CalendarScheduleResponse[] items = schedules.stream()
+                .filter(schedule -> schedule.getStartAt() != null && schedule.getEndAt() != null)
+                .sorted(BY_START)
+                .toArray(CalendarScheduleResponse[]::new);
+        return new IntervalTree(items);
+    }
+
+    /**
+     * 기간 겹침 조회
+     * - [from, to) 와 겹치는(startAt < to 이고 endAt > from) 일정을 시작 시간 순으로 반환한다.
+     */
+    public List<CalendarScheduleResponse> query(LocalDateTime from, LocalDateTime to) {
+        List<CalendarScheduleResponse> result = new ArrayList<>();
+        collect(0, items.length, from, to, result);
+        return result;
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    /** 서브트리 [lo, hi)의 maxEnd를 채우고 그 값을 반환한다. */
+    private LocalDateTime build(int lo, int hi) {
+        if (lo >= hi) return null;
+        int mid = (lo + hi) >>> 1;
+        LocalDateTime max = items[mid].getEndAt();
+        LocalDateTime left = build(lo, mid);
+        LocalDateTime right = build(mid + 1, hi);
+        if (left != null && left.isAfter(max)) max = left;
+        if (right != null && right.isAfter(max)) max = right;
+        maxEnd[mid] = max;
+        return max;
+    }
+
+    /** 중위 순회로 겹치는 일정을 모은다. (결과가 시작 시간 순이 된다) */
+    private void collect(int lo, int hi, LocalDateTime from, LocalDateTime to, List<CalendarScheduleResponse> result) {
+        if (lo >= hi) return;
+        int mid = (lo + hi) >>> 1;
+
+        // 서브트리 전체가 from 이전에 끝나면 볼 필요 없음
+        if (!maxEnd[mid].isAfter(from)) return;
+
+        collect(lo, mid, from, to, result);
+
+        // 가운데 원소가 to 이후에 시작하면 오른쪽 서브트리도 전부 to 이후에 시작한다
+        CalendarScheduleResponse item = items[mid];
+        if (!item.getStartAt().isBefore(to)) return;
+
+        if (item.getEndAt().isAfter(from)) {
+            result.add(item);
+        }
+        collect(mid + 1, hi, from, to, result);
+    }
+}
@@ -0,0 +1,127 @@
+package com.scheduleappdevelop2.schedule.calendar;
+
+import com.scheduleappdevelop2.schedule.dto.calendarSchedule.CalendarScheduleResponse;
+import com.scheduleappdevelop2.schedule.entity.RecurrenceRule;
+import com.scheduleappdevelop2.schedule.entity.ScheduleOccurrenceOverride;
+import com.scheduleappdevelop2.schedule.repository.ScheduleSeries;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * RecurringSeries
+ * - 반복 일정 하나(규칙 + 발생별 변경 기록)를 메모리에 담은 불변 객체.
+ * - occurrences(from, to)는 기간과 겹치는 발생만 지연 스트림으로 만든다.
+ *   1) 규칙상 기간과 겹치는 발생: 변경 기록이 있으면 취소/이동/제목 변경을 반영한다.
+ *   2) 원래 시간은 기간 밖이지만 기간 안으로 옮겨진 발생: 변경 기록에서 따로 찾는다.
+ */
+public final class RecurringSeries {
+
+    private final Long id;
+    private final String title;
+    private final LocalDateTime seriesStart;
+    private final Duration length;
+    private final RecurrenceRule rule;
+    private final Map<LocalDateTime, Change> overrides; // 원래 시작 시간 → 변경 내용
+
+    private RecurringSeries(Long id, String title, LocalDateTime seriesStart, Duration length,
+                            RecurrenceRule rule, Map<LocalDateTime, Change> overrides) {
+        this.id = id;
+        this.title = title;
+        this.seriesStart = seriesStart;
+        this.length = length;
+        this.rule = rule;
+        this.overrides = overrides;
+    }
+
+    /**
+     * 프로젝션 + 해당 시리즈의 변경 기록으로 생성한다.
+     */
+    public static RecurringSeries of(ScheduleSeries series, List<ScheduleOccurrenceOverride> overrides) {
+        RecurrenceRule rule = RecurrenceRule.of(series.getFrequency(), series.getRecurrenceInterval(),
+                series.getRecurrenceCount(), series.getRecurrenceUntil());
+        Map<LocalDateTime, Change> byOriginalStart = overrides.stream()
+                .map(Change::new)
+                .collect(Collectors.toUnmodifiableMap(Change::originalStartAt, Function.identity()));
+        return new RecurringSeries(series.getId(), series.getTitle(), series.getStartAt(),
+                Duration.between(series.getStartAt(), series.getEndAt()), rule, byOriginalStart);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    /** 메모리 사용량 추정용 (변경 기록 수 + 규칙 1) */
+    public int weight() {
+        return overrides.size() + 1;
+    }
+
+    /**
+     * 기간 [from, to) 와 겹치는 발생 (지연 스트림)
+     */
+    public Stream<CalendarScheduleResponse> occurrences(LocalDateTime from, LocalDateTime to) {
+
+        // 1) 규칙상 기간과 겹치는 발생
+        Stream<CalendarScheduleResponse> regular = rule.startsOverlapping(seriesStart, length, from, to)
+                .map(original -> occurrence(original, overrides.get(original)))
+                .filter(occurrence -> occurrence != null && overlaps(occurrence, from, to));
+
+        // 2) 다른 시간에서 기간 안으로 옮겨진 발생
+        Stream<CalendarScheduleResponse> movedIn = overrides.values().stream()
+                .filter(override -> !override.cancelled() && override.startAt() != null)
+                .filter(override -> !override.originalStartAt().isBefore(to)
+                        || !override.originalStartAt().plus(length).isAfter(from))
+                .map(override -> occurrence(override.originalStartAt(), override))
+                .filter(occurrence -> overlaps(occurrence, from, to));
+
+        return Stream.concat(regular, movedIn);
+    }
+
+    private CalendarScheduleResponse occurrence(LocalDateTime original, Change override) {
+        if (override == null) {
+            return CalendarScheduleResponse.occurrence(id, title, original, original.plus(length), original);
+        }
+        if (override.cancelled()) {
+            return null;
+        }
+        LocalDateTime start = override.startAt() != null ? override.startAt() : original;
+        LocalDateTime end = override.endAt() != null ? override.endAt() : start.plus(length);
+        String occurrenceTitle = override.title() != null ? override.title() : title;
+        return CalendarScheduleResponse.occurrence(id, occurrenceTitle, start, end, original);
+    }
+
+    private static boolean overlaps(CalendarScheduleResponse occurrence, LocalDateTime from, LocalDateTime to) {
+        return occurrence.getStartAt().isBefore(to) && occurrence.getEndAt().isAfter(from);
+    }
+
+    /**
+     * 발생별 변경 내용 (엔티티를 캐시에 보관하지 않도록 값만 복사)
+     */
+    private static final class Change {
+
+        private final LocalDateTime originalStartAt;
+        private final boolean cancelled;
+        private final String title;
+        private final LocalDateTime startAt;
+        private final LocalDateTime endAt;
+
+        private Change(ScheduleOccurrenceOverride entity) {
+            this.originalStartAt = entity.getOriginalStartAt();
+            this.cancelled = entity.isCancelled();
+            this.title = entity.getTitle();
+            this.startAt = entity.getStartAt();
+            this.endAt = entity.getEndAt();
+        }
+
+        private LocalDateTime originalStartAt() { return originalStartAt; }
+        private boolean cancelled() { return cancelled; }
+        private String title() { return title; }
+        private LocalDateTime startAt() { return startAt; }
+        private LocalDateTime endAt() { return endAt; }
+    }
+}
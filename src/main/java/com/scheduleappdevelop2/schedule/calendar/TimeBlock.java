@@ -0,0 +1,25 @@
+package com.scheduleappdevelop2.schedule.calendar;
+
+import java.time.LocalDateTime;
+
+/**
+ * TimeBlock
+ * - [startAt, endAt) 시간 구간 하나. free/busy 계산의 입력과 결과에 쓰인다.
+ */
+public final class TimeBlock {
+
+    private final LocalDateTime startAt;
+    private final LocalDateTime endAt;
+
+    private TimeBlock(LocalDateTime startAt, LocalDateTime endAt) {
+        this.startAt = startAt;
+        this.endAt = endAt;
+    }
+
+    public static TimeBlock of(LocalDateTime startAt, LocalDateTime endAt) {
+        return new TimeBlock(startAt, endAt);
+    }
+
+    public LocalDateTime getStartAt() { return startAt; }
+    public LocalDateTime getEndAt() { return endAt; }
+}
@@ -0,0 +1,51 @@
+package com.scheduleappdevelop2.schedule.calendar;
+
+import com.scheduleappdevelop2.schedule.dto.calendarSchedule.CalendarScheduleResponse;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * UserCalendar
+ * - 한 유저의 캘린더: 단일 일정 IntervalTree + 반복 일정 시리즈 목록.
+ * - 캐시(UserCalendarCache)에 통째로 보관되거나, 캐시를 쓰지 않을 때는 조회 기간의 행만으로 만들어 한 번 쓴다.
+ * - 반복 일정의 발생은 조회할 때마다 기간 안에서만 계산한다.
+ */
+public final class UserCalendar {
+
+    private static final Comparator<CalendarScheduleResponse> BY_START =
+            Comparator.comparing(CalendarScheduleResponse::getStartAt)
+                    .thenComparing(CalendarScheduleResponse::getId);
+
+    private final IntervalTree singles;
+    private final List<RecurringSeries> series;
+
+    private UserCalendar(IntervalTree singles, List<RecurringSeries> series) {
+        this.singles = singles;
+        this.series = series;
+    }
+
+    public static UserCalendar of(IntervalTree singles, List<RecurringSeries> series) {
+        return new UserCalendar(singles, List.copyOf(series));
+    }
+
+    /**
+     * 기간 [from, to) 와 겹치는 일정/발생을 시작 시간 순으로 반환한다.
+     */
+    public List<CalendarScheduleResponse> query(LocalDateTime from, LocalDateTime to) {
+        List<CalendarScheduleResponse> result = singles.query(from, to);
+        if (series.isEmpty()) {
+            return result;
+        }
+        return Stream.concat(result.stream(), series.stream().flatMap(s -> s.occurrences(from, to)))
+                .sorted(BY_START)
+                .toList();
+    }
+
+    /** 메모리 사용량 추정용 (단일 일정 수 + 시리즈/변경 기록 수) */
+    public int weight() {
+        return singles.size() + series.stream().mapToInt(RecurringSeries::weight).sum();
+    }
+}
@@ -0,0 +1,136 @@
+package com.scheduleappdevelop2.schedule.calendar;
+
+import com.scheduleappdevelop2.schedule.event.ScheduleChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UserCalendarCache
+ * - 자주 조회되는 유저의 캘린더(UserCalendar: 단일 일정 IntervalTree + 반복 시리즈)를 유저 ID 기준으로 보관하는 프로세스 내 캐시.
+ * - 주/월 단위 캘린더 조회를 DB 왕복 없이 메모리 트리 탐색으로 처리한다.
+ * - 최대 유저 수를 넘으면 LRU, TTL이 지나면 조회 시점에 제거한다.
+ * - 일정이 한 건이라도 생성/수정/삭제되면 커밋 이후 해당 작성자의 캘린더를 통째로 무효화한다.
+ * - 일정(단일 일정 + 시리즈 + 발생별 변경 기록)이 너무 많은 유저(max-intervals-per-user 초과)는 캐시하지 않고 DB 범위 조회를 사용한다.
+ * - schedule.calendar-cache.enabled=false 로 끌 수 있다.
+ */
+@Component
+public class UserCalendarCache implements MeterBinder {
+
+    private final boolean enabled;
+    private final int maxUsers;
+    private final int maxIntervalsPerUser;
+    private final long ttlNanos;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /** 접근 순서(access-order) LinkedHashMap → LRU. 모든 접근은 this로 동기화한다. */
+    private final Map<Long, Entry> entries;
+
+    /** 무효화 세대 번호 (ScheduleViewCache와 같은 방식으로 오래된 캘린더 저장을 막는다) */
+    private long generation;
+
+    public UserCalendarCache(@Value("${schedule.calendar-cache.enabled:true}") boolean enabled,
+                             @Value("${schedule.calendar-cache.max-users:1000}") int maxUsers,
+                             @Value("${schedule.calendar-cache.max-intervals-per-user:5000}") int maxIntervalsPerUser,
+                             @Value("${schedule.calendar-cache.ttl:PT10M}") Duration ttl) {
+        this.enabled = enabled;
+        this.maxUsers = maxUsers;
+        this.maxIntervalsPerUser = maxIntervalsPerUser;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > UserCalendarCache.this.maxUsers;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 캐시 가능한 유저당 최대 일정 수 */
+    public int maxIntervalsPerUser() {
+        return maxIntervalsPerUser;
+    }
+
+    /**
+     * 캐시 조회
+     * - 없거나 TTL이 지난 항목이면 null을 반환한다(미스).
+     */
+    public synchronized UserCalendar get(Long userId) {
+        Entry entry = entries.get(userId);
+        if (entry == null || System.nanoTime() - entry.storedAt > ttlNanos) {
+            if (entry != null) entries.remove(userId);
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.calendar;
+    }
+
+    /** DB 조회 전에 현재 세대 번호를 받아둔다. */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * 캐시 저장
+     * - 조회를 시작한 이후 무효화가 한 번도 없었을 때만 저장한다.
+     */
+    public synchronized void putIfUnchanged(Long userId, UserCalendar calendar, long generationAtLoad) {
+        if (generation == generationAtLoad) {
+            entries.put(userId, new Entry(calendar, System.nanoTime()));
+        }
+    }
+
+    public synchronized void invalidate(Long userId) {
+        entries.remove(userId);
+        generation++;
+    }
+
+    /**
+     * 일정 변경 이벤트 수신
+     * - 생성도 캘린더 내용을 바꾸므로 모든 변경에 대해 작성자의 캘린더를 무효화한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (event.getOwnerId() != null) {
+            invalidate(event.getOwnerId());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("schedule.calendar.cache.hits", hits, AtomicLong::get).register(registry);
+        FunctionCounter.builder("schedule.calendar.cache.misses", misses, AtomicLong::get).register(registry);
+        Gauge.builder("schedule.calendar.cache.size", this, cache -> cache.size()).register(registry);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static class Entry {
+
+        private final UserCalendar calendar;
+        private final long storedAt;
+
+        private Entry(UserCalendar calendar, long storedAt) {
+            this.calendar = calendar;
+            this.storedAt = storedAt;
+        }
+    }
+}
@@ -1,19 +1,37 @@
 package com.scheduleappdevelop2.schedule.controller;
 
+import com.scheduleappdevelop2.global.pagination.CursorPageResponse;
+import com.scheduleappdevelop2.global.web.ETags;
 import com.scheduleappdevelop2.schedule.dto.UpdateSchedule.UpdateScheduleRequest;
 import com.scheduleappdevelop2.schedule.dto.UpdateSchedule.UpdateScheduleResponse;
+import com.scheduleappdevelop2.schedule.dto.bulkCreateSchedule.BulkCreateScheduleRequest;
+import com.scheduleappdevelop2.schedule.dto.bulkCreateSchedule.BulkCreateScheduleResponse;
+import com.scheduleappdevelop2.schedule.dto.calendarSchedule.CalendarScheduleResponse;
 import com.scheduleappdevelop2.schedule.dto.createSchedule.CreateScheduleResponse;
 import com.scheduleappdevelop2.schedule.dto.createSchedule.CreateScheduleRequest;
 import com.scheduleappdevelop2.schedule.dto.checkSchedule.ScheduleResponse;
+import com.scheduleappdevelop2.schedule.dto.checkSchedule.ScheduleSummaryResponse;
+import com.scheduleappdevelop2.schedule.dto.freeBusy.FreeBusyRequest;
+import com.scheduleappdevelop2.schedule.dto.freeBusy.FreeBusyResponse;
+import com.scheduleappdevelop2.schedule.dto.searchSchedule.ScheduleSearchResponse;
+import com.scheduleappdevelop2.schedule.service.FreeBusyService;
+import com.scheduleappdevelop2.schedule.service.ScheduleExportService;
 import com.scheduleappdevelop2.schedule.service.ScheduleService;
 import com.scheduleappdevelop2.user.dto.sessionUser.SessionUser;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static com.scheduleappdevelop2.global.exception.ErrorCode.PRECONDITION_REQUIRED;
 import static com.scheduleappdevelop2.global.exception.ErrorMessage.NOT_AUTHENTICATED;
 
 /**
@@ -27,7 +45,11 @@ import static com.scheduleappdevelop2.global.exception.ErrorMessage.NOT_AUTHENTI
 @RequestMapping("/schedules")
 public class ScheduleController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final ScheduleService scheduleService;
+    private final ScheduleExportService scheduleExportService;
+    private final FreeBusyService freeBusyService;
 
     /**
      * 일정 생성
@@ -50,15 +72,162 @@ public class ScheduleController {
     }
 
     /**
-     * 전체 일정 조회
-     * - DB에 존재하는 모든 일정을 조회하여 리스트로 반환한다.
+     * 일정 일괄 생성
+     * - 여러 일정(최대 500건)을 한 번의 요청/트랜잭션으로 생성한다.
+     * - 검증에 실패한 항목은 건너뛰고, 항목별 결과(index, id, error)를 반환한다.
+     */
+    @PostMapping("/bulk")
+    public BulkCreateScheduleResponse createBulk(@RequestBody BulkCreateScheduleRequest requestData,
+                                                 HttpServletRequest sessionRequest) {
+
+        // 세션에서 로그인 유저 정보 획득
+        HttpSession session = sessionRequest.getSession(false);
+        if (session == null) throw new CustomException(NOT_AUTHENTICATED);
+
+        SessionUser sessionUser = (SessionUser) session.getAttribute("loginUser");
+        if (sessionUser == null) throw new CustomException(NOT_AUTHENTICATED);
+
+        // 서비스에 일괄 생성 요청
+        return scheduleService.createSchedules(requestData, sessionUser);
+    }
+
+    /**
+     * 전체 일정 조회 (커서 페이지네이션)
+     * - 최신 일정부터 size 건씩 나누어 반환한다. (기본 20건, 최대 100건)
+     * - 응답의 nextCursor를 다음 요청의 cursor 파라미터로 넘기면 이어서 조회된다.
+     * - 목록에는 내용 전체 대신 요약만 담는다. 내용은 단건 조회에서 확인한다.
+     * - withCommentCount=true 이면 각 일정의 댓글 수(commentCount)를 함께 반환한다.
+     * - withPreview=true 이면 내용 앞 100자(preview)를 함께 반환한다.
      * - 조회는 로그인 여부와 상관 없이 가능하도록 설정되어 있다.
      */
     @GetMapping
-    public List<ScheduleResponse> checkAll() {
+    public CursorPageResponse<ScheduleSummaryResponse> checkAll(@RequestParam(required = false) String cursor,
+                                                                @RequestParam(required = false) Integer size,
+                                                                @RequestParam(defaultValue = "false") boolean withCommentCount,
+                                                                @RequestParam(defaultValue = "false") boolean withPreview) {
 
-        // 서비스에 일정 전체 조회 요청
-        return scheduleService.checkAllSchedules();
+        // 서비스에 일정 페이지 조회 요청
+        return scheduleService.checkAllSchedules(cursor, size, withCommentCount, withPreview);
+    }
+
+    /**
+     * 내 일정 조회 (커서 페이지네이션)
+     * - 로그인 유저가 작성한 일정만 최신순으로 반환한다.
+     * - GET 요청은 필터를 통과하므로 세션은 여기서 직접 확인한다.
+     */
+    @GetMapping("/me")
+    public CursorPageResponse<ScheduleSummaryResponse> checkMine(HttpServletRequest sessionRequest,
+                                                                 @RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer size,
+                                                                 @RequestParam(defaultValue = "false") boolean withCommentCount,
+                                                                 @RequestParam(defaultValue = "false") boolean withPreview) {
+
+        // 세션에서 로그인 유저 정보 획득
+        HttpSession session = sessionRequest.getSession(false);
+        if (session == null) throw new CustomException(NOT_AUTHENTICATED);
+
+        SessionUser sessionUser = (SessionUser) session.getAttribute("loginUser");
+        if (sessionUser == null) throw new CustomException(NOT_AUTHENTICATED);
+
+        return scheduleService.checkUserSchedules(sessionUser.getId(), cursor, size, withCommentCount, withPreview);
+    }
+
+    /**
+     * 유저별 일정 조회 (커서 페이지네이션)
+     * - 특정 유저가 작성한 일정만 최신순으로 반환한다.
+     * - 전체 일정 조회와 마찬가지로 로그인 여부와 상관 없이 가능하다.
+     */
+    @GetMapping("/users/{userId}")
+    public CursorPageResponse<ScheduleSummaryResponse> checkByUser(@PathVariable Long userId,
+                                                                   @RequestParam(required = false) String cursor,
+                                                                   @RequestParam(required = false) Integer size,
+                                                                   @RequestParam(defaultValue = "false") boolean withCommentCount,
+                                                                   @RequestParam(defaultValue = "false") boolean withPreview) {
+
+        return scheduleService.checkUserSchedules(userId, cursor, size, withCommentCount, withPreview);
+    }
+
+    /**
+     * 내 캘린더 조회
+     * - [from, to) 기간과 겹치는 로그인 유저의 일정을 시작 시간 순으로 반환한다. (최대 93일)
+     * - from, to는 ISO-8601 형식이다. (예: 2025-01-06T00:00:00)
+     * - GET 요청은 필터를 통과하므로 세션은 여기서 직접 확인한다.
+     */
+    @GetMapping("/me/calendar")
+    public List<CalendarScheduleResponse> checkMyCalendar(HttpServletRequest sessionRequest,
+                                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        // 세션에서 로그인 유저 정보 획득
+        HttpSession session = sessionRequest.getSession(false);
+        if (session == null) throw new CustomException(NOT_AUTHENTICATED);
+
+        SessionUser sessionUser = (SessionUser) session.getAttribute("loginUser");
+        if (sessionUser == null) throw new CustomException(NOT_AUTHENTICATED);
+
+        return scheduleService.checkCalendar(sessionUser.getId(), from, to);
+    }
+
+    /**
+     * 유저별 캘린더 조회
+     * - [from, to) 기간과 겹치는 특정 유저의 일정을 시작 시간 순으로 반환한다. (최대 93일)
+     * - 유저별 일정 조회와 마찬가지로 로그인 여부와 상관 없이 가능하다.
+     */
+    @GetMapping("/users/{userId}/calendar")
+    public List<CalendarScheduleResponse> checkCalendarByUser(@PathVariable Long userId,
+                                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        return scheduleService.checkCalendar(userId, from, to);
+    }
+
+    /**
+     * free/busy 조회
+     * - 여러 유저(최대 100명)의 [from, to) 기간 바쁜 구간과, 모두가 비어 있는 공통 빈 구간을 한 번에 반환한다.
+     * - 일정 내용은 노출하지 않고 시간 구간만 반환한다.
+     * - POST 요청이므로 로그인이 필요하다. (필터에서 확인)
+     */
+    @PostMapping("/free-busy")
+    public FreeBusyResponse freeBusy(@RequestBody FreeBusyRequest requestData) {
+
+        return freeBusyService.checkFreeBusy(requestData);
+    }
+
+    /**
+     * 일정 검색
+     * - 제목/내용에 검색어의 모든 단어가 포함된 일정을 점수 순으로 반환한다.
+     * - 단어의 앞부분만 입력해도 검색된다. (예: "회의" → "회의록")
+     * - 조회는 로그인 여부와 상관 없이 가능하다.
+     */
+    @GetMapping("/search")
+    public List<ScheduleSearchResponse> search(@RequestParam String q,
+                                               @RequestParam(required = false) Integer size) {
+
+        // 서비스에 일정 검색 요청
+        return scheduleService.searchSchedules(q, size);
+    }
+
+    /**
+     * 내 일정 내보내기 (NDJSON)
+     * - 로그인한 유저의 일정을 한 줄에 하나씩 JSON으로 응답 본문에 바로 기록한다.
+     * - 목록을 메모리에 만들지 않으므로 건수와 상관없이 메모리 사용량이 일정하다.
+     * - 스트리밍 동안 DB 커넥션을 잡고 있으므로 로그인한 유저만, 본인 일정만 내보낸다. (AuthFilter 에서도 공개 조회에서 제외)
+     */
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void export(HttpServletRequest sessionRequest, HttpServletResponse response) throws IOException {
+
+        // 세션에서 로그인 유저 정보 획득
+        HttpSession session = sessionRequest.getSession(false);
+        if (session == null) throw new CustomException(NOT_AUTHENTICATED);
+
+        SessionUser sessionUser = (SessionUser) session.getAttribute("loginUser");
+        if (sessionUser == null) throw new CustomException(NOT_AUTHENTICATED);
+
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+
+        // 서비스에서 출력 스트림으로 직접 기록
+        scheduleExportService.exportAll(sessionUser.getId(), response.getOutputStream());
     }
 
     /**
@@ -66,9 +235,11 @@ public class ScheduleController {
      * - URL 경로의 id를 사용하여 특정 일정을 조회한다.
      * - 단일 조회는 id를 사용함으로 로그인 상태에서만 조회가능 하도록 했다.
      * - 조회된 일정 정보를 DTO로 변환하여 반환한다.
+     * - 캐시 또는 버전 조회로 ETag를 먼저 만들고, If-None-Match 가 같으면 본문 없이 304를 응답한다.
      */
     @GetMapping("/{id}")
-    public ScheduleResponse checkOne(@PathVariable Long id, HttpServletRequest sessionRequest) {
+    public ScheduleResponse checkOne(@PathVariable Long id, HttpServletRequest sessionRequest, WebRequest webRequest,
+                                     @RequestParam(defaultValue = "false") boolean withCommentCount) {
 
         // 세션에서 로그인 유저 정보 획득
         HttpSession session = sessionRequest.getSession(false);
@@ -77,18 +248,21 @@ public class ScheduleController {
         SessionUser sessionUser = (SessionUser) session.getAttribute("loginUser");
         if (sessionUser == null) throw new CustomException(NOT_AUTHENTICATED);
 
-        // 서비스에 일정 조회 요청
-        return scheduleService.checkOneSchedule(id, sessionUser);
+        // 서비스에 일정 조회 요청 (캐시 확인 한 번으로 ETag와 본문을 함께 만든다)
+        // 변경이 없으면 304 Not Modified: 본문 없이 null (ETag 헤더는 checkNotModified 가 설정)
+        return scheduleService.checkOneSchedule(id, sessionUser, withCommentCount, webRequest::checkNotModified);
     }
 
     /**
      * 일정 수정
      * - 수정할 내용(JSON)을 DTO(UpdateScheduleRequest)로 받아 처리한다.
      * - 세션에서 로그인 유저 정보를 조회하여 해당 사용자가 작성자인지 검증한다.
-     * - 검증 통과 후 일정 수정 결과를 DTO로 반환한다.
+     * - 단일 조회에서 받은 ETag를 If-Match 로 보내야 한다. (없으면 428, 그 사이 변경되었으면 412)
+     * - 검증 통과 후 일정 수정 결과를 DTO로 반환하고, 새 ETag를 헤더에 담는다.
      */
     @PatchMapping("/{id}")
-    public UpdateScheduleResponse update(@PathVariable Long id, HttpServletRequest sessionRequest,
+    public UpdateScheduleResponse update(@PathVariable Long id, HttpServletRequest sessionRequest, HttpServletResponse response,
+                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                          @RequestBody UpdateScheduleRequest requestData) {
 
         // 세션에서 로그인 유저 정보 획득
@@ -98,8 +272,13 @@ public class ScheduleController {
         SessionUser sessionUser = (SessionUser) session.getAttribute("loginUser");
         if (sessionUser == null) throw new CustomException(NOT_AUTHENTICATED);
 
-        // 서비스에 일정 조회 요청
-        return scheduleService.updateSchedule(id, requestData, sessionUser);
+        // 조건부 수정만 허용 (마지막으로 본 버전 없이 덮어쓰지 않도록)
+        if (ifMatch == null) throw new CustomException(PRECONDITION_REQUIRED);
+
+        // 서비스에 일정 수정 요청
+        UpdateScheduleResponse updated = scheduleService.updateSchedule(id, requestData, ifMatch, sessionUser);
+        response.setHeader(HttpHeaders.ETAG, ETags.of(id, updated.getVersion()));
+        return updated;
     }
 
     /**
@@ -0,0 +1,68 @@
+package com.scheduleappdevelop2.schedule.controller;
+
+import com.scheduleappdevelop2.global.exception.CustomException;
+import com.scheduleappdevelop2.schedule.dto.recurrenceSchedule.OccurrenceOverrideRequest;
+import com.scheduleappdevelop2.schedule.dto.recurrenceSchedule.OccurrenceOverrideResponse;
+import com.scheduleappdevelop2.schedule.service.ScheduleOccurrenceService;
+import com.scheduleappdevelop2.user.dto.sessionUser.SessionUser;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+import static com.scheduleappdevelop2.global.exception.ErrorCode.NOT_AUTHENTICATED;
+
+/**
+ * ScheduleOccurrenceController
+ * - 반복 일정의 발생(occurrence) 하나를 수정/취소/복구하는 컨트롤러.
+ * - 발생은 캘린더 조회 응답의 originalStartAt 값으로 지정한다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/schedules/{scheduleId}/occurrences")
+public class ScheduleOccurrenceController {
+
+    private final ScheduleOccurrenceService scheduleOccurrenceService;
+
+    /**
+     * 발생 수정/취소
+     * - cancelled=true 이면 이 발생만 취소하고, 아니면 보낸 값(title, startAt, endAt)으로 바꾼다.
+     */
+    @PutMapping("/{originalStartAt}")
+    public OccurrenceOverrideResponse override(@PathVariable Long scheduleId,
+                                               @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime originalStartAt,
+                                               @RequestBody OccurrenceOverrideRequest requestData,
+                                               HttpServletRequest sessionRequest) {
+
+        // 세션에서 로그인 유저 정보 획득
+        HttpSession session = sessionRequest.getSession(false);
+        if (session == null) throw new CustomException(NOT_AUTHENTICATED);
+
+        SessionUser sessionUser = (SessionUser) session.getAttribute("loginUser");
+        if (sessionUser == null) throw new CustomException(NOT_AUTHENTICATED);
+
+        return scheduleOccurrenceService.overrideOccurrence(scheduleId, originalStartAt, requestData, sessionUser);
+    }
+
+    /**
+     * 발생 복구 (수정/취소 되돌리기)
+     */
+    @DeleteMapping("/{originalStartAt}")
+    public String restore(@PathVariable Long scheduleId,
+                          @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime originalStartAt,
+                          HttpServletRequest sessionRequest) {
+
+        // 세션에서 로그인 유저 정보 획득
+        HttpSession session = sessionRequest.getSession(false);
+        if (session == null) throw new CustomException(NOT_AUTHENTICATED);
+
+        SessionUser sessionUser = (SessionUser) session.getAttribute("loginUser");
+        if (sessionUser == null) throw new CustomException(NOT_AUTHENTICATED);
+
+        scheduleOccurrenceService.restoreOccurrence(scheduleId, originalStartAt, sessionUser);
+        return "해당 발생이 원래 일정으로 복구 되었습니다.";
+    }
+}
@@ -1,24 +1,38 @@
 package com.scheduleappdevelop2.schedule.dto.UpdateSchedule;
 
+import com.scheduleappdevelop2.schedule.dto.recurrenceSchedule.RecurrenceRequest;
+
+import java.time.LocalDateTime;
+
 /**
  * UpdateScheduleRequest
  * - 일정 수정(PATCH) 시 클라이언트가 보내는 요청 데이터를 담는다.
- * - 수정은 선택적이므로 title, content는 null이 올 수도 있다.
+ * - 수정은 선택적이므로 title, content, startAt, endAt, recurrence는 null이 올 수도 있다.
  * - 불변성을 위해 final + 생성자 방식으로 유지한다.
  */
 public class UpdateScheduleRequest {
 
     private final String title;   // 수정할 제목
     private final String content; // 수정할 내용
+    private final LocalDateTime startAt; // 수정할 시작 시간
+    private final LocalDateTime endAt;   // 수정할 종료 시간
+    private final RecurrenceRequest recurrence; // 수정할 반복 규칙 (frequency 가 비어 있으면 반복 해제)
 
 
     /** JSON 요청 값 매핑용 생성자 */
-    public UpdateScheduleRequest(String title, String content) {
+    public UpdateScheduleRequest(String title, String content, LocalDateTime startAt, LocalDateTime endAt,
+                                  RecurrenceRequest recurrence) {
         this.title = title;
         this.content = content;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.recurrence = recurrence;
     }
 
     //getter
     public String getTitle() { return title; }
     public String getContent() { return content; }
+    public LocalDateTime getStartAt() { return startAt; }
+    public LocalDateTime getEndAt() { return endAt; }
+    public RecurrenceRequest getRecurrence() { return recurrence; }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.scheduleappdevelop2.schedule.dto.UpdateSchedule;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.scheduleappdevelop2.schedule.dto.recurrenceSchedule.RecurrenceResponse;
 import com.scheduleappdevelop2.schedule.entity.Schedule;
 import java.time.LocalDateTime;
 
@@ -15,17 +17,26 @@ public class UpdateScheduleResponse {
     private final String title;             // 제목
     private final String content;           // 내용
     private final String userEmail;         // 작성자 이메일
+    private final LocalDateTime startAt;  // 시작 시간 (없으면 null)
+    private final LocalDateTime endAt;    // 종료 시간 (없으면 null)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final RecurrenceResponse recurrence; // 반복 규칙 (반복 일정이 아니면 생략)
     private final LocalDateTime createdAt;  // 생성 시간
     private final LocalDateTime modifiedAt; // 수정 시간
+    private final Long version;             // 수정 후 버전 (다음 수정의 If-Match 에 사용)
 
     /** 외부 직접 생성 금지 */
-    private UpdateScheduleResponse(Long id, String title, String content, String userEmail, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    private UpdateScheduleResponse(Long id, String title, String content, String userEmail, LocalDateTime startAt, LocalDateTime endAt, RecurrenceResponse recurrence, LocalDateTime createdAt, LocalDateTime modifiedAt, Long version) {
         this.id = id;
         this.title = title;
         this.content = content;
         this.userEmail = userEmail;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.recurrence = recurrence;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.version = version;
     }
 
     /** 엔터티 → DTO 변환 */
@@ -35,8 +46,12 @@ public class UpdateScheduleResponse {
                 schedule.getTitle(),
                 schedule.getContent(),
                 schedule.getUser().getEmail(),
+                schedule.getStartAt(),
+                schedule.getEndAt(),
+                RecurrenceResponse.from(schedule.getRecurrence()),
                 schedule.getCreatedAt(),
-                schedule.getModifiedAt()
+                schedule.getModifiedAt(),
+                schedule.getVersion()
         );
     }
 
@@ -45,6 +60,10 @@ public class UpdateScheduleResponse {
     public String getTitle() { return title; }
     public String getContent() { return content; }
     public String getUserEmail() { return userEmail; }
+    public LocalDateTime getStartAt() { return startAt; }
+    public LocalDateTime getEndAt() { return endAt; }
+    public RecurrenceResponse getRecurrence() { return recurrence; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getModifiedAt() { return modifiedAt; }
+    public Long getVersion() { return version; }
 }
@@ -0,0 +1,27 @@
+package com.scheduleappdevelop2.schedule.dto.bulkCreateSchedule;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.scheduleappdevelop2.schedule.dto.createSchedule.CreateScheduleRequest;
+
+import java.util.List;
+
+/**
+ * BulkCreateScheduleRequest
+ * - 여러 일정을 한 번에 생성할 때 클라이언트가 보내는 요청 DTO.
+ * - 각 항목은 단건 생성과 같은 CreateScheduleRequest 형식이다.
+ */
+public class BulkCreateScheduleRequest {
+
+    /** 생성할 일정 목록 */
+    private final List<CreateScheduleRequest> schedules;
+
+    /** JSON 요청 값 매핑용 생성자 */
+    @JsonCreator
+    public BulkCreateScheduleRequest(@JsonProperty("schedules") List<CreateScheduleRequest> schedules) {
+        this.schedules = schedules;
+    }
+
+    //getter
+    public List<CreateScheduleRequest> getSchedules() { return schedules; }
+}
@@ -0,0 +1,62 @@
+package com.scheduleappdevelop2.schedule.dto.bulkCreateSchedule;
+
+import java.util.List;
+
+/**
+ * BulkCreateScheduleResponse
+ * - 일괄 생성 결과 응답 DTO.
+ * - 요청 순서(index)대로 항목별 결과를 담는다. 성공 항목은 id, 실패 항목은 error 메시지를 가진다.
+ * - 일부 항목이 검증에 실패해도 나머지 항목은 생성된다.
+ */
+public class BulkCreateScheduleResponse {
+
+    private final int createdCount;         // 생성된 일정 수
+    private final int failedCount;          // 검증 실패 수
+    private final List<ItemResult> results; // 항목별 결과
+
+    private BulkCreateScheduleResponse(int createdCount, int failedCount, List<ItemResult> results) {
+        this.createdCount = createdCount;
+        this.failedCount = failedCount;
+        this.results = results;
+    }
+
+    public static BulkCreateScheduleResponse from(List<ItemResult> results) {
+        int created = (int) results.stream().filter(ItemResult::isSuccess).count();
+        return new BulkCreateScheduleResponse(created, results.size() - created, results);
+    }
+
+    //getter
+    public int getCreatedCount() { return createdCount; }
+    public int getFailedCount() { return failedCount; }
+    public List<ItemResult> getResults() { return results; }
+
+    /**
+     * 항목 하나의 처리 결과
+     */
+    public static class ItemResult {
+
+        private final int index;     // 요청 목록에서의 위치
+        private final Long id;       // 생성된 일정 ID (실패 시 null)
+        private final String error;  // 실패 사유 (성공 시 null)
+
+        private ItemResult(int index, Long id, String error) {
+            this.index = index;
+            this.id = id;
+            this.error = error;
+        }
+
+        public static ItemResult created(int index, Long id) {
+            return new ItemResult(index, id, null);
+        }
+
+        public static ItemResult failed(int index, String error) {
+            return new ItemResult(index, null, error);
+        }
+
+        public boolean isSuccess() { return error == null; }
+
+        public int getIndex() { return index; }
+        public Long getId() { return id; }
+        public String getError() { return error; }
+    }
+}
@@ -0,0 +1,62 @@
+package com.scheduleappdevelop2.schedule.dto.calendarSchedule;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.scheduleappdevelop2.schedule.repository.ScheduleInterval;
+
+import java.time.LocalDateTime;
+
+/**
+ * CalendarScheduleResponse
+ * - 캘린더(기간) 조회 응답 DTO.
+ * - 캘린더 칸을 그리는 데 필요한 id, 제목, 시작/종료 시간만 담는다.
+ * - 반복 일정의 발생(occurrence)이면 originalStartAt(규칙상 원래 시작 시간)이 함께 내려간다.
+ *   발생별 수정/취소 요청 시 이 값을 식별자로 사용한다.
+ * - 불변 객체이므로 캘린더 캐시(UserCalendarCache)에 그대로 보관해서 재사용한다.
+ */
+public class CalendarScheduleResponse {
+
+    private final Long id;                 // 일정 ID
+    private final String title;            // 제목
+    private final LocalDateTime startAt;   // 시작 시간
+    private final LocalDateTime endAt;     // 종료 시간
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final LocalDateTime originalStartAt; // 반복 일정 발생의 원래 시작 시간 (단일 일정은 null)
+
+    private CalendarScheduleResponse(Long id, String title, LocalDateTime startAt, LocalDateTime endAt,
+                                     LocalDateTime originalStartAt) {
+        this.id = id;
+        this.title = title;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.originalStartAt = originalStartAt;
+    }
+
+    /**
+     * 프로젝션 → DTO 변환
+     */
+    public static CalendarScheduleResponse from(ScheduleInterval interval) {
+        return new CalendarScheduleResponse(
+                interval.getId(),
+                interval.getTitle(),
+                interval.getStartAt(),
+                interval.getEndAt(),
+                null
+        );
+    }
+
+    /**
+     * 반복 일정의 발생 하나
+     */
+    public static CalendarScheduleResponse occurrence(Long id, String title, LocalDateTime startAt, LocalDateTime endAt,
+                                                      LocalDateTime originalStartAt) {
+        return new CalendarScheduleResponse(id, title, startAt, endAt, originalStartAt);
+    }
+
+    //getter
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public LocalDateTime getStartAt() { return startAt; }
+    public LocalDateTime getEndAt() { return endAt; }
+    public LocalDateTime getOriginalStartAt() { return originalStartAt; }
+}
@@ -1,5 +1,7 @@
 package com.scheduleappdevelop2.schedule.dto.checkSchedule;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.scheduleappdevelop2.schedule.dto.recurrenceSchedule.RecurrenceResponse;
 import com.scheduleappdevelop2.schedule.entity.Schedule;
 import java.time.LocalDateTime;
 
@@ -15,20 +17,33 @@ public class ScheduleResponse {
     private final String title;           // 제목
     private final String content;         // 내용
     private final String userEmail;     // 작성자 이메일
+    private final LocalDateTime startAt;  // 시작 시간 (없으면 null)
+    private final LocalDateTime endAt;    // 종료 시간 (없으면 null)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final RecurrenceResponse recurrence; // 반복 규칙 (반복 일정이 아니면 생략)
     private final LocalDateTime createdAt; // 생성 날짜
     private final LocalDateTime modifiedAt; // 수정 날짜
+    private final Long version;           // 현재 버전 (수정 요청의 If-Match / 동기화 expectedVersion 에 사용)
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long commentCount;      // 댓글 수 (요청한 경우에만 포함)
 
     /**
      * 외부에서 직접 객체 생성을 하지 못하게 막은 private 생성자.
      * - 응답 DTO는 반드시 from() 정적 메서드로만 만들도록 강제하는 패턴.
      */
-    private ScheduleResponse(Long id, String title, String content, String userEmail, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    private ScheduleResponse(Long id, String title, String content, String userEmail, LocalDateTime startAt, LocalDateTime endAt, RecurrenceResponse recurrence, LocalDateTime createdAt, LocalDateTime modifiedAt, Long version, Long commentCount) {
         this.id = id;
         this.title = title;
         this.content = content;
         this.userEmail = userEmail;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.recurrence = recurrence;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.version = version;
+        this.commentCount = commentCount;
     }
 
     /**
@@ -42,17 +57,35 @@ public class ScheduleResponse {
                 schedule.getTitle(),
                 schedule.getContent(),
                 schedule.getUser().getEmail(),
+                schedule.getStartAt(),
+                schedule.getEndAt(),
+                RecurrenceResponse.from(schedule.getRecurrence()),
                 schedule.getCreatedAt(),
-                schedule.getModifiedAt()
+                schedule.getModifiedAt(),
+                schedule.getVersion(),
+                null
         );
     }
 
+    /**
+     * 댓글 수를 포함한 사본 생성
+     * - 캐시된 응답을 변경하지 않도록 새 객체를 만든다.
+     */
+    public ScheduleResponse withCommentCount(long commentCount) {
+        return new ScheduleResponse(id, title, content, userEmail, startAt, endAt, recurrence, createdAt, modifiedAt, version, commentCount);
+    }
+
     //getter
     public Long getId() { return id; }
     public String getTitle() { return title; }
     public String getContent() { return content; }
     public String getUserEmail() { return userEmail; }
+    public LocalDateTime getStartAt() { return startAt; }
+    public LocalDateTime getEndAt() { return endAt; }
+    public RecurrenceResponse getRecurrence() { return recurrence; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getModifiedAt() { return modifiedAt; }
+    public Long getVersion() { return version; }
+    public Long getCommentCount() { return commentCount; }
 
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.scheduleappdevelop2.schedule.dto.checkSchedule;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.scheduleappdevelop2.schedule.repository.ScheduleSummary;
+import java.time.LocalDateTime;
+
+/**
+ * ScheduleSummaryResponse
+ * - 일정 목록 조회 시 사용하는 요약 응답 DTO.
+ * - 내용(content) 전체 대신, 요청한 경우에만 앞부분 미리보기(preview)를 담는다.
+ * - 내용 전체는 단건 조회(ScheduleResponse)에서만 내려준다.
+ */
+public class ScheduleSummaryResponse {
+
+    private final Long id;                  // 일정 ID
+    private final String title;             // 제목
+    private final String userEmail;         // 작성자 이메일
+    private final LocalDateTime createdAt;  // 생성 날짜
+    private final LocalDateTime modifiedAt; // 수정 날짜
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String preview;           // 내용 미리보기 (요청한 경우에만 포함)
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long commentCount;        // 댓글 수 (요청한 경우에만 포함)
+
+    /** 외부 직접 생성 금지 */
+    private ScheduleSummaryResponse(Long id, String title, String userEmail, LocalDateTime createdAt,
+                                    LocalDateTime modifiedAt, String preview, Long commentCount) {
+        this.id = id;
+        this.title = title;
+        this.userEmail = userEmail;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.preview = preview;
+        this.commentCount = commentCount;
+    }
+
+    /** 요약 프로젝션 → DTO 변환 (preview, commentCount는 없으면 null) */
+    public static ScheduleSummaryResponse of(ScheduleSummary summary, String preview, Long commentCount) {
+        return new ScheduleSummaryResponse(
+                summary.getId(),
+                summary.getTitle(),
+                summary.getUserEmail(),
+                summary.getCreatedAt(),
+                summary.getModifiedAt(),
+                preview,
+                commentCount
+        );
+    }
+
+    //getter
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public String getUserEmail() { return userEmail; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getModifiedAt() { return modifiedAt; }
+    public String getPreview() { return preview; }
+    public Long getCommentCount() { return commentCount; }
+}
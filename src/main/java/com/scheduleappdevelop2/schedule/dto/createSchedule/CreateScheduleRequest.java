@@ -1,9 +1,13 @@
 package com.scheduleappdevelop2.schedule.dto.createSchedule;
 
+import com.scheduleappdevelop2.schedule.dto.recurrenceSchedule.RecurrenceRequest;
+
+import java.time.LocalDateTime;
+
 /**
  * CreateScheduleRequest
  * - 일정 생성 시 클라이언트가 보내는 JSON 데이터(요청 바디)를 담는 DTO.
- * - title, content 2가지만 받으며 로그인 유저 정보는 세션에서 따로 가져온다.
+ * - title, content와 선택값인 시작/종료 시간(startAt, endAt), 반복 규칙(recurrence)을 받으며 로그인 유저 정보는 세션에서 따로 가져온다.
  * - 불변성을 위해 모든 필드는 final, 생성자를 통해서만 값이 설정된다.
  */
 public class CreateScheduleRequest {
@@ -14,13 +18,29 @@ public class CreateScheduleRequest {
     /** 일정 내용 */
     private final String content;
 
+    /** 시작 시간 (선택) */
+    private final LocalDateTime startAt;
+
+    /** 종료 시간 (선택, startAt과 함께 보내야 한다) */
+    private final LocalDateTime endAt;
+
+    /** 반복 규칙 (선택, 시작/종료 시간이 있어야 한다) */
+    private final RecurrenceRequest recurrence;
+
     /** JSON 요청 값 매핑용 생성자 */
-    public CreateScheduleRequest(String title, String content) {
+    public CreateScheduleRequest(String title, String content, LocalDateTime startAt, LocalDateTime endAt,
+                                  RecurrenceRequest recurrence) {
         this.title = title;
         this.content = content;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.recurrence = recurrence;
     }
 
     //getter
     public String getTitle() { return title; }
     public String getContent() { return content; }
+    public LocalDateTime getStartAt() { return startAt; }
+    public LocalDateTime getEndAt() { return endAt; }
+    public RecurrenceRequest getRecurrence() { return recurrence; }
 }
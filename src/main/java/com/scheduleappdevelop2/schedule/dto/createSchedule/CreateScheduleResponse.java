@@ -1,5 +1,7 @@
 package com.scheduleappdevelop2.schedule.dto.createSchedule;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.scheduleappdevelop2.schedule.dto.recurrenceSchedule.RecurrenceResponse;
 import com.scheduleappdevelop2.schedule.entity.Schedule;
 import java.time.LocalDateTime;
 
@@ -15,6 +17,10 @@ public class CreateScheduleResponse {
     private final String title;           // 일정 제목
     private final String content;         // 일정 내용
     private final String userEmail;     // 작성자 이메일
+    private final LocalDateTime startAt;  // 시작 시간 (없으면 null)
+    private final LocalDateTime endAt;    // 종료 시간 (없으면 null)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final RecurrenceResponse recurrence; // 반복 규칙 (반복 일정이 아니면 생략)
     private final LocalDateTime createdAt; // 생성 시간
     private final LocalDateTime modifiedAt; // 수정 시간
 
@@ -22,11 +28,14 @@ public class CreateScheduleResponse {
      * 외부에서 직접 객체를 만들지 못하도록 private 생성자로 막아놓았다.
      * - 대신 from() 정적 메서드를 통해서만 응답 객체를 만들 수 있도록 강제한다.
      */
-    private CreateScheduleResponse(Long id, String title, String content, String userEmail, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    private CreateScheduleResponse(Long id, String title, String content, String userEmail, LocalDateTime startAt, LocalDateTime endAt, RecurrenceResponse recurrence, LocalDateTime createdAt, LocalDateTime modifiedAt) {
         this.id = id;
         this.title = title;
         this.content = content;
         this.userEmail = userEmail;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.recurrence = recurrence;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
     }
@@ -37,11 +46,22 @@ public class CreateScheduleResponse {
      * - 응답 DTO를 어떻게 만들지는 DTO가 스스로 책임지도록 설계한 패턴.
      */
     public static CreateScheduleResponse from(Schedule schedule) {
+        return from(schedule, schedule.getUser().getEmail());
+    }
+
+    /**
+     * 작성자 이메일을 따로 받는 변환 메서드
+     * - 작성자가 ID 참조(프록시)일 때 이메일을 읽느라 유저를 조회하지 않도록 세션의 이메일을 넘겨받는다.
+     */
+    public static CreateScheduleResponse from(Schedule schedule, String userEmail) {
        return new CreateScheduleResponse(
                schedule.getId(),
                schedule.getTitle(),
                schedule.getContent(),
-               schedule.getUser().getEmail(),
+               userEmail,
+               schedule.getStartAt(),
+               schedule.getEndAt(),
+               RecurrenceResponse.from(schedule.getRecurrence()),
                schedule.getCreatedAt(),
                schedule.getModifiedAt()
         );
@@ -52,6 +72,9 @@ public class CreateScheduleResponse {
     public String getTitle() { return title; }
     public String getContent() { return content; }
     public String getUserEmail() { return userEmail; }
+    public LocalDateTime getStartAt() { return startAt; }
+    public LocalDateTime getEndAt() { return endAt; }
+    public RecurrenceResponse getRecurrence() { return recurrence; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getModifiedAt() { return modifiedAt; }
 }
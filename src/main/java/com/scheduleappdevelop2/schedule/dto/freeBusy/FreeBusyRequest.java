@@ -0,0 +1,32 @@
+package com.scheduleappdevelop2.schedule.dto.freeBusy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * FreeBusyRequest
+ * - 여러 유저의 바쁜 시간/공통 빈 시간 조회 요청.
+ * - userIds: 조회할 유저 ID 목록, [from, to): 조회 기간
+ * - minFreeMinutes: 이보다 짧은 빈 시간은 결과에서 제외한다. (생략 시 0)
+ */
+public class FreeBusyRequest {
+
+    private final List<Long> userIds;       // 조회할 유저 ID 목록
+    private final LocalDateTime from;       // 조회 기간 시작
+    private final LocalDateTime to;         // 조회 기간 끝
+    private final Integer minFreeMinutes;   // 최소 빈 시간 (분)
+
+    /** JSON 요청 값 매핑용 생성자 */
+    public FreeBusyRequest(List<Long> userIds, LocalDateTime from, LocalDateTime to, Integer minFreeMinutes) {
+        this.userIds = userIds;
+        this.from = from;
+        this.to = to;
+        this.minFreeMinutes = minFreeMinutes;
+    }
+
+    //getter
+    public List<Long> getUserIds() { return userIds; }
+    public LocalDateTime getFrom() { return from; }
+    public LocalDateTime getTo() { return to; }
+    public Integer getMinFreeMinutes() { return minFreeMinutes; }
+}
@@ -0,0 +1,53 @@
+package com.scheduleappdevelop2.schedule.dto.freeBusy;
+
+import com.scheduleappdevelop2.schedule.calendar.TimeBlock;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * FreeBusyResponse
+ * - busy: 유저별 바쁜 구간 (겹치는 일정은 합쳐져 있고, 일정 제목 등 내용은 담지 않는다)
+ * - free: 모든 유저가 비어 있는 공통 구간
+ */
+public class FreeBusyResponse {
+
+    private final LocalDateTime from;      // 조회 기간 시작
+    private final LocalDateTime to;        // 조회 기간 끝
+    private final List<UserBusy> busy;     // 유저별 바쁜 구간
+    private final List<TimeBlock> free;    // 공통 빈 구간
+
+    private FreeBusyResponse(LocalDateTime from, LocalDateTime to, List<UserBusy> busy, List<TimeBlock> free) {
+        this.from = from;
+        this.to = to;
+        this.busy = busy;
+        this.free = free;
+    }
+
+    public static FreeBusyResponse of(LocalDateTime from, LocalDateTime to, List<UserBusy> busy, List<TimeBlock> free) {
+        return new FreeBusyResponse(from, to, busy, free);
+    }
+
+    //getter
+    public LocalDateTime getFrom() { return from; }
+    public LocalDateTime getTo() { return to; }
+    public List<UserBusy> getBusy() { return busy; }
+    public List<TimeBlock> getFree() { return free; }
+
+    /**
+     * 유저 한 명의 바쁜 구간
+     */
+    public static class UserBusy {
+
+        private final Long userId;
+        private final List<TimeBlock> blocks;
+
+        public UserBusy(Long userId, List<TimeBlock> blocks) {
+            this.userId = userId;
+            this.blocks = blocks;
+        }
+
+        public Long getUserId() { return userId; }
+        public List<TimeBlock> getBlocks() { return blocks; }
+    }
+}
@@ -0,0 +1,31 @@
+package com.scheduleappdevelop2.schedule.dto.recurrenceSchedule;
+
+import java.time.LocalDateTime;
+
+/**
+ * OccurrenceOverrideRequest
+ * - 반복 일정의 발생 하나를 수정/취소하는 요청.
+ * - cancelled=true 이면 이 발생만 취소한다. (나머지 값은 무시)
+ * - title, startAt, endAt 은 바꿀 값만 보낸다. 보내지 않은 값은 시리즈 값을 따른다.
+ */
+public class OccurrenceOverrideRequest {
+
+    private final String title;           // 바꿀 제목
+    private final LocalDateTime startAt;  // 옮길 시작 시간
+    private final LocalDateTime endAt;    // 옮길 종료 시간
+    private final boolean cancelled;      // 취소 여부
+
+    /** JSON 요청 값 매핑용 생성자 */
+    public OccurrenceOverrideRequest(String title, LocalDateTime startAt, LocalDateTime endAt, Boolean cancelled) {
+        this.title = title;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.cancelled = Boolean.TRUE.equals(cancelled);
+    }
+
+    //getter
+    public String getTitle() { return title; }
+    public LocalDateTime getStartAt() { return startAt; }
+    public LocalDateTime getEndAt() { return endAt; }
+    public boolean isCancelled() { return cancelled; }
+}
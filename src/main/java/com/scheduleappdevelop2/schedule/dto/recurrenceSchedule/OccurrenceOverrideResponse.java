@@ -0,0 +1,54 @@
+package com.scheduleappdevelop2.schedule.dto.recurrenceSchedule;
+
+import com.scheduleappdevelop2.schedule.entity.Schedule;
+import com.scheduleappdevelop2.schedule.entity.ScheduleOccurrenceOverride;
+
+import java.time.LocalDateTime;
+
+/**
+ * OccurrenceOverrideResponse
+ * - 발생 수정/취소 결과. 시리즈 값과 합친 최종 제목/시간을 내려준다.
+ */
+public class OccurrenceOverrideResponse {
+
+    private final Long scheduleId;               // 시리즈(일정) ID
+    private final LocalDateTime originalStartAt; // 규칙상 원래 시작 시간
+    private final String title;                  // 적용된 제목
+    private final LocalDateTime startAt;         // 적용된 시작 시간
+    private final LocalDateTime endAt;           // 적용된 종료 시간
+    private final boolean cancelled;             // 취소 여부
+
+    private OccurrenceOverrideResponse(Long scheduleId, LocalDateTime originalStartAt, String title,
+                                       LocalDateTime startAt, LocalDateTime endAt, boolean cancelled) {
+        this.scheduleId = scheduleId;
+        this.originalStartAt = originalStartAt;
+        this.title = title;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * 변경 기록 + 시리즈 → DTO 변환
+     */
+    public static OccurrenceOverrideResponse from(ScheduleOccurrenceOverride override, Schedule schedule) {
+        LocalDateTime startAt = override.getStartAt() != null ? override.getStartAt() : override.getOriginalStartAt();
+        LocalDateTime endAt = override.getEndAt() != null ? override.getEndAt() : startAt.plus(schedule.length());
+        return new OccurrenceOverrideResponse(
+                schedule.getId(),
+                override.getOriginalStartAt(),
+                override.getTitle() != null ? override.getTitle() : schedule.getTitle(),
+                startAt,
+                endAt,
+                override.isCancelled()
+        );
+    }
+
+    //getter
+    public Long getScheduleId() { return scheduleId; }
+    public LocalDateTime getOriginalStartAt() { return originalStartAt; }
+    public String getTitle() { return title; }
+    public LocalDateTime getStartAt() { return startAt; }
+    public LocalDateTime getEndAt() { return endAt; }
+    public boolean isCancelled() { return cancelled; }
+}
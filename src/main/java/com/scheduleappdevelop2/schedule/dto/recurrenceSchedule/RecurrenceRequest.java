@@ -0,0 +1,46 @@
+package com.scheduleappdevelop2.schedule.dto.recurrenceSchedule;
+
+import com.scheduleappdevelop2.schedule.entity.RecurrenceRule;
+
+import java.time.LocalDateTime;
+
+/**
+ * RecurrenceRequest
+ * - 일정 생성/수정 요청에 들어가는 반복 규칙.
+ * - frequency 는 필수(DAILY, WEEKLY, MONTHLY)이며 interval 은 생략하면 1이다.
+ * - count(총 횟수), until(마지막 발생 시작 시간 상한)은 선택이며, 둘 다 없으면 끝없이 반복된다.
+ * - 수정 요청에서 frequency 를 비워 보내면 반복을 해제한다.
+ */
+public class RecurrenceRequest {
+
+    private final RecurrenceRule.Frequency frequency; // 반복 주기
+    private final Integer interval;                   // 반복 간격
+    private final Integer count;                      // 총 발생 횟수
+    private final LocalDateTime until;                // 종료 시점
+
+    /** JSON 요청 값 매핑용 생성자 */
+    public RecurrenceRequest(RecurrenceRule.Frequency frequency, Integer interval, Integer count, LocalDateTime until) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+    }
+
+    /**
+     * 규칙 유효성 검사 (반복 일정은 시작/종료 시간이 있어야 한다)
+     */
+    public boolean isValidFor(LocalDateTime startAt, LocalDateTime endAt) {
+        return endAt != null && RecurrenceRule.isValid(frequency, interval, count, until, startAt);
+    }
+
+    /** 엔티티 규칙으로 변환 (반복 해제 요청이면 null) */
+    public RecurrenceRule toRule() {
+        return frequency == null ? null : RecurrenceRule.of(frequency, interval, count, until);
+    }
+
+    //getter
+    public RecurrenceRule.Frequency getFrequency() { return frequency; }
+    public Integer getInterval() { return interval; }
+    public Integer getCount() { return count; }
+    public LocalDateTime getUntil() { return until; }
+}
@@ -0,0 +1,40 @@
+package com.scheduleappdevelop2.schedule.dto.recurrenceSchedule;
+
+import com.scheduleappdevelop2.schedule.entity.RecurrenceRule;
+
+import java.time.LocalDateTime;
+
+/**
+ * RecurrenceResponse
+ * - 일정 응답에 포함되는 반복 규칙.
+ */
+public class RecurrenceResponse {
+
+    private final RecurrenceRule.Frequency frequency; // 반복 주기
+    private final Integer interval;                   // 반복 간격
+    private final Integer count;                      // 총 발생 횟수
+    private final LocalDateTime until;                // 종료 시점
+
+    private RecurrenceResponse(RecurrenceRule.Frequency frequency, Integer interval, Integer count, LocalDateTime until) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+    }
+
+    /**
+     * 엔티티 규칙 → DTO 변환 (반복 일정이 아니면 null)
+     */
+    public static RecurrenceResponse from(RecurrenceRule rule) {
+        if (rule == null) {
+            return null;
+        }
+        return new RecurrenceResponse(rule.getFrequency(), rule.getInterval(), rule.getCount(), rule.getUntil());
+    }
+
+    //getter
+    public RecurrenceRule.Frequency getFrequency() { return frequency; }
+    public Integer getInterval() { return interval; }
+    public Integer getCount() { return count; }
+    public LocalDateTime getUntil() { return until; }
+}
@@ -0,0 +1,51 @@
+package com.scheduleappdevelop2.schedule.dto.searchSchedule;
+
+import com.scheduleappdevelop2.schedule.repository.ScheduleSummary;
+import java.time.LocalDateTime;
+
+/**
+ * ScheduleSearchResponse
+ * - 일정 검색 결과 한 건을 담는 응답 DTO.
+ * - 검색 점수(score)를 함께 내려주며, 목록은 점수가 높은 순으로 정렬되어 있다.
+ * - 목록 응답이므로 내용(content)은 담지 않는다. 내용은 단건 조회로 확인한다.
+ */
+public class ScheduleSearchResponse {
+
+    private final Long id;                  // 일정 ID
+    private final String title;             // 제목
+    private final String userEmail;         // 작성자 이메일
+    private final double score;             // 검색 점수
+    private final LocalDateTime createdAt;  // 생성 시간
+    private final LocalDateTime modifiedAt; // 수정 시간
+
+    /** 외부 직접 생성 금지 */
+    private ScheduleSearchResponse(Long id, String title, String userEmail, double score,
+                                   LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.userEmail = userEmail;
+        this.score = score;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+
+    /** 요약 프로젝션 + 점수 → DTO 변환 */
+    public static ScheduleSearchResponse of(ScheduleSummary summary, double score) {
+        return new ScheduleSearchResponse(
+                summary.getId(),
+                summary.getTitle(),
+                summary.getUserEmail(),
+                score,
+                summary.getCreatedAt(),
+                summary.getModifiedAt()
+        );
+    }
+
+    //getter
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public String getUserEmail() { return userEmail; }
+    public double getScore() { return score; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getModifiedAt() { return modifiedAt; }
+}
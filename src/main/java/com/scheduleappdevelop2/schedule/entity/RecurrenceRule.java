@@ -0,0 +1,156 @@
+package com.scheduleappdevelop2.schedule.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * RecurrenceRule
+ * - 반복 일정 규칙 (매일/매주/매월, interval 간격, 횟수(count) 또는 종료 시점(until)).
+ * - Schedule 에 @Embedded 로 들어가며, 반복 일정은 발생(occurrence)마다 행을 만들지 않고 규칙 하나만 저장한다.
+ * - 발생 시간은 조회 기간 안에서만 계산한다. 기간 시작 위치까지는 산술로 바로 건너뛰고,
+ *   그 뒤로는 Stream 으로 하나씩 만들어 기간 끝에서 멈춘다.
+ * - count, until 이 모두 없으면 끝없이 반복된다.
+ */
+@Embeddable
+@NoArgsConstructor(access = PROTECTED)
+public class RecurrenceRule {
+
+    /** 반복 주기 */
+    public enum Frequency { DAILY, WEEKLY, MONTHLY }
+
+    /** 규칙 값 제한 */
+    public static final int MAX_INTERVAL = 365;
+    public static final int MAX_COUNT = 10000;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "recurrence_frequency", length = 10)
+    private Frequency frequency;
+
+    /** 반복 간격 (1 = 매번, 2 = 격주/격월 ...) */
+    @Column(name = "recurrence_interval")
+    private Integer interval;
+
+    /** 총 발생 횟수 (없으면 null) */
+    @Column(name = "recurrence_count")
+    private Integer count;
+
+    /** 마지막 발생 시작 시간의 상한 (없으면 null) */
+    @Column(name = "recurrence_until")
+    private LocalDateTime until;
+
+    private RecurrenceRule(Frequency frequency, Integer interval, Integer count, LocalDateTime until) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+    }
+
+    /**
+     * 정적 팩토리 메서드
+     * - interval 이 없으면 1로 본다.
+     */
+    public static RecurrenceRule of(Frequency frequency, Integer interval, Integer count, LocalDateTime until) {
+        return new RecurrenceRule(frequency, interval == null ? 1 : interval, count, until);
+    }
+
+    /**
+     * 규칙 유효성 검사
+     * - 반복 일정은 시작 시간이 있어야 하고, until 은 시작 시간 이후여야 한다.
+     */
+    public static boolean isValid(Frequency frequency, Integer interval, Integer count, LocalDateTime until,
+                                  LocalDateTime seriesStart) {
+        if (frequency == null || seriesStart == null) return false;
+        if (interval != null && (interval < 1 || interval > MAX_INTERVAL)) return false;
+        if (count != null && (count < 1 || count > MAX_COUNT)) return false;
+        return until == null || !until.isBefore(seriesStart);
+    }
+
+    /**
+     * k 번째(0부터) 발생의 시작 시간
+     * - 매월 반복은 매번 시리즈 시작 시간에서 다시 계산한다. (31일 → 30일로 밀린 뒤 계속 30일이 되지 않도록)
+     */
+    public LocalDateTime occurrenceStart(LocalDateTime seriesStart, long k) {
+        return switch (frequency) {
+            case DAILY -> seriesStart.plusDays(k * interval);
+            case WEEKLY -> seriesStart.plusWeeks(k * interval);
+            case MONTHLY -> seriesStart.plusMonths(k * interval);
+        };
+    }
+
+    /**
+     * 기간 [from, to) 와 겹치는 발생 시작 시간 (지연 스트림)
+     * - 각 발생은 [start, start + length) 구간을 차지한다.
+     * - 기간 밖의 발생은 만들지 않는다.
+     */
+    public Stream<LocalDateTime> startsOverlapping(LocalDateTime seriesStart, Duration length,
+                                                   LocalDateTime from, LocalDateTime to) {
+        long first = firstCandidate(seriesStart, from.minus(length));
+        return LongStream.iterate(first, k -> k + 1)
+                .takeWhile(k -> count == null || k < count)
+                .mapToObj(k -> occurrenceStart(seriesStart, k))
+                .takeWhile(start -> start.isBefore(to) && (until == null || !start.isAfter(until)))
+                .filter(start -> start.plus(length).isAfter(from));
+    }
+
+    /**
+     * candidate 가 이 규칙의 실제 발생 시작 시간인지 확인한다.
+     */
+    public boolean isOccurrence(LocalDateTime seriesStart, LocalDateTime candidate) {
+        long first = firstCandidate(seriesStart, candidate);
+        for (long k = first; k < first + 3; k++) {
+            if (count != null && k >= count) return false;
+            LocalDateTime start = occurrenceStart(seriesStart, k);
+            if (until != null && start.isAfter(until)) return false;
+            if (start.equals(candidate)) return true;
+            if (start.isAfter(candidate)) return false;
+        }
+        return false;
+    }
+
+    /**
+     * 시리즈 전체가 끝나는 시간의 상한 (끝없는 반복이면 null)
+     * - 기간 조회에서 이미 끝난 시리즈를 인덱스로 걸러내는 데 쓴다.
+     */
+    public LocalDateTime seriesEnd(LocalDateTime seriesStart, Duration length) {
+        LocalDateTime end = null;
+        if (count != null) {
+            end = occurrenceStart(seriesStart, count - 1L).plus(length);
+        }
+        if (until != null) {
+            LocalDateTime untilEnd = until.plus(length);
+            end = (end == null || untilEnd.isBefore(end)) ? untilEnd : end;
+        }
+        return end;
+    }
+
+    /**
+     * at 이전에 시작하는 발생을 건너뛴 첫 후보 번호.
+     * - 매일/매주는 고정 간격이므로 나눗셈으로 바로 계산한다.
+     * - 매월은 달 수 차이로 계산한 뒤 말일 보정 때문에 한 칸 앞에서 시작한다.
+     */
+    private long firstCandidate(LocalDateTime seriesStart, LocalDateTime at) {
+        if (!at.isAfter(seriesStart)) return 0;
+        return switch (frequency) {
+            case DAILY -> Duration.between(seriesStart, at).getSeconds() / (86_400L * interval);
+            case WEEKLY -> Duration.between(seriesStart, at).getSeconds() / (7 * 86_400L * interval);
+            case MONTHLY -> Math.max(0, ChronoUnit.MONTHS.between(seriesStart, at) / interval - 1);
+        };
+    }
+
+    // Getter 메서드
+    public Frequency getFrequency() { return frequency; }
+    public Integer getInterval() { return interval; }
+    public Integer getCount() { return count; }
+    public LocalDateTime getUntil() { return until; }
+}
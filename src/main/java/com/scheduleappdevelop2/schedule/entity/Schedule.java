@@ -6,6 +6,9 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 import static lombok.AccessLevel.PROTECTED;
 
 /**
@@ -15,17 +18,36 @@ import static lombok.AccessLevel.PROTECTED;
  * - 생성/수정 시간 정보는 BaseTimeEntity를 상속하여 자동으로 관리된다.
  */
 @Entity
-@Table(name = "schedules")
+@Table(name = "schedules", indexes = {
+        // 커서 목록 조회(createdAt desc, id desc) 정렬/탐색용 인덱스
+        @Index(name = "idx_schedules_created_at_id", columnList = "created_at, id"),
+        // 유저별 커서 목록 조회(user_id = ? order by created_at desc, id desc)용 복합 인덱스
+        @Index(name = "idx_schedules_user_created_at_id", columnList = "user_id, created_at, id"),
+        // 유저별 기간 겹침 조회(user_id = ? and start_at between ? and ?)용 복합 인덱스
+        @Index(name = "idx_schedules_user_start_end", columnList = "user_id, start_at, end_at"),
+        // 유저별 반복 일정(시리즈) 조회용 인덱스
+        @Index(name = "idx_schedules_user_recurrence", columnList = "user_id, recurrence_frequency, series_end_at")
+})
 @NoArgsConstructor(access = PROTECTED) // JPA가 엔티티를 생성할 때 사용하는 기본 생성자. 개발자는 직접 사용하지 못하게 보호
 public class Schedule extends BaseTimeEntity {
 
+    /**
+     * 일정 하나의 최대 길이
+     * - 기간 겹침 조회에서 "startAt >= from - MAX_DURATION" 하한을 걸 수 있게 해 준다.
+     *   덕분에 (user_id, start_at) 인덱스를 좁은 범위로만 읽는다.
+     */
+    public static final Duration MAX_DURATION = Duration.ofDays(31);
+
     /**
      * 일정 고유 식별자 (PK)
-     * - AUTO_INCREMENT 전략을 사용해 DB가 자동 생성한다.
+     * - pooled 시퀀스 전략을 사용한다. (MySQL에서는 schedules_seq 테이블로 에뮬레이션)
+     * - 한 번에 50개씩 ID를 미리 할당받으므로 INSERT 전에 ID가 정해지고,
+     *   IDENTITY와 달리 여러 INSERT를 JDBC 배치로 묶어 보낼 수 있다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // JPA 기본 생성자 보호
-    private Long id; // 기본 키. DB가 자동 증가시키며, 저장 시점에 값이 채워짐
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_seq")
+    @SequenceGenerator(name = "schedule_seq", sequenceName = "schedules_seq", allocationSize = 50)
+    private Long id; // 기본 키. persist 시점에 시퀀스에서 값이 채워짐
 
     /**
      * 일정 제목
@@ -52,16 +74,52 @@ public class Schedule extends BaseTimeEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    /**
+     * 일정 시작/종료 시간
+     * - 시간이 정해지지 않은 일정(메모형)은 둘 다 null 이다.
+     * - 값이 있으면 endAt > startAt 이고, 길이는 MAX_DURATION 이하이다.
+     */
+    @Column(name = "start_at")
+    private LocalDateTime startAt;
+
+    @Column(name = "end_at")
+    private LocalDateTime endAt;
+
+    /**
+     * 반복 규칙 (반복 일정이 아니면 null)
+     * - startAt/endAt 은 첫 번째 발생의 시간이다.
+     */
+    @Embedded
+    private RecurrenceRule recurrence;
+
+    /**
+     * 반복 시리즈가 끝나는 시간의 상한 (끝없는 반복이거나 반복 일정이 아니면 null)
+     * - 규칙/시간이 바뀔 때마다 다시 계산한다. 이미 끝난 시리즈를 기간 조회에서 거르는 데 쓴다.
+     */
+    @Column(name = "series_end_at")
+    private LocalDateTime seriesEndAt;
+
+    /**
+     * 낙관적 락 버전
+     * - 변경이 flush 될 때마다 1씩 증가하며, UPDATE 문은 "where version = ?" 조건으로 실행된다.
+     * - 동시에 수정한 쪽이 먼저 커밋하면 나중 UPDATE 는 0건이 되어 예외가 발생한다. (덮어쓰기 방지)
+     * - ETag / If-Match 값으로도 사용한다.
+     */
+    @Version
+    private Long version;
+
     /**
      * 실제 엔티티 생성 시 사용되는 생성자
      * - Builder 패턴을 사용하여 필수 필드만 설정하도록 제한한다.
      * - id는 자동 생성되므로 입력받지 않는다.
      */
     @Builder
-    private Schedule(String title, String content, User user) {
+    private Schedule(String title, String content, User user, LocalDateTime startAt, LocalDateTime endAt) {
         this.title = title;
         this.content = content;
         this.user = user;
+        this.startAt = startAt;
+        this.endAt = endAt;
     }
 
     /**
@@ -76,6 +134,19 @@ public class Schedule extends BaseTimeEntity {
                 .build();
     }
 
+    /**
+     * 정적 팩토리 메서드 (시작/종료 시간이 있는 일정)
+     */
+    public static Schedule of(String title, String content, User user, LocalDateTime startAt, LocalDateTime endAt) {
+        return Schedule.builder()
+                .title(title)
+                .content(content)
+                .user(user)
+                .startAt(startAt)
+                .endAt(endAt)
+                .build();
+    }
+
     /**
      * 일정 수정 메서드
      * - 전달받은 값이 null이 아닐 때 해당 필드만 변경한다.
@@ -86,9 +157,58 @@ public class Schedule extends BaseTimeEntity {
         if(content != null) { this.content = content; }
     }
 
+    /**
+     * 일정 시간 변경
+     * - 전달받은 값이 null이 아닐 때 해당 필드만 변경한다.
+     * - 변경 후의 기간이 유효한지는 호출 전에 isValidPeriod()로 검증한다.
+     */
+    public void reschedule(LocalDateTime startAt, LocalDateTime endAt) {
+        if (startAt != null) { this.startAt = startAt; }
+        if (endAt != null) { this.endAt = endAt; }
+        refreshSeriesEnd();
+    }
+
+    /**
+     * 반복 규칙 변경
+     * - null 을 넘기면 반복을 해제한다.
+     * - 규칙 유효성은 호출 전에 RecurrenceRule.isValid()로 검증한다.
+     */
+    public void changeRecurrence(RecurrenceRule recurrence) {
+        this.recurrence = recurrence;
+        refreshSeriesEnd();
+    }
+
+    public boolean isRecurring() {
+        return recurrence != null && recurrence.getFrequency() != null;
+    }
+
+    /** 한 번 발생의 길이 (시간 없는 일정이면 null) */
+    public Duration length() {
+        return (startAt == null || endAt == null) ? null : Duration.between(startAt, endAt);
+    }
+
+    private void refreshSeriesEnd() {
+        this.seriesEndAt = isRecurring() ? recurrence.seriesEnd(startAt, length()) : null;
+    }
+
+    /**
+     * 기간 유효성 검사
+     * - 둘 다 null(시간 없는 일정)이거나, 둘 다 있고 endAt > startAt, 길이 MAX_DURATION 이하이면 유효하다.
+     */
+    public static boolean isValidPeriod(LocalDateTime startAt, LocalDateTime endAt) {
+        if (startAt == null && endAt == null) return true;
+        if (startAt == null || endAt == null) return false;
+        return endAt.isAfter(startAt) && Duration.between(startAt, endAt).compareTo(MAX_DURATION) <= 0;
+    }
+
     // Getter 메서드
     public Long getId() { return id; }
     public String getTitle() { return title; }
     public String getContent() { return content; }
     public User getUser() { return user; }
+    public LocalDateTime getStartAt() { return startAt; }
+    public LocalDateTime getEndAt() { return endAt; }
+    public RecurrenceRule getRecurrence() { return isRecurring() ? recurrence : null; }
+    public LocalDateTime getSeriesEndAt() { return seriesEndAt; }
+    public Long getVersion() { return version; }
 }
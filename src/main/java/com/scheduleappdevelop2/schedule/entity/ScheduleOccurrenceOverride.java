@@ -0,0 +1,91 @@
+package com.scheduleappdevelop2.schedule.entity;
+
+import com.scheduleappdevelop2.global.baseTimeEntity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * ScheduleOccurrenceOverride
+ * - 반복 일정의 특정 발생(occurrence) 하나만 바꾸거나 취소한 기록.
+ * - 발생은 (일정 ID, 원래 시작 시간)으로 식별한다.
+ * - 변경된 값만 저장하고, null 인 필드는 시리즈 값을 그대로 쓴다.
+ * - 옮긴 시간은 원래 시작 시간에서 Schedule.MAX_DURATION 이내로 제한해 기간 조회 범위를 좁게 유지한다.
+ * - 일정이 삭제되면 DB의 ON DELETE CASCADE 로 함께 삭제된다.
+ */
+@Entity
+@Table(name = "schedule_occurrence_overrides",
+        uniqueConstraints = {
+                // 발생 하나당 변경 기록은 하나 (일정별 + 원래 시작 시간 범위 조회에도 사용)
+                @UniqueConstraint(name = "uk_occurrence_overrides_schedule_original",
+                        columnNames = {"schedule_id", "original_start_at"})
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScheduleOccurrenceOverride extends BaseTimeEntity {
+
+    // pooled 시퀀스(테이블 에뮬레이션): 50개씩 미리 할당받는다
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "occurrence_override_seq")
+    @SequenceGenerator(name = "occurrence_override_seq", sequenceName = "schedule_occurrence_overrides_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "schedule_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Schedule schedule;
+
+    /** 규칙상 원래 시작 시간 (발생 식별자) */
+    @Column(name = "original_start_at", nullable = false)
+    private LocalDateTime originalStartAt;
+
+    /** 이 발생만 취소 */
+    @Column(nullable = false)
+    private boolean cancelled;
+
+    /** 바꾼 제목 (null 이면 시리즈 제목) */
+    @Column(length = 100)
+    private String title;
+
+    /** 옮긴 시작/종료 시간 (null 이면 원래 시간) */
+    @Column(name = "start_at")
+    private LocalDateTime startAt;
+
+    @Column(name = "end_at")
+    private LocalDateTime endAt;
+
+    @Builder
+    private ScheduleOccurrenceOverride(Schedule schedule, LocalDateTime originalStartAt) {
+        this.schedule = schedule;
+        this.originalStartAt = originalStartAt;
+    }
+
+    public static ScheduleOccurrenceOverride of(Schedule schedule, LocalDateTime originalStartAt) {
+        return ScheduleOccurrenceOverride.builder()
+                .schedule(schedule)
+                .originalStartAt(originalStartAt)
+                .build();
+    }
+
+    /**
+     * 변경 내용 반영 (요청 값으로 통째로 덮어쓴다)
+     */
+    public void apply(String title, LocalDateTime startAt, LocalDateTime endAt, boolean cancelled) {
+        this.title = title;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.cancelled = cancelled;
+    }
+
+    public Long getId() { return id; }
+    public Schedule getSchedule() { return schedule; }
+    public LocalDateTime getOriginalStartAt() { return originalStartAt; }
+    public boolean isCancelled() { return cancelled; }
+    public String getTitle() { return title; }
+    public LocalDateTime getStartAt() { return startAt; }
+    public LocalDateTime getEndAt() { return endAt; }
+}
@@ -0,0 +1,50 @@
+package com.scheduleappdevelop2.schedule.event;
+
+import com.scheduleappdevelop2.schedule.entity.Schedule;
+
+/**
+ * ScheduleChangedEvent
+ * - 일정이 생성/수정/삭제되었음을 알리는 애플리케이션 이벤트.
+ * - ScheduleService가 트랜잭션 안에서 발행하고,
+ *   캐시/검색 인덱스 등 부가 기능은 @TransactionalEventListener로 커밋 이후에 반응한다.
+ * - 생성/수정 이벤트는 발행 시점의 제목/내용을 함께 담는다. (삭제는 null)
+ * - 유저별 캐시(캘린더 등)를 무효화할 수 있도록 작성자 ID는 항상 담는다.
+ */
+public class ScheduleChangedEvent {
+
+    /** 변경 종류 */
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Long scheduleId; // 변경된 일정 ID
+    private final Long ownerId;    // 일정 작성자 ID
+    private final Type type;       // 변경 종류
+    private final String title;    // 변경 후 제목
+    private final String content;  // 변경 후 내용
+
+    private ScheduleChangedEvent(Long scheduleId, Long ownerId, Type type, String title, String content) {
+        this.scheduleId = scheduleId;
+        this.ownerId = ownerId;
+        this.type = type;
+        this.title = title;
+        this.content = content;
+    }
+
+    public static ScheduleChangedEvent created(Schedule schedule) {
+        return new ScheduleChangedEvent(schedule.getId(), schedule.getUser().getId(), Type.CREATED, schedule.getTitle(), schedule.getContent());
+    }
+
+    public static ScheduleChangedEvent updated(Schedule schedule) {
+        return new ScheduleChangedEvent(schedule.getId(), schedule.getUser().getId(), Type.UPDATED, schedule.getTitle(), schedule.getContent());
+    }
+
+    public static ScheduleChangedEvent deleted(Long scheduleId, Long ownerId) {
+        return new ScheduleChangedEvent(scheduleId, ownerId, Type.DELETED, null, null);
+    }
+
+    //getter
+    public Long getScheduleId() { return scheduleId; }
+    public Long getOwnerId() { return ownerId; }
+    public Type getType() { return type; }
+    public String getTitle() { return title; }
+    public String getContent() { return content; }
+}
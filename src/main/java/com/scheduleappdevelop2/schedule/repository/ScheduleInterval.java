@@ -0,0 +1,19 @@
+package com.scheduleappdevelop2.schedule.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * ScheduleInterval
+ * - 캘린더 화면용 일정 프로젝션 (id, 제목, 시작/종료 시간).
+ * - 내용(content)과 작성자 정보는 읽지 않는다.
+ */
+public interface ScheduleInterval {
+
+    Long getId();
+
+    String getTitle();
+
+    LocalDateTime getStartAt();
+
+    LocalDateTime getEndAt();
+}
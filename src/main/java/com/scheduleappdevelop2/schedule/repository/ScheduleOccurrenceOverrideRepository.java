@@ -0,0 +1,53 @@
+package com.scheduleappdevelop2.schedule.repository;
+
+import com.scheduleappdevelop2.schedule.entity.ScheduleOccurrenceOverride;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ScheduleOccurrenceOverrideRepository
+ * - 반복 일정 발생별 변경 기록(ScheduleOccurrenceOverride) 조회/삭제.
+ */
+public interface ScheduleOccurrenceOverrideRepository extends JpaRepository<ScheduleOccurrenceOverride, Long> {
+
+    /**
+     * 발생 하나의 변경 기록 조회 (일정 ID + 원래 시작 시간, 유니크 인덱스 사용)
+     */
+    @Query("select o from ScheduleOccurrenceOverride o " +
+            "where o.schedule.id = :scheduleId and o.originalStartAt = :originalStartAt")
+    Optional<ScheduleOccurrenceOverride> findByScheduleIdAndOriginalStartAt(@Param("scheduleId") Long scheduleId,
+                                                                           @Param("originalStartAt") LocalDateTime originalStartAt);
+
+    /**
+     * 여러 시리즈의 기간 내 변경 기록 조회
+     * - 원래 시작 시간이 [lowerBound, upperBound) 인 기록만 (schedule_id, original_start_at) 인덱스로 읽는다.
+     */
+    @Query("select o from ScheduleOccurrenceOverride o " +
+            "where o.schedule.id in :scheduleIds " +
+            "and o.originalStartAt >= :lowerBound and o.originalStartAt < :upperBound")
+    List<ScheduleOccurrenceOverride> findAllInRange(@Param("scheduleIds") Collection<Long> scheduleIds,
+                                                    @Param("lowerBound") LocalDateTime lowerBound,
+                                                    @Param("upperBound") LocalDateTime upperBound);
+
+    /**
+     * 여러 시리즈의 변경 기록 전체 조회 (캘린더 캐시 적재용)
+     */
+    @Query("select o from ScheduleOccurrenceOverride o where o.schedule.id in :scheduleIds")
+    List<ScheduleOccurrenceOverride> findAllByScheduleIds(@Param("scheduleIds") Collection<Long> scheduleIds,
+                                                          Pageable pageable);
+
+    /**
+     * 시리즈의 변경 기록 일괄 삭제 (규칙/시간이 바뀌어 기존 발생 식별자가 무효가 되었을 때)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from ScheduleOccurrenceOverride o where o.schedule.id = :scheduleId")
+    int deleteByScheduleIdInBulk(@Param("scheduleId") Long scheduleId);
+}
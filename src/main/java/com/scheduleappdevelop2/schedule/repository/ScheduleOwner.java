@@ -0,0 +1,12 @@
+package com.scheduleappdevelop2.schedule.repository;
+
+/**
+ * ScheduleOwner
+ * - 여러 일정의 존재/작성자를 한 번에 확인할 때 쓰는 인터페이스 프로젝션. (일정 ID, 작성자 ID)
+ */
+public interface ScheduleOwner {
+
+    Long getId();
+
+    Long getOwnerId();
+}
@@ -0,0 +1,12 @@
+package com.scheduleappdevelop2.schedule.repository;
+
+/**
+ * SchedulePreview
+ * - 일정 내용의 앞부분(미리보기)만 담는 프로젝션.
+ */
+public interface SchedulePreview {
+
+    Long getId();
+
+    String getPreview();
+}
@@ -1,7 +1,22 @@
 package com.scheduleappdevelop2.schedule.repository;
 
 import com.scheduleappdevelop2.schedule.entity.Schedule;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * ScheduleRepository
@@ -9,4 +24,206 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * - JpaRepository<Schedule, Long> 상속만으로 save(), findAll(), findById(), deleteById() 같은 기능이 자동 생성된다.
  */
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
-}
\ No newline at end of file
+
+    /**
+     * 커서 목록 조회 - 첫 페이지
+     * - (createdAt, id) 내림차순으로 최신 일정부터 조회한다.
+     * - List 반환이므로 count 쿼리 없이 LIMIT 만 적용된다.
+     * - 작성자 이메일은 join 으로 같은 쿼리에서 가져오고, 내용(TEXT)은 조회하지 않는다.
+     */
+    @Query("select s.id as id, s.title as title, u.email as userEmail, " +
+            "s.createdAt as createdAt, s.modifiedAt as modifiedAt " +
+            "from Schedule s join s.user u " +
+            "order by s.createdAt desc, s.id desc")
+    List<ScheduleSummary> findSummaryFirstPage(Pageable pageable);
+
+    /**
+     * 커서 목록 조회 - 다음 페이지
+     * - 마지막으로 읽은 (createdAt, id) 보다 "뒤"에 있는 행만 조회한다(키셋 페이지네이션).
+     * - OFFSET을 쓰지 않으므로 몇 페이지를 넘기든 인덱스에서 바로 시작 위치를 찾는다.
+     */
+    @Query("select s.id as id, s.title as title, u.email as userEmail, " +
+            "s.createdAt as createdAt, s.modifiedAt as modifiedAt " +
+            "from Schedule s join s.user u " +
+            "where s.createdAt < :createdAt or (s.createdAt = :createdAt and s.id < :id) " +
+            "order by s.createdAt desc, s.id desc")
+    List<ScheduleSummary> findSummaryPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    /**
+     * 유저별 커서 목록 조회 - 첫 페이지
+     * - (user_id, created_at, id) 복합 인덱스를 따라 해당 유저의 최신 일정부터 읽는다.
+     */
+    @Query("select s.id as id, s.title as title, u.email as userEmail, " +
+            "s.createdAt as createdAt, s.modifiedAt as modifiedAt " +
+            "from Schedule s join s.user u " +
+            "where s.user.id = :userId " +
+            "order by s.createdAt desc, s.id desc")
+    List<ScheduleSummary> findSummaryFirstPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 유저별 커서 목록 조회 - 다음 페이지
+     * - 같은 유저 범위 안에서 마지막으로 읽은 (createdAt, id) 다음부터 읽는다.
+     */
+    @Query("select s.id as id, s.title as title, u.email as userEmail, " +
+            "s.createdAt as createdAt, s.modifiedAt as modifiedAt " +
+            "from Schedule s join s.user u " +
+            "where s.user.id = :userId " +
+            "and (s.createdAt < :createdAt or (s.createdAt = :createdAt and s.id < :id)) " +
+            "order by s.createdAt desc, s.id desc")
+    List<ScheduleSummary> findSummaryPageAfterByUserId(@Param("userId") Long userId,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("id") Long id,
+                                                       Pageable pageable);
+
+    /**
+     * ID 목록으로 요약 조회 (검색 결과 조회용)
+     */
+    @Query("select s.id as id, s.title as title, u.email as userEmail, " +
+            "s.createdAt as createdAt, s.modifiedAt as modifiedAt " +
+            "from Schedule s join s.user u where s.id in :ids")
+    List<ScheduleSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 내용 미리보기 조회
+     * - 목록에서 미리보기를 요청한 경우에만, 해당 페이지 일정들의 내용 앞 100자만 잘라서 가져온다.
+     */
+    @Query("select s.id as id, substring(s.content, 1, 100) as preview from Schedule s where s.id in :ids")
+    List<SchedulePreview> findPreviewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 유저의 일정 스트리밍 조회 (내보내기 전용)
+     * - 결과를 List로 한 번에 만들지 않고 JDBC 커서로 fetch size 만큼씩 가져온다.
+     * - MySQL은 useCursorFetch=true 설정이 있어야 fetch size 단위로 끊어 읽는다.
+     * - 읽기 전용 힌트로 스냅샷(dirty checking용 사본)을 만들지 않는다.
+     * - 반드시 트랜잭션 안에서 사용하고, try-with-resources 로 닫아야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select s from Schedule s join fetch s.user where s.user.id = :userId order by s.id")
+    Stream<Schedule> streamAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * ETag 계산용 버전 조회
+     * - 엔티티를 만들지 않고 작성자 ID(FK 컬럼)와 버전만 PK로 조회한다.
+     */
+    @Query("select s.user.id as ownerId, s.version as version from Schedule s where s.id = :id")
+    Optional<ScheduleVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * 검색 인덱스 재구성용 스트리밍 조회
+     * - 엔티티 대신 (id, title, content) 프로젝션만 fetch size 단위로 읽는다.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select s.id as id, s.title as title, s.content as content from Schedule s")
+    Stream<ScheduleText> streamAllTexts();
+
+    /**
+     * 일정 + 작성자 단건 조회 (수정/단건 조회용)
+     * - 권한 검사와 응답 변환에 필요한 작성자를 같은 쿼리에서 가져온다.
+     */
+    @Query("select s from Schedule s join fetch s.user where s.id = :id")
+    Optional<Schedule> findWithUserById(@Param("id") Long id);
+
+    /**
+     * 권한 검사용 작성자 ID 조회
+     * - PK 인덱스로 user_id 컬럼 하나만 읽는다.
+     */
+    @Query("select s.user.id from Schedule s where s.id = :id")
+    Optional<Long> findOwnerIdById(@Param("id") Long id);
+
+    /**
+     * 여러 일정의 작성자 ID 조회 (동기화 요청 하나에서 가리키는 일정을 IN 조회 한 번으로 확인)
+     * - 없는 일정은 결과에서 빠진다.
+     */
+    @Query("select s.id as id, s.user.id as ownerId from Schedule s where s.id in :ids")
+    List<ScheduleOwner> findOwnersByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 유저별 기간 겹침 조회
+     * - [from, to) 구간과 겹치는(startAt < to 이고 endAt > from) 일정을 시작 시간 순으로 조회한다.
+     * - 반복 일정은 제외한다. (findSeriesOverlapping 으로 따로 조회해 발생을 계산)
+     * - 일정 길이는 Schedule.MAX_DURATION 이하이므로 startAt >= from - MAX_DURATION 하한을 함께 건다.
+     *   (user_id, start_at, end_at) 인덱스에서 좁은 범위만 읽고, end_at 조건도 인덱스 안에서 거른다.
+     */
+    @Query("select s.id as id, s.title as title, s.startAt as startAt, s.endAt as endAt " +
+            "from Schedule s " +
+            "where s.user.id = :userId and s.recurrence.frequency is null " +
+            "and s.startAt >= :lowerBound and s.startAt < :to and s.endAt > :from " +
+            "order by s.startAt asc, s.id asc")
+    List<ScheduleInterval> findIntervalsOverlapping(@Param("userId") Long userId,
+                                                    @Param("from") LocalDateTime from,
+                                                    @Param("to") LocalDateTime to,
+                                                    @Param("lowerBound") LocalDateTime lowerBound);
+
+    /**
+     * 유저의 시간 있는 일정 전체 조회 (캘린더 캐시 적재용)
+     * - (user_id, start_at) 인덱스 순서대로 읽는다.
+     * - 상한 + 1 건만 조회해서 상한을 넘는 유저는 캐시하지 않는다.
+     */
+    @Query("select s.id as id, s.title as title, s.startAt as startAt, s.endAt as endAt " +
+            "from Schedule s " +
+            "where s.user.id = :userId and s.startAt is not null and s.recurrence.frequency is null " +
+            "order by s.startAt asc, s.id asc")
+    List<ScheduleInterval> findIntervalsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 유저별 반복 일정(시리즈) 기간 조회
+     * - 첫 발생이 to 이전에 시작하고, 시리즈가 from 이후까지 이어지는(끝이 없거나 seriesEndAt > from) 규칙만 조회한다.
+     * - 발생은 원래 시간에서 MAX_DURATION 까지 옮길 수 있어 시리즈 기간 밖으로 나갈 수 있으므로,
+     *   호출하는 쪽은 조회 기간을 그만큼 넓혀서 넘긴다. (from - 2 * MAX_DURATION, to + MAX_DURATION)
+     * - 발생(occurrence)은 저장하지 않으므로 결과는 시리즈 수만큼이다.
+     */
+    @Query("select s.id as id, s.title as title, s.startAt as startAt, s.endAt as endAt, " +
+            "s.recurrence.frequency as frequency, s.recurrence.interval as recurrenceInterval, " +
+            "s.recurrence.count as recurrenceCount, s.recurrence.until as recurrenceUntil " +
+            "from Schedule s " +
+            "where s.user.id = :userId and s.recurrence.frequency is not null " +
+            "and s.startAt < :to and (s.seriesEndAt is null or s.seriesEndAt > :from)")
+    List<ScheduleSeries> findSeriesOverlapping(@Param("userId") Long userId,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to);
+
+    /**
+     * 유저의 반복 일정(시리즈) 전체 조회 (캘린더 캐시 적재용)
+     */
+    @Query("select s.id as id, s.title as title, s.startAt as startAt, s.endAt as endAt, " +
+            "s.recurrence.frequency as frequency, s.recurrence.interval as recurrenceInterval, " +
+            "s.recurrence.count as recurrenceCount, s.recurrence.until as recurrenceUntil " +
+            "from Schedule s " +
+            "where s.user.id = :userId and s.recurrence.frequency is not null " +
+            "order by s.id asc")
+    List<ScheduleSeries> findSeriesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 여러 유저의 기간 내 일정 시간 조회 (free/busy)
+     * - 단일 일정: findIntervalsOverlapping 과 같은 조건 (startAt 하한으로 인덱스 범위를 좁힌다)
+     * - 반복 시리즈: findSeriesOverlapping 과 같은 조건 (옮긴 발생을 위해 넓힌 seriesFrom / seriesTo 기준)
+     * - 두 종류를 한 번의 쿼리로 읽는다. 제목/내용 대신 시간과 규칙만 필요하지만 시리즈 변환을 위해 제목도 읽는다.
+     */
+    @Query("select s.id as id, s.user.id as userId, s.title as title, s.startAt as startAt, s.endAt as endAt, " +
+            "s.recurrence.frequency as frequency, s.recurrence.interval as recurrenceInterval, " +
+            "s.recurrence.count as recurrenceCount, s.recurrence.until as recurrenceUntil " +
+            "from Schedule s " +
+            "where s.user.id in :userIds and s.startAt is not null " +
+            "and ((s.recurrence.frequency is null and s.startAt >= :lowerBound and s.startAt < :to and s.endAt > :from) " +
+            "or (s.recurrence.frequency is not null and s.startAt < :seriesTo " +
+            "and (s.seriesEndAt is null or s.seriesEndAt > :seriesFrom)))")
+    List<UserScheduleInterval> findUserIntervalsOverlapping(@Param("userIds") Collection<Long> userIds,
+                                                            @Param("from") LocalDateTime from,
+                                                            @Param("to") LocalDateTime to,
+                                                            @Param("lowerBound") LocalDateTime lowerBound,
+                                                            @Param("seriesFrom") LocalDateTime seriesFrom,
+                                                            @Param("seriesTo") LocalDateTime seriesTo);
+
+    /**
+     * PK 기준 DELETE 한 번으로 삭제
+     * - deleteById()처럼 엔티티를 먼저 조회하지 않는다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Schedule s where s.id = :id")
+    int deleteByIdInBulk(@Param("id") Long id);
+}
@@ -0,0 +1,29 @@
+package com.scheduleappdevelop2.schedule.repository;
+
+import com.scheduleappdevelop2.schedule.entity.RecurrenceRule;
+
+import java.time.LocalDateTime;
+
+/**
+ * ScheduleSeries
+ * - 캘린더 화면용 반복 일정 프로젝션 (첫 발생 시간 + 반복 규칙).
+ * - 내용(content)과 작성자 정보는 읽지 않는다.
+ */
+public interface ScheduleSeries {
+
+    Long getId();
+
+    String getTitle();
+
+    LocalDateTime getStartAt();
+
+    LocalDateTime getEndAt();
+
+    RecurrenceRule.Frequency getFrequency();
+
+    Integer getRecurrenceInterval();
+
+    Integer getRecurrenceCount();
+
+    LocalDateTime getRecurrenceUntil();
+}
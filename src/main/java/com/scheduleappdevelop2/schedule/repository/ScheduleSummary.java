@@ -0,0 +1,21 @@
+package com.scheduleappdevelop2.schedule.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * ScheduleSummary
+ * - 목록 화면용 일정 요약 프로젝션 (내용 content 제외).
+ * - TEXT 컬럼을 읽지 않으므로 목록 쿼리/응답/힙 사용량이 내용 길이에 영향을 받지 않는다.
+ */
+public interface ScheduleSummary {
+
+    Long getId();
+
+    String getTitle();
+
+    String getUserEmail();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getModifiedAt();
+}
@@ -0,0 +1,14 @@
+package com.scheduleappdevelop2.schedule.repository;
+
+/**
+ * ScheduleText
+ * - 검색 인덱스 재구성에 필요한 값(id, 제목, 내용)만 담는 인터페이스 프로젝션.
+ */
+public interface ScheduleText {
+
+    Long getId();
+
+    String getTitle();
+
+    String getContent();
+}
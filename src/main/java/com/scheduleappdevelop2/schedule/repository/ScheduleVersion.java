@@ -0,0 +1,13 @@
+package com.scheduleappdevelop2.schedule.repository;
+
+/**
+ * ScheduleVersion
+ * - ETag 계산에 필요한 값(작성자 ID, 엔티티 버전)만 담는 인터페이스 프로젝션.
+ * - 엔티티를 만들지 않고 필요한 컬럼만 조회하기 위해 사용한다.
+ */
+public interface ScheduleVersion {
+
+    Long getOwnerId();
+
+    Long getVersion();
+}
@@ -0,0 +1,12 @@
+package com.scheduleappdevelop2.schedule.repository;
+
+/**
+ * UserScheduleInterval
+ * - 여러 유저의 일정 시간 조회(free/busy)용 프로젝션.
+ * - 단일 일정과 반복 시리즈를 한 쿼리로 읽으므로 작성자 ID와 반복 규칙 컬럼을 함께 담는다.
+ *   (단일 일정이면 frequency 가 null)
+ */
+public interface UserScheduleInterval extends ScheduleSeries {
+
+    Long getUserId();
+}
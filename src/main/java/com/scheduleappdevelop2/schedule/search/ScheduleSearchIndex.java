@@ -0,0 +1,267 @@
+package com.scheduleappdevelop2.schedule.search;
+
+import com.scheduleappdevelop2.schedule.event.ScheduleChangedEvent;
+import com.scheduleappdevelop2.schedule.repository.ScheduleRepository;
+import com.scheduleappdevelop2.schedule.repository.ScheduleText;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * ScheduleSearchIndex
+ * - 일정 제목/내용에 대한 프로세스 내 역색인(inverted index).
+ * - "단어 → (일정 ID → 가중치)" 형태의 포스팅 목록을 메모리에 유지한다.
+ * - 애플리케이션 시작 시 DB에서 한 번 전체 재구성하고,
+ *   이후에는 일정 생성/수정/삭제 이벤트(커밋 이후)로 증분 갱신한다.
+ * - 검색어의 모든 단어를 포함하는 일정만 TF-IDF 점수 순으로 반환한다.
+ */
+@Slf4j
+@Component
+public class ScheduleSearchIndex {
+
+    /** 제목에서 나온 단어는 내용보다 가중치를 높게 준다 */
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CONTENT_WEIGHT = 1;
+
+    /** 검색어가 단어의 앞부분만 일치할 때(접두어 일치) 점수 비율 */
+    private static final double PREFIX_MATCH_RATIO = 0.5;
+
+    private final ScheduleRepository scheduleRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 단어 → (일정 ID → 가중치). 접두어 검색을 위해 정렬된 맵을 사용한다. */
+    private TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+
+    /** 일정 ID → (단어 → 가중치). 수정/삭제 시 기존 포스팅을 지우기 위한 역참조. */
+    private Map<Long, Map<String, Integer>> documents = new HashMap<>();
+
+    /** 전체 재구성 중에 들어온 변경 이벤트. 재구성 결과에 다시 적용한다. */
+    private List<ScheduleChangedEvent> pendingDuringRebuild;
+
+    public ScheduleSearchIndex(ScheduleRepository scheduleRepository) {
+        this.scheduleRepository = scheduleRepository;
+    }
+
+    /**
+     * 전체 재구성
+     * - 애플리케이션 기동 완료 시 DB의 (id, title, content)를 스트리밍으로 읽어 새 인덱스를 만든다.
+     * - 만드는 동안 들어온 변경 이벤트는 따로 모아 두었다가 교체 직후 다시 적용한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        TreeMap<String, Map<Long, Integer>> newPostings = new TreeMap<>();
+        Map<Long, Map<String, Integer>> newDocuments = new HashMap<>();
+        try (Stream<ScheduleText> texts = scheduleRepository.streamAllTexts()) {
+            texts.forEach(text -> add(newPostings, newDocuments, text.getId(), text.getTitle(), text.getContent()));
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documents = newDocuments;
+            pendingDuringRebuild.forEach(this::apply);
+            pendingDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("일정 검색 인덱스 재구성 완료: documents = {}, terms = {}", newDocuments.size(), newPostings.size());
+    }
+
+    /**
+     * 일정 변경 이벤트 수신 (커밋 이후)
+     * - 생성/수정이면 기존 포스팅을 지우고 새로 넣고, 삭제면 지우기만 한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색
+     * - 검색어를 단어로 나누고, 모든 단어를 포함(정확 일치 또는 접두어 일치)하는 일정만 남긴다.
+     * - 점수는 단어별 (가중치 × IDF) 합이며, 점수가 높은 순으로 최대 limit 건을 반환한다.
+     */
+    public List<SearchHit> search(String query, int limit) {
+
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int totalDocuments = documents.size();
+            Map<Long, Double> scores = null;
+
+            for (String term : terms.stream().distinct().toList()) {
+                Map<Long, Double> termScores = scoreTerm(term, totalDocuments);
+
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    // 모든 단어를 포함하는 일정만 남긴다 (AND 검색)
+                    Map<Long, Double> merged = new HashMap<>();
+                    for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                        Double other = termScores.get(entry.getKey());
+                        if (other != null) merged.put(entry.getKey(), entry.getValue() + other);
+                    }
+                    scores = merged;
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            return topHits(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== 내부 구현 =====
+
+    private void apply(ScheduleChangedEvent event) {
+        remove(event.getScheduleId());
+        if (event.getType() != ScheduleChangedEvent.Type.DELETED) {
+            add(postings, documents, event.getScheduleId(), event.getTitle(), event.getContent());
+        }
+    }
+
+    private static void add(TreeMap<String, Map<Long, Integer>> postings,
+                            Map<Long, Map<String, Integer>> documents,
+                            Long id, String title, String content) {
+
+        Map<String, Integer> weights = new HashMap<>();
+        for (String term : tokenize(title)) weights.merge(term, TITLE_WEIGHT, Integer::sum);
+        for (String term : tokenize(content)) weights.merge(term, CONTENT_WEIGHT, Integer::sum);
+
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(id, weight));
+        documents.put(id, weights);
+    }
+
+    private void remove(Long id) {
+        Map<String, Integer> weights = documents.remove(id);
+        if (weights == null) return;
+
+        for (String term : weights.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) continue;
+            posting.remove(id);
+            if (posting.isEmpty()) postings.remove(term);
+        }
+    }
+
+    /** 한 단어에 대한 일정별 점수 (정확 일치 + 접두어 일치) */
+    private Map<Long, Double> scoreTerm(String term, int totalDocuments) {
+        Map<Long, Double> scores = new HashMap<>();
+
+        NavigableMap<String, Map<Long, Integer>> matches =
+                postings.subMap(term, true, term + Character.MAX_VALUE, false);
+
+        for (Map.Entry<String, Map<Long, Integer>> match : matches.entrySet()) {
+            Map<Long, Integer> posting = match.getValue();
+            double idf = Math.log(1.0 + (double) totalDocuments / posting.size());
+            double ratio = match.getKey().equals(term) ? 1.0 : PREFIX_MATCH_RATIO;
+
+            // 한 일정이 여러 접두어 일치 단어를 가지면 가장 높은 점수만 사용한다
+            posting.forEach((id, weight) -> scores.merge(id, weight * idf * ratio, Math::max));
+        }
+        return scores;
+    }
+
+    private static List<SearchHit> topHits(Map<Long, Double> scores, int limit) {
+        Comparator<SearchHit> byScore = Comparator.comparingDouble(SearchHit::getScore)
+                .thenComparing(SearchHit::getScheduleId);
+
+        // 상위 limit 건만 유지하는 최소 힙
+        PriorityQueue<SearchHit> heap = new PriorityQueue<>(byScore);
+        scores.forEach((id, score) -> {
+            heap.offer(new SearchHit(id, score));
+            if (heap.size() > limit) heap.poll();
+        });
+
+        List<SearchHit> hits = new ArrayList<>(heap);
+        hits.sort(byScore.reversed());
+        return hits;
+    }
+
+    /** 소문자로 바꾼 뒤 글자/숫자가 아닌 문자를 기준으로 단어를 나눈다 (한글 포함). */
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) return terms;
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean letter = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                terms.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 검색 결과 한 건 (일정 ID와 점수)
+     */
+    public static class SearchHit {
+
+        private final Long scheduleId;
+        private final double score;
+
+        public SearchHit(Long scheduleId, double score) {
+            this.scheduleId = scheduleId;
+            this.score = score;
+        }
+
+        public Long getScheduleId() { return scheduleId; }
+        public double getScore() { return score; }
+    }
+}
@@ -0,0 +1,128 @@
+package com.scheduleappdevelop2.schedule.service;
+
+import com.scheduleappdevelop2.global.exception.CustomException;
+import com.scheduleappdevelop2.schedule.calendar.FreeBusyCalculator;
+import com.scheduleappdevelop2.schedule.calendar.RecurringSeries;
+import com.scheduleappdevelop2.schedule.calendar.TimeBlock;
+import com.scheduleappdevelop2.schedule.dto.freeBusy.FreeBusyRequest;
+import com.scheduleappdevelop2.schedule.dto.freeBusy.FreeBusyResponse;
+import com.scheduleappdevelop2.schedule.entity.Schedule;
+import com.scheduleappdevelop2.schedule.entity.ScheduleOccurrenceOverride;
+import com.scheduleappdevelop2.schedule.repository.ScheduleOccurrenceOverrideRepository;
+import com.scheduleappdevelop2.schedule.repository.ScheduleRepository;
+import com.scheduleappdevelop2.schedule.repository.UserScheduleInterval;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.scheduleappdevelop2.global.exception.ErrorCode.INVALID_INPUT_VALUE;
+
+/**
+ * FreeBusyService
+ * - 여러 유저의 바쁜 시간과 공통 빈 시간을 계산한다. (회의 시간 잡기용)
+ * - 모든 유저의 기간 내 일정(단일 일정 + 반복 시리즈)을 한 번의 쿼리로 읽고,
+ *   반복 일정은 기간 안의 발생만 계산한 뒤 FreeBusyCalculator 스윕 라인으로 합친다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FreeBusyService {
+
+    /** 한 번에 조회할 수 있는 최대 유저 수 */
+    private static final int MAX_USERS = 100;
+
+    /** 조회 기간 상한 (캘린더 조회와 같다) */
+    private static final Duration MAX_WINDOW = Duration.ofDays(93);
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleOccurrenceOverrideRepository occurrenceOverrideRepository;
+
+    /**
+     * free/busy 조회
+     * - 존재하지 않는 유저 ID는 일정이 없는 유저로 취급한다.
+     * - 유저별 바쁜 구간은 요청한 유저 순서대로 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public FreeBusyResponse checkFreeBusy(FreeBusyRequest requestData) {
+
+        // 1) 요청 검증
+        LocalDateTime from = requestData.getFrom();
+        LocalDateTime to = requestData.getTo();
+        List<Long> requestedIds = requestData.getUserIds();
+        if (requestedIds == null || requestedIds.isEmpty() || requestedIds.contains(null)
+                || from == null || to == null || !to.isAfter(from)
+                || Duration.between(from, to).compareTo(MAX_WINDOW) > 0) {
+            throw new CustomException(INVALID_INPUT_VALUE);
+        }
+        Set<Long> userIds = new LinkedHashSet<>(requestedIds);
+        if (userIds.size() > MAX_USERS) {
+            throw new CustomException(INVALID_INPUT_VALUE);
+        }
+        int minFreeMinutes = requestData.getMinFreeMinutes() == null ? 0 : requestData.getMinFreeMinutes();
+        if (minFreeMinutes < 0) {
+            throw new CustomException(INVALID_INPUT_VALUE);
+        }
+
+        // 2) 모든 유저의 기간 내 일정 시간 조회 (한 번의 쿼리)
+        // - 반복 시리즈는 옮긴 발생이 시리즈 기간 밖에 있을 수 있으므로 캘린더 조회와 같이 넓힌 기간으로 거른다
+        List<UserScheduleInterval> rows = scheduleRepository
+                .findUserIntervalsOverlapping(userIds, from, to, from.minus(Schedule.MAX_DURATION),
+                        from.minus(Schedule.MAX_DURATION.multipliedBy(2)), to.plus(Schedule.MAX_DURATION));
+
+        // 3) 유저별 구간 목록 (반복 일정은 기간 안의 발생으로 펼친다)
+        Map<Long, List<ScheduleOccurrenceOverride>> overrides = findOverrides(rows, from, to);
+        Map<Long, List<TimeBlock>> blocksByUser = new LinkedHashMap<>();
+        userIds.forEach(userId -> blocksByUser.put(userId, new ArrayList<>()));
+        for (UserScheduleInterval row : rows) {
+            List<TimeBlock> blocks = blocksByUser.get(row.getUserId());
+            if (row.getFrequency() == null) {
+                blocks.add(TimeBlock.of(row.getStartAt(), row.getEndAt()));
+            } else {
+                RecurringSeries.of(row, overrides.getOrDefault(row.getId(), List.of()))
+                        .occurrences(from, to)
+                        .forEach(occurrence -> blocks.add(TimeBlock.of(occurrence.getStartAt(), occurrence.getEndAt())));
+            }
+        }
+
+        // 4) 스윕 라인으로 유저별 바쁜 구간 / 전체 바쁜 구간 → 공통 빈 구간
+        List<FreeBusyResponse.UserBusy> busy = new ArrayList<>();
+        List<TimeBlock> everyone = new ArrayList<>();
+        blocksByUser.forEach((userId, blocks) -> {
+            List<TimeBlock> merged = FreeBusyCalculator.mergeBusy(blocks, from, to);
+            busy.add(new FreeBusyResponse.UserBusy(userId, merged));
+            everyone.addAll(merged);
+        });
+        List<TimeBlock> free = FreeBusyCalculator.freeSlots(
+                FreeBusyCalculator.mergeBusy(everyone, from, to), from, to, Duration.ofMinutes(minFreeMinutes));
+
+        return FreeBusyResponse.of(from, to, busy, free);
+    }
+
+    /**
+     * 반복 시리즈의 발생별 변경 기록 조회 (시리즈가 있을 때만 한 번)
+     * - 옮긴 발생은 원래 시간에서 MAX_DURATION 이내이므로 캘린더 조회와 같은 범위만 읽는다.
+     */
+    private Map<Long, List<ScheduleOccurrenceOverride>> findOverrides(List<UserScheduleInterval> rows,
+                                                                     LocalDateTime from, LocalDateTime to) {
+        List<Long> seriesIds = rows.stream()
+                .filter(row -> row.getFrequency() != null)
+                .map(UserScheduleInterval::getId)
+                .toList();
+        if (seriesIds.isEmpty()) {
+            return Map.of();
+        }
+        return occurrenceOverrideRepository
+                .findAllInRange(seriesIds, from.minus(Schedule.MAX_DURATION.multipliedBy(2)), to.plus(Schedule.MAX_DURATION))
+                .stream()
+                .collect(Collectors.groupingBy(override -> override.getSchedule().getId()));
+    }
+}
@@ -0,0 +1,60 @@
+package com.scheduleappdevelop2.schedule.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scheduleappdevelop2.schedule.dto.checkSchedule.ScheduleResponse;
+import com.scheduleappdevelop2.schedule.entity.Schedule;
+import com.scheduleappdevelop2.schedule.repository.ScheduleRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * ScheduleExportService
+ * - 로그인한 유저의 일정을 NDJSON(한 줄에 JSON 하나) 형식으로 내보내는 서비스.
+ * - 다른 유저의 일정 내용/이메일이 나가지 않도록 본인 일정만 내보낸다.
+ * - 조회 결과를 리스트로 모으지 않고, 한 행씩 읽어 바로 출력 스트림에 쓴다.
+ * - 일정 건수가 늘어나도 힙 사용량이 일정하게 유지되도록 하는 것이 목적이다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleExportService {
+
+    /** 이 건수마다 영속성 컨텍스트를 비우고 출력 버퍼를 내보낸다 */
+    private static final int CLEAR_INTERVAL = 1000;
+
+    private final ScheduleRepository scheduleRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 유저의 일정 내보내기
+     * - 스트림으로 한 건씩 읽어 ScheduleResponse로 변환한 뒤 한 줄씩 기록한다.
+     * - 읽은 엔티티가 1차 캐시에 계속 쌓이지 않도록 주기적으로 clear() 한다.
+     * - 기록한 일정 수를 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public long exportAll(Long userId, OutputStream out) throws IOException {
+
+        long count = 0;
+        try (Stream<Schedule> schedules = scheduleRepository.streamAllByUserId(userId)) {
+            Iterator<Schedule> iterator = schedules.iterator();
+            while (iterator.hasNext()) {
+                out.write(objectMapper.writeValueAsBytes(ScheduleResponse.from(iterator.next())));
+                out.write('\n');
+
+                if (++count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                    out.flush();
+                }
+            }
+        }
+        out.flush();
+        return count;
+    }
+}
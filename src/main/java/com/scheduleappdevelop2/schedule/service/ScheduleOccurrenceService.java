@@ -0,0 +1,106 @@
+package com.scheduleappdevelop2.schedule.service;
+
+import com.scheduleappdevelop2.global.exception.CustomException;
+import com.scheduleappdevelop2.schedule.dto.recurrenceSchedule.OccurrenceOverrideRequest;
+import com.scheduleappdevelop2.schedule.dto.recurrenceSchedule.OccurrenceOverrideResponse;
+import com.scheduleappdevelop2.schedule.entity.Schedule;
+import com.scheduleappdevelop2.schedule.entity.ScheduleOccurrenceOverride;
+import com.scheduleappdevelop2.schedule.event.ScheduleChangedEvent;
+import com.scheduleappdevelop2.schedule.repository.ScheduleOccurrenceOverrideRepository;
+import com.scheduleappdevelop2.schedule.repository.ScheduleRepository;
+import com.scheduleappdevelop2.user.dto.sessionUser.SessionUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static com.scheduleappdevelop2.global.exception.ErrorCode.*;
+
+/**
+ * ScheduleOccurrenceService
+ * - 반복 일정의 발생(occurrence) 하나만 수정/취소하거나, 그 변경을 되돌린다.
+ * - 발생은 (일정 ID, 원래 시작 시간)으로 식별하며, 원래 시작 시간이 규칙상 실제 발생인지 검증한다.
+ * - 변경 후에는 ScheduleChangedEvent(UPDATED)를 발행해 커밋 이후 캘린더 캐시를 무효화한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleOccurrenceService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleOccurrenceOverrideRepository occurrenceOverrideRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 발생 수정/취소 (없으면 생성, 있으면 덮어쓰기)
+     * - 옮긴 시간은 유효한 기간이어야 하고, 원래 시작 시간에서 Schedule.MAX_DURATION 이내여야 한다.
+     */
+    @Transactional
+    public OccurrenceOverrideResponse overrideOccurrence(Long scheduleId, LocalDateTime originalStartAt,
+                                                         OccurrenceOverrideRequest requestData, SessionUser sessionUser) {
+
+        Schedule schedule = ownedSeries(scheduleId, originalStartAt, sessionUser);
+
+        // 옮긴 시간 검증 (한쪽만 보내면 원래 시간/길이로 채워서 검증)
+        if (!requestData.isCancelled()) {
+            if (requestData.getTitle() != null && (requestData.getTitle().isBlank() || requestData.getTitle().length() > 100)) {
+                throw new CustomException(INVALID_INPUT_VALUE);
+            }
+            LocalDateTime startAt = requestData.getStartAt() != null ? requestData.getStartAt() : originalStartAt;
+            LocalDateTime endAt = requestData.getEndAt() != null ? requestData.getEndAt() : startAt.plus(schedule.length());
+            if (!Schedule.isValidPeriod(startAt, endAt)
+                    || Duration.between(originalStartAt, startAt).abs().compareTo(Schedule.MAX_DURATION) > 0) {
+                throw new CustomException(INVALID_INPUT_VALUE);
+            }
+        }
+
+        ScheduleOccurrenceOverride override = occurrenceOverrideRepository
+                .findByScheduleIdAndOriginalStartAt(scheduleId, originalStartAt)
+                .orElseGet(() -> occurrenceOverrideRepository.save(ScheduleOccurrenceOverride.of(schedule, originalStartAt)));
+
+        if (requestData.isCancelled()) {
+            override.apply(null, null, null, true);
+        } else {
+            override.apply(requestData.getTitle(), requestData.getStartAt(), requestData.getEndAt(), false);
+        }
+
+        eventPublisher.publishEvent(ScheduleChangedEvent.updated(schedule));
+        return OccurrenceOverrideResponse.from(override, schedule);
+    }
+
+    /**
+     * 발생 변경 되돌리기 (변경 기록 삭제)
+     */
+    @Transactional
+    public void restoreOccurrence(Long scheduleId, LocalDateTime originalStartAt, SessionUser sessionUser) {
+
+        Schedule schedule = ownedSeries(scheduleId, originalStartAt, sessionUser);
+
+        ScheduleOccurrenceOverride override = occurrenceOverrideRepository
+                .findByScheduleIdAndOriginalStartAt(scheduleId, originalStartAt)
+                .orElseThrow(() -> new CustomException(SCHEDULE_NOT_FOUND));
+        occurrenceOverrideRepository.delete(override);
+
+        eventPublisher.publishEvent(ScheduleChangedEvent.updated(schedule));
+    }
+
+    /**
+     * 본인 반복 일정 + 실제 발생인지 확인
+     */
+    private Schedule ownedSeries(Long scheduleId, LocalDateTime originalStartAt, SessionUser sessionUser) {
+
+        Schedule schedule = scheduleRepository.findWithUserById(scheduleId)
+                .orElseThrow(() -> new CustomException(SCHEDULE_NOT_FOUND));
+
+        if (!schedule.getUser().getId().equals(sessionUser.getId())) {
+            throw new CustomException(NOT_VALID_OWNER);
+        }
+        if (!schedule.isRecurring() || originalStartAt == null
+                || !schedule.getRecurrence().isOccurrence(schedule.getStartAt(), originalStartAt)) {
+            throw new CustomException(INVALID_INPUT_VALUE);
+        }
+        return schedule;
+    }
+}
@@ -1,21 +1,60 @@
 package com.scheduleappdevelop2.schedule.service;
 
+import com.scheduleappdevelop2.comment.repository.CommentCount;
+import com.scheduleappdevelop2.comment.repository.CommentListVersion;
+import com.scheduleappdevelop2.comment.repository.CommentRepository;
+import com.scheduleappdevelop2.global.pagination.Cursor;
+import com.scheduleappdevelop2.global.pagination.CursorPageResponse;
+import com.scheduleappdevelop2.global.pagination.PageSize;
+import com.scheduleappdevelop2.global.web.ETags;
 import com.scheduleappdevelop2.schedule.dto.UpdateSchedule.UpdateScheduleRequest;
 import com.scheduleappdevelop2.schedule.dto.UpdateSchedule.UpdateScheduleResponse;
+import com.scheduleappdevelop2.schedule.dto.bulkCreateSchedule.BulkCreateScheduleRequest;
+import com.scheduleappdevelop2.schedule.dto.bulkCreateSchedule.BulkCreateScheduleResponse;
+import com.scheduleappdevelop2.schedule.dto.calendarSchedule.CalendarScheduleResponse;
 import com.scheduleappdevelop2.schedule.dto.createSchedule.CreateScheduleRequest;
 import com.scheduleappdevelop2.schedule.dto.createSchedule.CreateScheduleResponse;
 import com.scheduleappdevelop2.schedule.dto.checkSchedule.ScheduleResponse;
+import com.scheduleappdevelop2.schedule.dto.checkSchedule.ScheduleSummaryResponse;
+import com.scheduleappdevelop2.schedule.dto.recurrenceSchedule.RecurrenceRequest;
+import com.scheduleappdevelop2.schedule.cache.ScheduleViewCache;
+import com.scheduleappdevelop2.schedule.calendar.IntervalTree;
+import com.scheduleappdevelop2.schedule.calendar.RecurringSeries;
+import com.scheduleappdevelop2.schedule.calendar.UserCalendar;
+import com.scheduleappdevelop2.schedule.calendar.UserCalendarCache;
+import com.scheduleappdevelop2.schedule.dto.searchSchedule.ScheduleSearchResponse;
 import com.scheduleappdevelop2.schedule.entity.Schedule;
+import com.scheduleappdevelop2.schedule.entity.ScheduleOccurrenceOverride;
+import com.scheduleappdevelop2.schedule.event.ScheduleChangedEvent;
+import com.scheduleappdevelop2.schedule.repository.ScheduleInterval;
+import com.scheduleappdevelop2.schedule.repository.ScheduleOccurrenceOverrideRepository;
+import com.scheduleappdevelop2.schedule.repository.SchedulePreview;
 import com.scheduleappdevelop2.schedule.repository.ScheduleRepository;
+import com.scheduleappdevelop2.schedule.repository.ScheduleSeries;
+import com.scheduleappdevelop2.schedule.repository.ScheduleSummary;
+import com.scheduleappdevelop2.schedule.repository.ScheduleVersion;
+import com.scheduleappdevelop2.schedule.search.ScheduleSearchIndex;
 import com.scheduleappdevelop2.user.dto.sessionUser.SessionUser;
 import com.scheduleappdevelop2.user.entity.User;
 import com.scheduleappdevelop2.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+import static com.scheduleappdevelop2.global.exception.ErrorCode.PRECONDITION_FAILED;
 import static com.scheduleappdevelop2.global.exception.ErrorMessage.*;
 
 /**
@@ -28,16 +67,30 @@ import static com.scheduleappdevelop2.global.exception.ErrorMessage.*;
 @RequiredArgsConstructor
 public class ScheduleService {
 
+    /** 일괄 생성 한 번에 받을 수 있는 최대 건수 */
+    private static final int MAX_BULK_SIZE = 500;
+
+    /** 캘린더 조회 한 번에 요청할 수 있는 최대 기간 (분기 보기 + 앞뒤 여유) */
+    private static final Duration MAX_CALENDAR_WINDOW = Duration.ofDays(93);
+
     private final ScheduleRepository scheduleRepository;
+    private final ScheduleOccurrenceOverrideRepository occurrenceOverrideRepository;
     private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
+    private final ScheduleViewCache scheduleViewCache;
+    private final ScheduleSearchIndex scheduleSearchIndex;
+    private final UserCalendarCache userCalendarCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 일정 생성
      * - 입력 데이터(title, content)를 검증한 뒤 DB에 새 일정(Schedule)을 저장한다.
      * - sessionUser.id로 실제 User 엔티티를 찾아 일정 작성자로 연결한다.
      * - 저장된 엔티티를 CreateScheduleResponse DTO로 변환해 반환한다.
+     * - 검증/권한 실패(CustomException)는 아무것도 쓰기 전에 던지므로 롤백 표시를 남기지 않는다.
+     *   (동기화처럼 바깥 트랜잭션에서 여러 작업을 이어서 호출할 때, 실패한 작업만 건너뛰고 나머지는 커밋되도록. 수정/삭제도 같다)
      */
-    @Transactional
+    @Transactional(noRollbackFor = CustomException.class)
     public CreateScheduleResponse createSchedule(CreateScheduleRequest requestData, SessionUser sessionUser) {
 
         // 요청 데이터 검증 (비어있는 값이 있으면 바로 예외 발생)
@@ -47,121 +100,526 @@ public class ScheduleService {
         if (requestData.getContent() == null || requestData.getContent().isBlank()) {
             throw new CustomException(INVALID_INPUT);
         }
+        if (!Schedule.isValidPeriod(requestData.getStartAt(), requestData.getEndAt())) {
+            throw new CustomException(INVALID_INPUT);
+        }
+        RecurrenceRequest recurrence = requestData.getRecurrence();
+        if (recurrence != null && !recurrence.isValidFor(requestData.getStartAt(), requestData.getEndAt())) {
+            throw new CustomException(INVALID_INPUT);
+        }
 
-        // 로그인한 유저 엔티티 조회
-        User user = userRepository.findById(sessionUser.getId())
-                .orElseThrow(()-> new CustomException(DATA_NOT_FOUND));
+        // 로그인한 유저는 ID 참조(프록시)만 건다 (작성자 FK만 필요하므로 엔티티를 만들지 않는다)
+        User user = author(sessionUser);
 
         // 엔티티에 데이터 넣기 (of() 사용)
         Schedule schedule = Schedule.of(
                 requestData.getTitle(),
                 requestData.getContent(),
-                user
+                user,
+                requestData.getStartAt(),
+                requestData.getEndAt()
         );
+        if (recurrence != null) {
+            schedule.changeRecurrence(recurrence.toRule());
+        }
 
         // 엔터티에 넣은 내용 DB에 저장하기
         Schedule saved = scheduleRepository.save(schedule);
+        eventPublisher.publishEvent(ScheduleChangedEvent.created(saved));
+
+        // 저장된 엔티티를 DTO로 변환해서 응답 (작성자 이메일은 세션 값을 쓴다 → 프록시 초기화 없음)
+        return CreateScheduleResponse.from(saved, sessionUser.getEmail());
+    }
+
+    /**
+     * 일정 일괄 생성
+     * - 최대 MAX_BULK_SIZE 건의 일정을 하나의 트랜잭션에서 생성한다.
+     * - 항목별로 검증하고, 실패한 항목은 사유만 기록한 뒤 나머지는 계속 생성한다.
+     * - ID를 pooled 시퀀스로 미리 받으므로 INSERT는 커밋 시점에 JDBC 배치(batch_size)로 묶여 나간다.
+     */
+    @Transactional
+    public BulkCreateScheduleResponse createSchedules(BulkCreateScheduleRequest requestData, SessionUser sessionUser) {
+
+        // 요청 목록 검증
+        List<CreateScheduleRequest> items = requestData.getSchedules();
+        if (items == null || items.isEmpty() || items.size() > MAX_BULK_SIZE) {
+            throw new CustomException(INVALID_INPUT);
+        }
+
+        // 로그인한 유저는 ID 참조(프록시)만 건다
+        User user = author(sessionUser);
+
+        // 항목별 검증 → 통과한 항목만 엔티티로 만든다
+        List<BulkCreateScheduleResponse.ItemResult> results = new ArrayList<>();
+        List<Schedule> schedules = new ArrayList<>();
+        for (int index = 0; index < items.size(); index++) {
+            CreateScheduleRequest item = items.get(index);
+            String error = validate(item);
+            if (error != null) {
+                results.add(BulkCreateScheduleResponse.ItemResult.failed(index, error));
+                continue;
+            }
+            Schedule schedule = Schedule.of(item.getTitle(), item.getContent(), user, item.getStartAt(), item.getEndAt());
+            if (item.getRecurrence() != null) {
+                schedule.changeRecurrence(item.getRecurrence().toRule());
+            }
+            schedules.add(schedule);
+            results.add(null); // 저장 후 ID로 채운다
+        }
+
+        // persist 시점에 ID가 할당된다 (INSERT는 flush 때 배치로 전송)
+        scheduleRepository.saveAll(schedules);
 
-        // 저장된 엔티티를 DTO로 변환해서 응답
-        return CreateScheduleResponse.from(saved);
+        int next = 0;
+        for (int index = 0; index < results.size(); index++) {
+            if (results.get(index) == null) {
+                Schedule saved = schedules.get(next++);
+                results.set(index, BulkCreateScheduleResponse.ItemResult.created(index, saved.getId()));
+                eventPublisher.publishEvent(ScheduleChangedEvent.created(saved));
+            }
+        }
+
+        return BulkCreateScheduleResponse.from(results);
     }
 
     /**
-     * 전체 일정 조회
-     * - 모든 Schedule 엔티티를 가져와 ScheduleResponse DTO 리스트로 변환하여 반환한다.
-     * - 단순 조회 작업이므로 readOnly 속성을 사용해 성능 최적화한다.
+     * 전체 일정 조회 (커서 페이지네이션)
+     * - 테이블 전체를 읽지 않고 (createdAt, id) 키셋 기준으로 size 건씩 끊어서 조회한다.
+     * - cursor가 없으면 첫 페이지, 있으면 해당 위치 다음부터 조회한다.
+     * - 다음 페이지 존재 여부 확인을 위해 size + 1 건을 조회한다.
+     * - 목록에는 내용(content) 대신 요약(ScheduleSummaryResponse)만 담는다.
+     * - withCommentCount / withPreview 가 true면 페이지 단위 쿼리 한 번씩으로 댓글 수 / 내용 미리보기를 붙인다.
      */
     @Transactional(readOnly = true)
-    public List<ScheduleResponse> checkAllSchedules() {
+    public CursorPageResponse<ScheduleSummaryResponse> checkAllSchedules(String cursor, Integer size,
+                                                                        boolean withCommentCount, boolean withPreview) {
+
+        // 1) 페이지 크기 보정 및 커서 해석
+        int pageSize = PageSize.clamp(size);
+        Cursor after = Cursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        // 2) 커서 위치 다음부터 size + 1 건 조회 (내용 컬럼 제외)
+        List<ScheduleSummary> rows = (after == null)
+                ? scheduleRepository.findSummaryFirstPage(limit)
+                : scheduleRepository.findSummaryPageAfter(after.getCreatedAt(), after.getId(), limit);
+
+        // 3) 요약 DTO 변환 + 다음 커서 생성
+        return toSummaryPage(rows, pageSize, withCommentCount, withPreview);
+    }
+
+    /**
+     * 유저별 일정 조회 (커서 페이지네이션)
+     * - 특정 유저가 작성한 일정만 최신순으로 size 건씩 조회한다.
+     * - (user_id, created_at, id) 인덱스를 사용하므로 전체 테이블 크기와 상관없이 페이지 크기만큼만 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ScheduleSummaryResponse> checkUserSchedules(Long userId, String cursor, Integer size,
+                                                                         boolean withCommentCount, boolean withPreview) {
+
+        // 첫 페이지에서만 유저 존재 여부 확인 (다음 페이지는 커서가 이미 유효한 목록을 가리킴)
+        Cursor after = Cursor.decode(cursor);
+        if (after == null && !userRepository.existsById(userId)) {
+            throw new CustomException(NOT_FOUND_USER);
+        }
+
+        int pageSize = PageSize.clamp(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<ScheduleSummary> rows = (after == null)
+                ? scheduleRepository.findSummaryFirstPageByUserId(userId, limit)
+                : scheduleRepository.findSummaryPageAfterByUserId(userId, after.getCreatedAt(), after.getId(), limit);
+
+        return toSummaryPage(rows, pageSize, withCommentCount, withPreview);
+    }
+
+    /**
+     * 유저별 캘린더 조회 (기간 겹침)
+     * - [from, to) 구간과 겹치는 일정(startAt < to 이고 endAt > from)을 시작 시간 순으로 반환한다.
+     * - 반복 일정은 발생(occurrence)을 저장하지 않고, 기간 안의 발생만 규칙으로 계산해 함께 반환한다.
+     * - 캘린더 캐시에 유저의 캘린더가 있으면 DB를 조회하지 않고 메모리에서 찾는다.
+     * - 캐시에 없으면 유저의 단일 일정/반복 시리즈를 한 번 읽어 캘린더를 만들고 캐시에 넣는다.
+     * - 캐시가 꺼져 있거나 일정이 너무 많은 유저는 기간에 걸리는 행만 인덱스 범위 조회로 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public List<CalendarScheduleResponse> checkCalendar(Long userId, LocalDateTime from, LocalDateTime to) {
+
+        // 기간 검증 (from < to, 최대 MAX_CALENDAR_WINDOW)
+        if (from == null || to == null || !to.isAfter(from)
+                || Duration.between(from, to).compareTo(MAX_CALENDAR_WINDOW) > 0) {
+            throw new CustomException(INVALID_INPUT);
+        }
+
+        UserCalendar calendar = userCalendarCache.isEnabled() ? loadCalendar(userId) : null;
+        if (calendar == null) {
+            calendar = loadCalendarWindow(userId, from, to);
+        }
+        List<CalendarScheduleResponse> schedules = calendar.query(from, to);
+
+        // 결과가 비었을 때만 유저 존재 여부 확인 (없는 유저는 유저별 목록 조회와 같이 예외)
+        if (schedules.isEmpty() && !userRepository.existsById(userId)) {
+            throw new CustomException(NOT_FOUND_USER);
+        }
+        return schedules;
+    }
+
+    /**
+     * 유저 캘린더 전체 조회 (캐시 → DB 순)
+     * - 단일 일정 + 시리즈 + 발생별 변경 기록 수가 상한을 넘는 유저는 캐시하지 않고 null을 반환한다.
+     */
+    private UserCalendar loadCalendar(Long userId) {
+
+        long generation = userCalendarCache.generation();
+        UserCalendar cached = userCalendarCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        int limit = userCalendarCache.maxIntervalsPerUser();
+        Pageable upToLimit = PageRequest.of(0, limit + 1);
+
+        List<ScheduleInterval> singles = scheduleRepository.findIntervalsByUserId(userId, upToLimit);
+        if (singles.size() > limit) {
+            return null;
+        }
+        List<ScheduleSeries> series = scheduleRepository.findSeriesByUserId(userId, upToLimit);
+        List<ScheduleOccurrenceOverride> overrides = series.isEmpty()
+                ? List.of()
+                : occurrenceOverrideRepository.findAllByScheduleIds(series.stream().map(ScheduleSeries::getId).toList(), upToLimit);
+        if (singles.size() + series.size() + overrides.size() > limit) {
+            return null;
+        }
+
+        UserCalendar calendar = toCalendar(singles, series, overrides);
+        userCalendarCache.putIfUnchanged(userId, calendar, generation);
+        return calendar;
+    }
+
+    /**
+     * 조회 기간에 걸리는 행만으로 캘린더 구성 (캐시 미사용)
+     * - 단일 일정: startAt >= from - MAX_DURATION 하한을 건 인덱스 범위 조회.
+     * - 반복 시리즈: 기간 전에 시작했고 아직 끝나지 않은 규칙만 조회.
+     *   옮긴 발생은 시리즈 기간 밖에 있을 수 있으므로 기간을 [from - 2 * MAX_DURATION, to + MAX_DURATION) 로 넓혀 조회한다.
+     * - 발생별 변경 기록: 옮긴 시간은 원래 시간에서 MAX_DURATION 이내이므로
+     *   원래 시작 시간이 [from - 2 * MAX_DURATION, to + MAX_DURATION) 인 기록만 읽으면 된다.
+     */
+    private UserCalendar loadCalendarWindow(Long userId, LocalDateTime from, LocalDateTime to) {
+
+        List<ScheduleInterval> singles = scheduleRepository
+                .findIntervalsOverlapping(userId, from, to, from.minus(Schedule.MAX_DURATION));
+        List<ScheduleSeries> series = scheduleRepository.findSeriesOverlapping(userId,
+                from.minus(Schedule.MAX_DURATION.multipliedBy(2)), to.plus(Schedule.MAX_DURATION));
+        List<ScheduleOccurrenceOverride> overrides = series.isEmpty()
+                ? List.of()
+                : occurrenceOverrideRepository.findAllInRange(
+                        series.stream().map(ScheduleSeries::getId).toList(),
+                        from.minus(Schedule.MAX_DURATION.multipliedBy(2)),
+                        to.plus(Schedule.MAX_DURATION));
+
+        return toCalendar(singles, series, overrides);
+    }
+
+    private UserCalendar toCalendar(List<ScheduleInterval> singles, List<ScheduleSeries> series,
+                                    List<ScheduleOccurrenceOverride> overrides) {
+
+        Map<Long, List<ScheduleOccurrenceOverride>> overridesBySeries = overrides.stream()
+                .collect(Collectors.groupingBy(override -> override.getSchedule().getId()));
+
+        return UserCalendar.of(
+                IntervalTree.of(singles.stream().map(CalendarScheduleResponse::from).toList()),
+                series.stream()
+                        .map(row -> RecurringSeries.of(row, overridesBySeries.getOrDefault(row.getId(), List.of())))
+                        .toList());
+    }
+
+    /**
+     * 일정 검색
+     * - 메모리 역색인(ScheduleSearchIndex)에서 점수 순 상위 일정 ID를 찾는다.
+     * - 찾은 ID의 일정 요약만 한 번의 쿼리로 조회한 뒤, 점수 순서를 유지해서 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleSearchResponse> searchSchedules(String query, Integer size) {
+
+        // 1) 인덱스에서 상위 일정 ID + 점수 조회
+        List<ScheduleSearchIndex.SearchHit> hits = scheduleSearchIndex.search(query, PageSize.clamp(size));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        // 2) 해당 일정들의 요약을 한 번에 조회
+        Map<Long, ScheduleSummary> summaries = scheduleRepository
+                .findSummariesByIdIn(hits.stream().map(ScheduleSearchIndex.SearchHit::getScheduleId).toList())
+                .stream()
+                .collect(Collectors.toMap(ScheduleSummary::getId, Function.identity()));
 
-        // 1) 데이터에 있는 자료 찾기
-        return scheduleRepository.findAll()
-                .stream() // 2) 하나씩 꺼낸다.
-                .map(ScheduleResponse::from) // 3) 다른형태로 변환 한다.
-                .toList(); // 4) 스트림을 다시 리스트로 변환
+        // 3) 점수 순서대로 DTO 변환 (그 사이 삭제된 일정은 제외)
+        return hits.stream()
+                .filter(hit -> summaries.containsKey(hit.getScheduleId()))
+                .map(hit -> ScheduleSearchResponse.of(summaries.get(hit.getScheduleId()), hit.getScore()))
+                .toList();
     }
 
     /**
      * 단일 일정 조회
-     * - 일정 id로 특정 엔티티를 조회한다.
+     * - 먼저 캐시(ScheduleViewCache)를 확인하고, 없을 때만 DB에서 조회한다.
+     * - 캐시 적중 시에도 보관된 작성자 ID로 권한 체크를 한다.
      * - 일정이 존재하지 않으면 예외를 던진다.
      * - ScheduleResponse DTO로 변환하여 반환한다.
+     * - withCommentCount가 true면 댓글 수를 COUNT 쿼리로 조회해 함께 내려준다. (캐시에는 넣지 않는다)
+     * - 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 걸지 않는다. (DB 조회는 fetch join 한 번 / COUNT 한 번으로 각각 끝난다)
      */
-    @Transactional(readOnly = true)
-    public ScheduleResponse checkOneSchedule(Long id,  SessionUser sessionUser) {
+    public ScheduleResponse checkOneSchedule(Long id,  SessionUser sessionUser, boolean withCommentCount) {
+
+        // 캐시 확인 (DB 조회 전에 세대 번호를 먼저 받아둔다)
+        long generation = scheduleViewCache.generation();
+        ScheduleViewCache.CachedSchedule cached = scheduleViewCache.get(id);
+        if (cached != null) {
+            checkOwner(cached, sessionUser);
+        }
+        ScheduleResponse response = cached != null ? cached.getResponse() : loadScheduleView(id, sessionUser, generation);
+
+        if (withCommentCount) {
+            return response.withCommentCount(commentRepository.countByScheduleId(id));
+        }
+        return response;
+    }
+
+    /**
+     * 단일 일정 조건부 조회 (If-None-Match)
+     * - 캐시는 한 번만 확인하고, 그 결과로 ETag 와 응답 본문을 함께 만든다. (캐시 적중/미스가 요청당 한 번만 집계된다)
+     * - 캐시에 있으면 보관된 작성자 ID/버전으로 바로 ETag를 만든다. (DB 조회 없음, 수정/삭제 시 커밋 후 무효화되므로 최신 버전)
+     * - 없으면 엔티티 전체를 읽지 않고 버전 정보(작성자 ID, 엔티티 버전)만 조회해 ETag를 만들고,
+     *   클라이언트 사본이 오래된 경우에만 일정 + 작성자를 조회한다.
+     * - 본인 일정이 아니면 권한 예외를 던진다.
+     * - 댓글 수를 포함하는 응답이면 댓글 집계 버전을 ETag에 포함하고, 같은 집계의 댓글 수를 응답에 쓴다. (집계 쿼리 한 번)
+     * - notModified 가 ETag 를 받아 true 를 반환하면(클라이언트 사본이 최신) 본문 없이 null 을 반환한다.
+     * - 캐시 적중 시 커넥션을 잡지 않도록 메서드에 트랜잭션을 걸지 않는다. (조회는 각각 리포지토리 호출 한 번)
+     */
+    public ScheduleResponse checkOneSchedule(Long id, SessionUser sessionUser, boolean withCommentCount,
+                                             Predicate<String> notModified) {
+
+        long generation = scheduleViewCache.generation();
+        ScheduleViewCache.CachedSchedule cached = scheduleViewCache.get(id);
+
+        Long version;
+        if (cached != null) {
+            checkOwner(cached, sessionUser);
+            version = cached.getVersion();
+        } else {
+            ScheduleVersion row = scheduleRepository.findVersionById(id)
+                    .orElseThrow(() -> new CustomException(NOT_FOUND_SCHEDULE));
+            // 권한 체크 (본인것만 조회 가능)
+            if (!row.getOwnerId().equals(sessionUser.getId())) {
+                throw new CustomException(NOT_VALID_OWNER);
+            }
+            version = row.getVersion();
+        }
+
+        CommentListVersion comments = withCommentCount ? commentRepository.findListVersionByScheduleId(id) : null;
+        String eTag = comments == null
+                ? ETags.of(id, version)
+                : ETags.of(id, version, comments.getCommentCount(), comments.getLastModifiedAt());
+        if (notModified.test(eTag)) {
+            return null;
+        }
+
+        ScheduleResponse response = cached != null ? cached.getResponse() : loadScheduleView(id, sessionUser, generation);
+        return comments == null ? response : response.withCommentCount(comments.getCommentCount());
+    }
 
-        // 조회할 일정 조회
-        Schedule schedule = scheduleRepository.findById(id)
+    /**
+     * 캐시 미스 시 DB 조회 후 캐시에 저장
+     * - generation: 캐시를 확인하기 전에 받아둔 세대 번호 (그 사이 무효화되었으면 저장하지 않는다)
+     */
+    private ScheduleResponse loadScheduleView(Long id, SessionUser sessionUser, long generation) {
+
+        // 조회할 일정 + 작성자 조회 (fetch join 쿼리 1번)
+        Schedule schedule = scheduleRepository.findWithUserById(id)
                 .orElseThrow(() -> new CustomException(NOT_FOUND_SCHEDULE));
 
-        // 로그인 유저 조회
-        User user = userRepository.findById(sessionUser.getId())
-                .orElseThrow(() -> new CustomException(NOT_FOUND_USER));
+        // 권한 체크 (본인것만 조회 가능) - 이미 로딩된 작성자 ID와 세션 ID를 비교하므로 추가 조회 없음
+        checkOwner(schedule, sessionUser);
+
+        // DTO로 변환 후 캐시에 저장
+        ScheduleResponse response = ScheduleResponse.from(schedule);
+        scheduleViewCache.putIfUnchanged(id,
+                new ScheduleViewCache.CachedSchedule(schedule.getUser().getId(), schedule.getVersion(), response), generation);
+
+        return response;
+    }
 
-        // 권한 체크 (본인것만 조회 가능)
-        if(!schedule.getUser().getId().equals(user.getId())) {
+    /** 캐시 적중 시 권한 체크 (보관된 작성자 ID와 세션 ID 비교, 본인것만 조회 가능) */
+    private static void checkOwner(ScheduleViewCache.CachedSchedule cached, SessionUser sessionUser) {
+        if (!cached.getOwnerId().equals(sessionUser.getId())) {
             throw new CustomException(NOT_VALID_OWNER);
         }
+    }
+
+    /**
+     * 요약 목록 → 커서 페이지 응답 변환
+     * - 댓글 수 / 미리보기는 요청한 경우에만 현재 페이지 ID 목록으로 한 번씩 조회한다.
+     */
+    private CursorPageResponse<ScheduleSummaryResponse> toSummaryPage(List<ScheduleSummary> rows, int pageSize,
+                                                                     boolean withCommentCount, boolean withPreview) {
 
-        // DTO로 전달
-        return ScheduleResponse.from(schedule);
+        List<Long> ids = rows.stream().map(ScheduleSummary::getId).toList();
+        Map<Long, Long> commentCounts = withCommentCount ? countComments(ids) : Map.of();
+        Map<Long, String> previews = withPreview ? findPreviews(ids) : Map.of();
+
+        return CursorPageResponse.of(rows, pageSize,
+                summary -> ScheduleSummaryResponse.of(
+                        summary,
+                        withPreview ? previews.get(summary.getId()) : null,
+                        withCommentCount ? commentCounts.getOrDefault(summary.getId(), 0L) : null),
+                summary -> Cursor.of(summary.getCreatedAt(), summary.getId()));
+    }
+
+    /**
+     * 일정 목록의 댓글 수 집계
+     * - IN + GROUP BY 집계 쿼리 한 번으로 조회한다. 댓글이 없는 일정은 결과에 없으므로 0으로 취급한다.
+     */
+    private Map<Long, Long> countComments(List<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return Map.of();
+        }
+        return commentRepository.countByScheduleIds(scheduleIds)
+                .stream()
+                .collect(Collectors.toMap(CommentCount::getScheduleId, CommentCount::getCommentCount));
+    }
+
+    /**
+     * 일정 목록의 내용 미리보기 조회 (앞 100자)
+     */
+    private Map<Long, String> findPreviews(List<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return Map.of();
+        }
+        return scheduleRepository.findPreviewsByIdIn(scheduleIds)
+                .stream()
+                .collect(Collectors.toMap(SchedulePreview::getId, SchedulePreview::getPreview));
     }
 
     /**
      * 일정 수정
-     * - 수정 대상 일정(id)을 조회한다.
-     * - sessionUser.id로 로그인한 유저를 조회한다.
-     * - 일정 작성자와 로그인 유저가 같은지 검증한다(본인만 수정 가능).
+     * - 수정 대상 일정(id)을 작성자와 함께 한 번에 조회한다.
+     * - 일정 작성자 ID와 세션 유저 ID가 같은지 검증한다(본인만 수정 가능). 유저를 따로 조회하지 않는다.
      * - 엔터티 내부 update() 호출하여 필요한 필드만 변경한다.
-     * - 수정된 엔티티를 DTO(UpdateScheduleResponse)로 반환한다.
+     * - 반복 일정의 시작 시간/규칙이 바뀌면 발생별 변경 기록을 함께 지운다.
+     * - If-Match 의 버전이 현재 버전과 다르면 412. 버전 조건 UPDATE 를 바로 flush 해 동시 수정 충돌도 412로 끝난다.
+     * - 수정된 엔티티를 DTO(UpdateScheduleResponse)로 반환한다. (증가된 버전 포함)
      */
-    @Transactional
-    public UpdateScheduleResponse updateSchedule(Long id, UpdateScheduleRequest requestData,SessionUser sessionUser) {
+    @Transactional(noRollbackFor = CustomException.class)
+    public UpdateScheduleResponse updateSchedule(Long id, UpdateScheduleRequest requestData, String ifMatch, SessionUser sessionUser) {
 
-        // 수정할 일정 조회
-        Schedule schedule = scheduleRepository.findById(id)
+        // 수정할 일정 + 작성자 조회 (fetch join 쿼리 1번)
+        Schedule schedule = scheduleRepository.findWithUserById(id)
                 .orElseThrow(() -> new CustomException(NOT_FOUND_SCHEDULE));
 
-        // 로그인 유저 조회
-        User user = userRepository.findById(sessionUser.getId())
-                .orElseThrow(() -> new CustomException(NOT_FOUND_USER));
-
         // 권한 체크 (본인만 수정 가능)
-        if(!schedule.getUser().getId().equals(user.getId())) {
-            throw new CustomException(NOT_VALID_OWNER);
-        } else {
-            schedule.update(requestData.getTitle(), requestData.getContent());
+        checkOwner(schedule, sessionUser);
+
+        // 조건부 수정: 클라이언트가 마지막으로 본 버전이 아니면 덮어쓰지 않는다
+        if (!ETags.matches(ifMatch, id, schedule.getVersion())) {
+            throw new CustomException(PRECONDITION_FAILED);
         }
 
+        // 시간 변경 검증 (한쪽만 보내면 기존 값과 합친 기간으로 검증)
+        LocalDateTime startAt = requestData.getStartAt() != null ? requestData.getStartAt() : schedule.getStartAt();
+        LocalDateTime endAt = requestData.getEndAt() != null ? requestData.getEndAt() : schedule.getEndAt();
+        if (!Schedule.isValidPeriod(startAt, endAt)) {
+            throw new CustomException(INVALID_INPUT);
+        }
+        RecurrenceRequest recurrence = requestData.getRecurrence();
+        if (recurrence != null && recurrence.getFrequency() != null && !recurrence.isValidFor(startAt, endAt)) {
+            throw new CustomException(INVALID_INPUT);
+        }
+
+        // 시리즈 시작 시간이 바뀌거나 규칙을 다시 보내면 기존 발생 식별자(원래 시작 시간)가 맞지 않으므로 변경 기록을 지운다
+        boolean seriesChanged = schedule.isRecurring()
+                && (recurrence != null || !Objects.equals(startAt, schedule.getStartAt()));
+
+        schedule.update(requestData.getTitle(), requestData.getContent());
+        schedule.reschedule(requestData.getStartAt(), requestData.getEndAt());
+        if (recurrence != null) {
+            schedule.changeRecurrence(recurrence.toRule());
+        }
+        if (seriesChanged) {
+            occurrenceOverrideRepository.deleteByScheduleIdInBulk(id);
+        }
+
+        // 커밋 이후 캐시 무효화 / 검색 인덱스 갱신
+        eventPublisher.publishEvent(ScheduleChangedEvent.updated(schedule));
+
+        // "where version = ?" UPDATE 실행 → 충돌이면 여기서 예외, 성공이면 엔티티 버전이 증가한다
+        scheduleRepository.flush();
+
         // 변경된 엔티티를 DTO로 만들어 반환
         return UpdateScheduleResponse.from(schedule);
     }
 
     /**
      * 일정 삭제
-     * - 삭제 대상 엔티티(id)를 조회한다.
-     * - sessionUser.id로 로그인 유저를 조회한다.
-     * - 본인 일정인지 검증하여 권한을 확인한다.
-     * - 검증 통과 시 DB에서 해당 일정 엔티티를 삭제한다.
+     * - 삭제 대상 일정의 작성자 ID만 PK로 조회한다. (엔티티를 만들지 않음)
+     * - 세션 유저 ID와 비교하여 본인 일정인지 검증한다.
+     * - 검증 통과 시 댓글 일괄 DELETE 1번 + 일정 DELETE 1번으로 삭제한다. (댓글 수와 상관없이 고정)
+     * - 발생별 변경 기록은 FK 의 ON DELETE CASCADE 로 함께 지워진다.
      */
-    @Transactional
+    @Transactional(noRollbackFor = CustomException.class)
     public void deleteSchedule(Long id, SessionUser sessionUser) {
 
-        //데이터베이스 PK와 비교 후 맞으면 스케줄 일정 가저옴
-        Schedule schedule = scheduleRepository.findById(id)
+        // 작성자 ID만 조회
+        Long ownerId = scheduleRepository.findOwnerIdById(id)
                 .orElseThrow(() -> new CustomException(NOT_FOUND_SCHEDULE));
 
-        // 로그인한 유저 조회
-        User user = userRepository.findById(sessionUser.getId())
-                .orElseThrow(() -> new CustomException(NOT_FOUND_USER));
-
         // 권한 체크 (본인만 삭제 가능)
-        if(!schedule.getUser().getId().equals(user.getId())) {
+        if (!ownerId.equals(sessionUser.getId())) {
+            throw new CustomException(NOT_VALID_OWNER);
+        }
+
+        //데이터베이스에서 삭제 하기 (comments.schedule_id FK 때문에 댓글 먼저)
+        commentRepository.deleteByScheduleIdInBulk(id);
+        scheduleRepository.deleteByIdInBulk(id);
+
+        // 커밋 이후 캐시 무효화 / 검색 인덱스 갱신
+        eventPublisher.publishEvent(ScheduleChangedEvent.deleted(id, ownerId));
+    }
+
+    /**
+     * 작성자 참조
+     * - 세션이 남아 있는 동안 탈퇴한 유저면 INSERT 의 FK 위반(500) 대신 DATA_NOT_FOUND 로 끝낸다.
+     * - 존재 확인은 PK 조회 한 번이고, 작성자는 ID 참조(프록시)로만 건다.
+     */
+    private User author(SessionUser sessionUser) {
+        if (!userRepository.existsById(sessionUser.getId())) {
+            throw new CustomException(DATA_NOT_FOUND);
+        }
+        return userRepository.getReferenceById(sessionUser.getId());
+    }
+
+    /**
+     * 작성자 검증
+     * - 작성자 FK 값은 연관 프록시에 들어 있으므로 getId()는 추가 쿼리를 만들지 않는다.
+     */
+    private void checkOwner(Schedule schedule, SessionUser sessionUser) {
+        if (!schedule.getUser().getId().equals(sessionUser.getId())) {
             throw new CustomException(NOT_VALID_OWNER);
         }
+    }
 
-        //데이터베이스에서 삭제 하기
-        scheduleRepository.delete(schedule);
+    /**
+     * 일괄 생성 항목 검증
+     * - 문제가 없으면 null, 있으면 실패 사유를 반환한다.
+     */
+    private String validate(CreateScheduleRequest item) {
+        if (item == null) return "일정 데이터가 비어 있습니다.";
+        if (item.getTitle() == null || item.getTitle().isBlank()) return "제목은 필수입니다.";
+        if (item.getTitle().length() > 100) return "제목은 100자 이하여야 합니다.";
+        if (item.getContent() == null || item.getContent().isBlank()) return "내용은 필수입니다.";
+        if (!Schedule.isValidPeriod(item.getStartAt(), item.getEndAt())) return "시작/종료 시간이 올바르지 않습니다.";
+        if (item.getRecurrence() != null && !item.getRecurrence().isValidFor(item.getStartAt(), item.getEndAt())) {
+            return "반복 규칙이 올바르지 않습니다.";
+        }
+        return null;
     }
 
-}
\ No newline at end of file
+}
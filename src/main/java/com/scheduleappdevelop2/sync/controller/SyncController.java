@@ -0,0 +1,79 @@
+package com.scheduleappdevelop2.sync.controller;
+
+import com.scheduleappdevelop2.global.exception.CustomException;
+import com.scheduleappdevelop2.sync.dto.ChangesResponse;
+import com.scheduleappdevelop2.sync.dto.SyncRequest;
+import com.scheduleappdevelop2.sync.dto.SyncResponse;
+import com.scheduleappdevelop2.sync.push.ChangePushHub;
+import com.scheduleappdevelop2.sync.service.ChangeFeedService;
+import com.scheduleappdevelop2.sync.service.SyncService;
+import com.scheduleappdevelop2.user.dto.sessionUser.SessionUser;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+
+import static com.scheduleappdevelop2.global.exception.ErrorCode.NOT_AUTHENTICATED;
+
+/**
+ * SyncController
+ * - 오프라인 클라이언트의 변경 작업 묶음을 받는 컨트롤러.
+ * - 작업마다 HTTP 요청을 보내는 대신 한 번의 요청(세션 확인 1회, 트랜잭션 1회)으로 처리한다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/sync")
+public class SyncController {
+
+    private final SyncService syncService;
+    private final ChangeFeedService changeFeedService;
+    private final ChangePushHub changePushHub;
+
+    /**
+     * 변경 작업 일괄 적용
+     * - 요청 순서대로 적용하고, 작업별 결과와 변경된 일정/댓글의 최신 상태를 반환한다.
+     */
+    @PostMapping
+    public SyncResponse sync(@RequestBody SyncRequest requestData, HttpServletRequest sessionRequest) {
+
+        // 세션에서 로그인 유저 정보 획득
+        HttpSession session = sessionRequest.getSession(false);
+        if (session == null) throw new CustomException(NOT_AUTHENTICATED);
+
+        SessionUser sessionUser = (SessionUser) session.getAttribute("loginUser");
+        if (sessionUser == null) throw new CustomException(NOT_AUTHENTICATED);
+
+        return syncService.apply(requestData, sessionUser);
+    }
+
+    /**
+     * 변경 피드 조회
+     * - since(이전 응답의 nextSince) 이후 생성/수정/삭제된 일정과 댓글을 반환한다.
+     * - since 대신 sinceTime(ISO 시각)을 보내면 그 시각 이후 변경부터 반환한다.
+     * - 둘 다 없으면 변경 없이 현재 커서(nextSince)만 반환한다.
+     * - 변경이 없으면 빈 응답이 오므로 GET /schedules 전체 재조회 대신 주기적으로 호출한다.
+     */
+    @GetMapping("/changes")
+    public ChangesResponse changes(@RequestParam(required = false) Long since,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime sinceTime,
+                                   @RequestParam(required = false) Integer limit) {
+
+        return changeFeedService.changes(since, sinceTime, limit);
+    }
+
+    /**
+     * 변경 알림 구독 (SSE)
+     * - 커밋된 일정/댓글의 생성/수정/삭제를 text/event-stream 으로 밀어준다. (event: schedule | comment)
+     * - 알림에는 대상 ID와 변경 종류만 담긴다. 재연결하거나 알림이 유실되었으면 GET /sync/changes 로 따라잡는다.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events() {
+
+        return changePushHub.subscribe();
+    }
+}
@@ -0,0 +1,65 @@
+package com.scheduleappdevelop2.sync.dto;
+
+import com.scheduleappdevelop2.comment.dto.CommentResponse;
+import com.scheduleappdevelop2.schedule.dto.checkSchedule.ScheduleSummaryResponse;
+
+import java.util.List;
+
+/**
+ * ChangesResponse
+ * - 변경 피드(GET /sync/changes) 응답 DTO.
+ * - schedules / comments : since 이후 생성·수정된 일정(목록 조회와 같은 요약)/댓글의 현재 상태
+ * - deletedScheduleIds / deletedCommentIds : since 이후 삭제된 ID (tombstone)
+ * - nextSince : 다음 요청에 보낼 커서, hasMore : 아직 받지 않은 변경이 남아 있는지
+ * - 같은 대상의 여러 변경은 마지막 변경 하나로 합쳐서 내려준다.
+ */
+public class ChangesResponse {
+
+    private final List<ScheduleSummaryResponse> schedules;
+    private final List<CommentChange> comments;
+    private final List<Long> deletedScheduleIds;
+    private final List<Long> deletedCommentIds;
+    private final long nextSince;
+    private final boolean hasMore;
+
+    public ChangesResponse(List<ScheduleSummaryResponse> schedules, List<CommentChange> comments,
+                           List<Long> deletedScheduleIds, List<Long> deletedCommentIds,
+                           long nextSince, boolean hasMore) {
+        this.schedules = schedules;
+        this.comments = comments;
+        this.deletedScheduleIds = deletedScheduleIds;
+        this.deletedCommentIds = deletedCommentIds;
+        this.nextSince = nextSince;
+        this.hasMore = hasMore;
+    }
+
+    /** 변경 없음 (커서만 전달) */
+    public static ChangesResponse empty(long nextSince) {
+        return new ChangesResponse(List.of(), List.of(), List.of(), List.of(), nextSince, false);
+    }
+
+    //getter
+    public List<ScheduleSummaryResponse> getSchedules() { return schedules; }
+    public List<CommentChange> getComments() { return comments; }
+    public List<Long> getDeletedScheduleIds() { return deletedScheduleIds; }
+    public List<Long> getDeletedCommentIds() { return deletedCommentIds; }
+    public long getNextSince() { return nextSince; }
+    public boolean isHasMore() { return hasMore; }
+
+    /**
+     * 변경된 댓글 + 댓글이 달린 일정 ID
+     */
+    public static class CommentChange {
+
+        private final Long scheduleId;
+        private final CommentResponse comment;
+
+        public CommentChange(Long scheduleId, CommentResponse comment) {
+            this.scheduleId = scheduleId;
+            this.comment = comment;
+        }
+
+        public Long getScheduleId() { return scheduleId; }
+        public CommentResponse getComment() { return comment; }
+    }
+}
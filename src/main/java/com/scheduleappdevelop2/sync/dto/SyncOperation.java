@@ -0,0 +1,77 @@
+package com.scheduleappdevelop2.sync.dto;
+
+import com.scheduleappdevelop2.schedule.dto.recurrenceSchedule.RecurrenceRequest;
+
+import java.time.LocalDateTime;
+
+/**
+ * SyncOperation
+ * - 오프라인 동안 클라이언트에 쌓인 변경 작업 한 건.
+ * - type에 따라 필요한 필드만 채워서 보낸다. (각 작업은 같은 REST API와 같은 서비스 메서드로 처리된다)
+ *   - CREATE_SCHEDULE : title, content, (startAt, endAt, recurrence)
+ *   - UPDATE_SCHEDULE : scheduleId(또는 scheduleRef), expectedVersion, title, content, startAt, endAt, recurrence 중 바꿀 값
+ *   - DELETE_SCHEDULE : scheduleId(또는 scheduleRef)
+ *   - CREATE_COMMENT  : scheduleId(또는 scheduleRef), content, (답글이면 parentId 또는 parentRef)
+ *   - UPDATE_COMMENT  : commentId, expectedVersion, content
+ *   - DELETE_COMMENT  : commentId
+ * - scheduleRef / parentRef 는 같은 요청 안에서 먼저 실행된 CREATE_SCHEDULE / CREATE_COMMENT 작업의 clientOpId로,
+ *   아직 서버 ID가 없는 일정/댓글을 가리킬 때 사용한다.
+ * - expectedVersion 은 수정 대상의 마지막으로 받은 version 으로, REST 수정의 If-Match 와 같은 역할을 한다.
+ */
+public class SyncOperation {
+
+    /** 작업 종류 */
+    public enum Type {
+        CREATE_SCHEDULE, UPDATE_SCHEDULE, DELETE_SCHEDULE,
+        CREATE_COMMENT, UPDATE_COMMENT, DELETE_COMMENT
+    }
+
+    private final String clientOpId;   // 클라이언트가 붙인 작업 ID (결과 매칭용)
+    private final Type type;           // 작업 종류
+    private final Long scheduleId;     // 대상 일정 ID
+    private final String scheduleRef;  // 같은 요청에서 생성한 일정의 clientOpId
+    private final Long commentId;      // 대상 댓글 ID
+    private final Long parentId;       // 답글의 부모 댓글 ID
+    private final String parentRef;    // 같은 요청에서 생성한 부모 댓글의 clientOpId
+    private final String title;        // 일정 제목
+    private final String content;      // 일정 내용 / 댓글 내용
+    private final LocalDateTime startAt;      // 일정 시작 시간
+    private final LocalDateTime endAt;        // 일정 종료 시간
+    private final RecurrenceRequest recurrence; // 일정 반복 규칙
+    private final Long expectedVersion;  // 수정 대상의 버전 (마지막으로 받은 응답의 version)
+
+    /** JSON 요청 값 매핑용 생성자 */
+    public SyncOperation(String clientOpId, Type type, Long scheduleId, String scheduleRef,
+                         Long commentId, Long parentId, String parentRef, String title, String content,
+                         LocalDateTime startAt, LocalDateTime endAt, RecurrenceRequest recurrence,
+                         Long expectedVersion) {
+        this.clientOpId = clientOpId;
+        this.type = type;
+        this.scheduleId = scheduleId;
+        this.scheduleRef = scheduleRef;
+        this.commentId = commentId;
+        this.parentId = parentId;
+        this.parentRef = parentRef;
+        this.title = title;
+        this.content = content;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.recurrence = recurrence;
+        this.expectedVersion = expectedVersion;
+    }
+
+    //getter
+    public String getClientOpId() { return clientOpId; }
+    public Type getType() { return type; }
+    public Long getScheduleId() { return scheduleId; }
+    public String getScheduleRef() { return scheduleRef; }
+    public Long getCommentId() { return commentId; }
+    public Long getParentId() { return parentId; }
+    public String getParentRef() { return parentRef; }
+    public String getTitle() { return title; }
+    public String getContent() { return content; }
+    public LocalDateTime getStartAt() { return startAt; }
+    public LocalDateTime getEndAt() { return endAt; }
+    public RecurrenceRequest getRecurrence() { return recurrence; }
+    public Long getExpectedVersion() { return expectedVersion; }
+}
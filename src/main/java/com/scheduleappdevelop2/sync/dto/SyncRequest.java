@@ -0,0 +1,25 @@
+package com.scheduleappdevelop2.sync.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * SyncRequest
+ * - 오프라인 변경 작업 목록 요청 DTO.
+ * - operations는 클라이언트에서 발생한 순서 그대로 보내야 한다.
+ */
+public class SyncRequest {
+
+    private final List<SyncOperation> operations;
+
+    /** JSON 요청 값 매핑용 생성자 */
+    @JsonCreator
+    public SyncRequest(@JsonProperty("operations") List<SyncOperation> operations) {
+        this.operations = operations;
+    }
+
+    //getter
+    public List<SyncOperation> getOperations() { return operations; }
+}
@@ -0,0 +1,72 @@
+package com.scheduleappdevelop2.sync.dto;
+
+import com.scheduleappdevelop2.comment.dto.CommentResponse;
+import com.scheduleappdevelop2.schedule.dto.checkSchedule.ScheduleResponse;
+
+import java.util.List;
+
+/**
+ * SyncResponse
+ * - 동기화 결과 응답 DTO.
+ * - results : 요청 순서대로의 작업별 결과
+ * - schedules / comments : 이번 요청에서 변경된 일정/댓글의 서버 최신 상태
+ * - deletedScheduleIds / deletedCommentIds : 이번 요청에서 삭제된 ID
+ */
+public class SyncResponse {
+
+    private final List<OperationResult> results;
+    private final List<ScheduleResponse> schedules;
+    private final List<CommentResponse> comments;
+    private final List<Long> deletedScheduleIds;
+    private final List<Long> deletedCommentIds;
+
+    public SyncResponse(List<OperationResult> results, List<ScheduleResponse> schedules, List<CommentResponse> comments,
+                        List<Long> deletedScheduleIds, List<Long> deletedCommentIds) {
+        this.results = results;
+        this.schedules = schedules;
+        this.comments = comments;
+        this.deletedScheduleIds = deletedScheduleIds;
+        this.deletedCommentIds = deletedCommentIds;
+    }
+
+    //getter
+    public List<OperationResult> getResults() { return results; }
+    public List<ScheduleResponse> getSchedules() { return schedules; }
+    public List<CommentResponse> getComments() { return comments; }
+    public List<Long> getDeletedScheduleIds() { return deletedScheduleIds; }
+    public List<Long> getDeletedCommentIds() { return deletedCommentIds; }
+
+    /**
+     * 작업 한 건의 처리 결과
+     * - 성공 시 entityId(생성/수정/삭제된 일정 또는 댓글 ID), 실패 시 error 메시지를 가진다.
+     */
+    public static class OperationResult {
+
+        private final int index;
+        private final String clientOpId;
+        private final Long entityId;
+        private final String error;
+
+        private OperationResult(int index, String clientOpId, Long entityId, String error) {
+            this.index = index;
+            this.clientOpId = clientOpId;
+            this.entityId = entityId;
+            this.error = error;
+        }
+
+        public static OperationResult applied(int index, String clientOpId, Long entityId) {
+            return new OperationResult(index, clientOpId, entityId, null);
+        }
+
+        public static OperationResult failed(int index, String clientOpId, String error) {
+            return new OperationResult(index, clientOpId, null, error);
+        }
+
+        public boolean isApplied() { return error == null; }
+
+        public int getIndex() { return index; }
+        public String getClientOpId() { return clientOpId; }
+        public Long getEntityId() { return entityId; }
+        public String getError() { return error; }
+    }
+}
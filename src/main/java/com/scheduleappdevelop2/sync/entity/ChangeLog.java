@@ -0,0 +1,73 @@
+package com.scheduleappdevelop2.sync.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ChangeLog
+ * - 일정/댓글의 생성·수정·삭제를 한 줄씩 쌓는 변경 로그 (append-only).
+ * - PK(id)는 AUTO_INCREMENT 이며 변경 순서 번호(sequence)로 쓴다. 클라이언트는 마지막으로 받은 id를 커서로 보관한다.
+ * - 삭제도 행으로 남겨(tombstone) 클라이언트가 로컬 데이터를 지울 수 있게 한다.
+ * - 변경 트랜잭션의 커밋 직전(BEFORE_COMMIT)에 INSERT 하므로 id 순서가 커밋 순서에 가깝지만 같지는 않다.
+ *   피드(ChangeFeedService)는 commit-lag 가 지나고 id 가 빠짐없이 이어진 곳까지만 내려주어 커밋 전 id 를 건너뛰지 않게 한다.
+ * - 보관 기간이 지난 로그는 ChangeLogPruner 가 지운다.
+ */
+@Entity
+@Table(name = "change_logs", indexes = {
+        // 시간 기준 동기화 시작점(sinceTime → 첫 id) 조회용 인덱스
+        @Index(name = "idx_change_logs_changed_at", columnList = "changed_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChangeLog {
+
+    /** 변경 대상 종류 */
+    public enum EntityType { SCHEDULE, COMMENT }
+
+    /** 변경 종류 (생성/수정은 UPSERT 하나로 본다) */
+    public enum ChangeType { UPSERT, DELETE }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", length = 10, nullable = false)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    /** 일정이면 자기 ID, 댓글이면 댓글이 달린 일정 ID */
+    @Column(name = "schedule_id")
+    private Long scheduleId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", length = 10, nullable = false)
+    private ChangeType changeType;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    private ChangeLog(EntityType entityType, Long entityId, Long scheduleId, ChangeType changeType, LocalDateTime changedAt) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.scheduleId = scheduleId;
+        this.changeType = changeType;
+        this.changedAt = changedAt;
+    }
+
+    public static ChangeLog of(EntityType entityType, Long entityId, Long scheduleId, ChangeType changeType,
+                               LocalDateTime changedAt) {
+        return new ChangeLog(entityType, entityId, scheduleId, changeType, changedAt);
+    }
+
+    public Long getId() { return id; }
+    public EntityType getEntityType() { return entityType; }
+    public Long getEntityId() { return entityId; }
+    public Long getScheduleId() { return scheduleId; }
+    public ChangeType getChangeType() { return changeType; }
+    public LocalDateTime getChangedAt() { return changedAt; }
+}
@@ -0,0 +1,386 @@
+package com.scheduleappdevelop2.sync.push;
+
+import com.scheduleappdevelop2.comment.event.CommentChangedEvent;
+import com.scheduleappdevelop2.global.exception.CustomException;
+import com.scheduleappdevelop2.schedule.event.ScheduleChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.scheduleappdevelop2.global.exception.ErrorCode.SERVICE_BUSY;
+
+/**
+ * ChangePushHub
+ * - SSE(Server-Sent Events) 구독자를 관리하고, 커밋된 일정/댓글 변경을 모든 구독자에게 밀어준다.
+ * - 연결은 서블릿 비동기(SseEmitter)로 유지하므로 대기 중인 연결은 스레드를 잡지 않는다.
+ *   실제 전송은 작은 고정 크기 디스패처 풀이 구독자별 버퍼를 비우면서 처리한다.
+ * - 구독자마다 크기가 정해진 버퍼를 두고, 가득 차면 가장 오래된 알림을 버린다(drop-oldest).
+ *   느린 구독자가 다른 구독자나 커밋 스레드를 막지 않는다. (버린 뒤에는 GET /sync/changes 로 따라잡는다)
+ * - 일정 주기로 heartbeat 주석을 보내 프록시의 유휴 연결 종료를 막고, 끊어진 연결을 정리한다.
+ *   heartbeat 와 막힌 전송 감시는 전용 스케줄러 스레드에서 돈다. (@Scheduled 기본 스케줄러는 스레드가 하나라
+ *   변경 로그 정리나 이메일 필터 재구축이 오래 걸리면 1초 주기 감시가 그만큼 밀린다)
+ * - emitter.send 는 클라이언트가 읽지 않으면 소켓 쓰기에서 막힌다. (서블릿 출력은 블로킹)
+ *   전송 하나가 write-timeout 을 넘기면 그 구독자는 바로 구독 목록에서 빼고(더 이상 알림을 넣지 않음),
+ *   막힌 스레드 대신 디스패처 스레드를 하나 더 띄워 다른 구독자 전송이 멈추지 않게 한다.
+ *   막힌 전송이 끝나거나 컨테이너 쓰기 타임아웃으로 실패하면 그 스레드가 연결을 끊고, 늘린 스레드는 다시 줄인다.
+ *   (send/complete 는 emitter 내부 락을 공유하므로 막힌 전송을 다른 스레드에서 끊을 수는 없다)
+ */
+@Component
+public class ChangePushHub implements MeterBinder {
+
+    /** heartbeat 주석 메시지 (": heartbeat") */
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    /** 막힌 전송 대신 추가로 띄우는 디스패처 스레드 상한 (느린 클라이언트가 몰려도 스레드가 끝없이 늘지 않도록) */
+    private static final int MAX_COMPENSATING_THREADS = 32;
+
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long writeTimeoutNanos;
+    private final int dispatcherThreads;
+    private final Duration heartbeatInterval;
+    private final Duration stallCheckInterval;
+
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong nextSubscriberId = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong stalled = new AtomicLong();
+
+    /**
+     * 구독자 버퍼를 비우는 디스패처 (연결 수와 상관없이 dispatcher-threads 개)
+     * - 막힌 전송이 있는 동안만 그 수만큼 스레드를 늘린다. (compensatingThreads)
+     */
+    private final ThreadPoolExecutor dispatcher;
+    private int compensatingThreads; // dispatcher 크기 조정과 함께 this 로 동기화
+
+    /** heartbeat / 막힌 전송 감시 전용 스케줄러 (다른 @Scheduled 작업과 스레드를 나눠 쓰지 않는다) */
+    private final ScheduledExecutorService scheduler;
+
+    public ChangePushHub(@Value("${sync.push.max-subscribers:50000}") int maxSubscribers,
+                         @Value("${sync.push.buffer-size:64}") int bufferSize,
+                         @Value("${sync.push.timeout:PT30M}") Duration timeout,
+                         @Value("${sync.push.write-timeout:PT5S}") Duration writeTimeout,
+                         @Value("${sync.push.dispatcher-threads:4}") int dispatcherThreads,
+                         @Value("${sync.push.heartbeat-interval:PT25S}") Duration heartbeatInterval,
+                         @Value("${sync.push.stall-check-interval:PT1S}") Duration stallCheckInterval) {
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        this.dispatcherThreads = dispatcherThreads;
+        this.heartbeatInterval = heartbeatInterval;
+        this.stallCheckInterval = stallCheckInterval;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatcher = new ThreadPoolExecutor(dispatcherThreads, dispatcherThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "sse-dispatcher-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * heartbeat / 막힌 전송 감시 시작
+     * - 한 번 실패해도 다음 주기가 취소되지 않도록 예외는 작업 안에서 삼킨다. (scheduleWithFixedDelay 는 예외가 나면 멈춘다)
+     */
+    @PostConstruct
+    public void start() {
+        scheduleWithFixedDelay(this::heartbeat, heartbeatInterval);
+        scheduleWithFixedDelay(this::disconnectStalled, stallCheckInterval);
+    }
+
+    private void scheduleWithFixedDelay(Runnable task, Duration delay) {
+        long delayMillis = delay.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException ignored) {
+                // 다음 주기에 다시 시도한다
+            }
+        }, delayMillis, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 구독 시작
+     * - 최대 구독자 수를 넘으면 503을 응답한다.
+     * - 연결 직후 "connected" 이벤트를 보낸다.
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new CustomException(SERVICE_BUSY);
+        }
+
+        SseEmitter emitter = newEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(nextSubscriberId.incrementAndGet(), emitter, bufferSize);
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber.id));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber.id);
+            emitter.complete();
+        });
+        emitter.onError(error -> subscribers.remove(subscriber.id));
+
+        subscribers.put(subscriber.id, subscriber);
+        offer(subscriber, SseEmitter.event().name("connected").data(subscriber.id).build());
+        return emitter;
+    }
+
+    /** 일정 변경 (커밋 이후) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        broadcast(PushEvent.from(event));
+    }
+
+    /** 댓글 변경 (커밋 이후) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        broadcast(PushEvent.from(event));
+    }
+
+    /**
+     * heartbeat
+     * - 버퍼가 비어 있는 구독자에게만 주석 한 줄을 보낸다. (알림이 쌓여 있으면 그 전송이 heartbeat 역할을 한다)
+     * - 전송에 실패한 연결은 디스패처에서 정리된다.
+     */
+    void heartbeat() {
+        for (Subscriber subscriber : subscribers.values()) {
+            if (subscriber.isIdle()) {
+                offer(subscriber, HEARTBEAT);
+            }
+        }
+    }
+
+    /**
+     * 막힌 전송 감시
+     * - 전송 하나가 write-timeout 을 넘긴 구독자를 구독 목록에서 빼고, 막힌 스레드 대신 디스패처 스레드를 하나 늘린다.
+     * - 연결은 막힌 전송이 돌아온 뒤 그 디스패처 스레드가 끊는다. (drain)
+     */
+    void disconnectStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers.values()) {
+            if (!subscriber.markStalled(now, writeTimeoutNanos)) {
+                continue;
+            }
+            subscribers.remove(subscriber.id);
+            stalled.incrementAndGet();
+            // 그 사이 전송이 끝났으면 늘린 스레드를 바로 되돌린다
+            if (addCompensatingThread() && !subscriber.markCompensated()) {
+                removeCompensatingThread();
+            }
+        }
+    }
+
+    /**
+     * 모든 구독자 버퍼에 알림을 넣는다. (커밋 스레드에서는 버퍼에 넣기만 하고 바로 반환)
+     */
+    private void broadcast(PushEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        // 메시지는 한 번만 만들어 모든 구독자가 공유한다
+        Set<DataWithMediaType> message = SseEmitter.event()
+                .name(event.getEntity())
+                .data(event, MediaType.APPLICATION_JSON)
+                .build();
+        for (Subscriber subscriber : subscribers.values()) {
+            offer(subscriber, message);
+        }
+    }
+
+    private void offer(Subscriber subscriber, Set<DataWithMediaType> message) {
+        if (!subscriber.offer(message)) {
+            dropped.incrementAndGet();
+        }
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * 구독자 버퍼 비우기 (디스패처 스레드)
+     * - 한 구독자는 동시에 한 스레드만 비운다. (scheduled 플래그)
+     * - 전송에 실패하거나, 전송이 write-timeout 을 넘겨 막힌 것으로 처리되었으면 연결을 끊고 구독자를 제거한다.
+     */
+    private void drain(Subscriber subscriber) {
+        Exception failure = null;
+        try {
+            Set<DataWithMediaType> message;
+            while (!subscriber.isStalled() && (message = subscriber.poll()) != null) {
+                subscriber.beginWrite(System.nanoTime());
+                try {
+                    subscriber.emitter.send(message);
+                } finally {
+                    if (subscriber.endWrite()) {
+                        removeCompensatingThread();
+                    }
+                }
+                sent.incrementAndGet();
+            }
+        } catch (Exception e) {
+            failure = e;
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+
+        if (failure != null || subscriber.isStalled()) {
+            subscribers.remove(subscriber.id);
+            subscriber.emitter.completeWithError(failure != null ? failure : new IOException("SSE 전송 시간 초과"));
+            return;
+        }
+        // 비우는 사이에 새로 들어온 알림이 있으면 다시 예약
+        if (!subscriber.isIdle() && subscriber.scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    /** 막힌 스레드 대신 디스패처 스레드 하나 추가 (상한에 닿았으면 false) */
+    private synchronized boolean addCompensatingThread() {
+        if (compensatingThreads >= MAX_COMPENSATING_THREADS) {
+            return false;
+        }
+        compensatingThreads++;
+        dispatcher.setMaximumPoolSize(dispatcherThreads + compensatingThreads);
+        dispatcher.setCorePoolSize(dispatcherThreads + compensatingThreads);
+        return true;
+    }
+
+    /** 막혔던 전송이 돌아오면 늘렸던 스레드를 줄인다 */
+    private synchronized void removeCompensatingThread() {
+        compensatingThreads--;
+        dispatcher.setCorePoolSize(dispatcherThreads + compensatingThreads);
+        dispatcher.setMaximumPoolSize(dispatcherThreads + compensatingThreads);
+    }
+
+    /** 구독마다 새 emitter (테스트에서 전송을 흉내 낼 수 있게 분리) */
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("sync.push.subscribers", subscribers, Map::size).register(registry);
+        FunctionCounter.builder("sync.push.sent", sent, AtomicLong::get).register(registry);
+        FunctionCounter.builder("sync.push.dropped", dropped, AtomicLong::get).register(registry);
+        FunctionCounter.builder("sync.push.stalled", stalled, AtomicLong::get)
+                .description("전송이 write-timeout 을 넘겨 끊은 구독자 수")
+                .register(registry);
+    }
+
+    /**
+     * 구독자 한 명
+     * - 버퍼(ArrayDeque)와 전송 상태(writeStartedAt, stalled, compensated)는 this로 동기화하며,
+     *   버퍼가 가득 차면 가장 오래된 것을 버린다.
+     */
+    private static class Subscriber {
+
+        private final long id;
+        private final SseEmitter emitter;
+        private final int capacity;
+        private final ArrayDeque<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private long writeStartedAt;   // 진행 중인 전송 시작 시각 (nanoTime, 전송 중이 아니면 0)
+        private boolean stalled;       // 전송이 write-timeout 을 넘겨 끊기로 한 구독자
+        private boolean compensated;   // 이 구독자의 막힌 전송 대신 디스패처 스레드를 늘렸는지
+
+        private Subscriber(long id, SseEmitter emitter, int capacity) {
+            this.id = id;
+            this.emitter = emitter;
+            this.capacity = capacity;
+            this.buffer = new ArrayDeque<>(Math.min(capacity, 16));
+        }
+
+        /** 버퍼에 넣는다. 가득 차서 가장 오래된 것을 버렸으면 false */
+        private synchronized boolean offer(Set<DataWithMediaType> message) {
+            boolean kept = true;
+            if (buffer.size() >= capacity) {
+                buffer.pollFirst();
+                kept = false;
+            }
+            buffer.addLast(message);
+            return kept;
+        }
+
+        private synchronized Set<DataWithMediaType> poll() {
+            return buffer.pollFirst();
+        }
+
+        private synchronized boolean isIdle() {
+            return buffer.isEmpty();
+        }
+
+        private synchronized void beginWrite(long now) {
+            writeStartedAt = now == 0 ? 1 : now;
+        }
+
+        /** 전송 종료. 막힌 동안 늘렸던 스레드가 있으면 true (호출한 쪽이 되돌린다) */
+        private synchronized boolean endWrite() {
+            writeStartedAt = 0;
+            boolean release = compensated;
+            compensated = false;
+            return release;
+        }
+
+        /** 진행 중인 전송이 timeout 을 넘겼으면 막힌 것으로 표시한다. (처음 표시할 때만 true) */
+        private synchronized boolean markStalled(long now, long timeoutNanos) {
+            if (stalled || writeStartedAt == 0 || now - writeStartedAt < timeoutNanos) {
+                return false;
+            }
+            stalled = true;
+            return true;
+        }
+
+        /** 늘린 스레드를 이 구독자에 연결한다. 전송이 이미 끝났으면 false (호출한 쪽이 되돌린다) */
+        private synchronized boolean markCompensated() {
+            if (writeStartedAt == 0) {
+                return false;
+            }
+            compensated = true;
+            return true;
+        }
+
+        private synchronized boolean isStalled() {
+            return stalled;
+        }
+    }
+}
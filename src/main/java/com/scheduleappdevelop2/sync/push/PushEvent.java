@@ -0,0 +1,38 @@
+package com.scheduleappdevelop2.sync.push;
+
+import com.scheduleappdevelop2.comment.event.CommentChangedEvent;
+import com.scheduleappdevelop2.schedule.event.ScheduleChangedEvent;
+
+/**
+ * PushEvent
+ * - SSE로 내보내는 변경 알림 한 건.
+ * - 내용(content)은 담지 않고 어떤 대상이 어떻게 바뀌었는지만 알린다. 클라이언트는 필요한 것만 다시 조회한다.
+ */
+public class PushEvent {
+
+    private final String entity;     // "schedule" 또는 "comment" (SSE event 이름)
+    private final String type;       // CREATED, UPDATED, DELETED
+    private final Long id;           // 변경된 일정/댓글 ID
+    private final Long scheduleId;   // 일정 ID (댓글이면 댓글이 달린 일정)
+
+    private PushEvent(String entity, String type, Long id, Long scheduleId) {
+        this.entity = entity;
+        this.type = type;
+        this.id = id;
+        this.scheduleId = scheduleId;
+    }
+
+    public static PushEvent from(ScheduleChangedEvent event) {
+        return new PushEvent("schedule", event.getType().name(), event.getScheduleId(), event.getScheduleId());
+    }
+
+    public static PushEvent from(CommentChangedEvent event) {
+        return new PushEvent("comment", event.getType().name(), event.getCommentId(), event.getScheduleId());
+    }
+
+    //getter
+    public String getEntity() { return entity; }
+    public String getType() { return type; }
+    public Long getId() { return id; }
+    public Long getScheduleId() { return scheduleId; }
+}
@@ -0,0 +1,55 @@
+package com.scheduleappdevelop2.sync.repository;
+
+import com.scheduleappdevelop2.sync.entity.ChangeLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ChangeLogRepository
+ * - 변경 로그(ChangeLog) 조회.
+ */
+public interface ChangeLogRepository extends JpaRepository<ChangeLog, Long> {
+
+    /**
+     * 커서 이후 변경 조회
+     * - PK 범위 조회이므로 최신 상태인 클라이언트(since = 마지막 id)는 빈 범위 하나만 확인하고 끝난다.
+     */
+    @Query("select c from ChangeLog c where c.id > :since order by c.id asc")
+    List<ChangeLog> findAllAfter(@Param("since") long since, Pageable pageable);
+
+    /**
+     * 특정 시각 이후 첫 변경 id 조회 (changed_at 인덱스)
+     */
+    @Query("select min(c.id) from ChangeLog c where c.changedAt >= :changedAt")
+    Long findFirstIdChangedSince(@Param("changedAt") LocalDateTime changedAt);
+
+    /**
+     * 특정 시각 이하에 기록된 마지막 변경 (changed_at 인덱스를 역방향으로 1건만 읽는다)
+     * - 피드의 안전 지점(horizon) 커서와 보관 기간 경계를 찾는 데 쓴다.
+     */
+    Optional<ChangeLog> findFirstByChangedAtLessThanEqualOrderByChangedAtDescIdDesc(LocalDateTime changedAt);
+
+    /**
+     * 보관 중인 가장 오래된 변경 id (없으면 null)
+     */
+    @Query("select min(c.id) from ChangeLog c")
+    Long findFirstId();
+
+    /**
+     * 보관 기간이 지난 변경 로그 삭제 (beforeId 미만을 id 순으로 최대 limit 건)
+     * - 한 번에 지우는 양을 제한해 긴 잠금과 큰 undo 로그를 피한다. (MySQL DELETE ... ORDER BY ... LIMIT)
+     * - 스케줄러 스레드에서 호출되므로 자체 트랜잭션으로 실행한다
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "delete from change_logs where id < :beforeId order by id limit :limit", nativeQuery = true)
+    int deleteBefore(@Param("beforeId") long beforeId, @Param("limit") int limit);
+}
@@ -0,0 +1,211 @@
+package com.scheduleappdevelop2.sync.service;
+
+import com.scheduleappdevelop2.comment.dto.CommentResponse;
+import com.scheduleappdevelop2.comment.entity.Comment;
+import com.scheduleappdevelop2.comment.repository.CommentRepository;
+import com.scheduleappdevelop2.global.exception.CustomException;
+import com.scheduleappdevelop2.global.pagination.PageSize;
+import com.scheduleappdevelop2.schedule.dto.checkSchedule.ScheduleSummaryResponse;
+import com.scheduleappdevelop2.schedule.repository.ScheduleRepository;
+import com.scheduleappdevelop2.schedule.repository.ScheduleSummary;
+import com.scheduleappdevelop2.sync.dto.ChangesResponse;
+import com.scheduleappdevelop2.sync.entity.ChangeLog;
+import com.scheduleappdevelop2.sync.entity.ChangeLog.ChangeType;
+import com.scheduleappdevelop2.sync.entity.ChangeLog.EntityType;
+import com.scheduleappdevelop2.sync.repository.ChangeLogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.scheduleappdevelop2.global.exception.ErrorCode.INVALID_INPUT_VALUE;
+import static com.scheduleappdevelop2.global.exception.ErrorCode.RESYNC_REQUIRED;
+
+/**
+ * ChangeFeedService
+ * - 커서(since) 이후의 일정/댓글 변경을 모아서 반환한다. (주기적인 전체 목록 재조회 대신 사용)
+ * - 변경 로그를 id 순으로 최대 limit 건 읽고, 같은 대상의 변경은 마지막 것만 남긴다.
+ * - 생성/수정된 대상은 현재 상태를 IN 쿼리 한 번씩으로 조회하고, 삭제는 ID만 내려준다.
+ * - 변경 로그 id(AUTO_INCREMENT)는 INSERT 시점에 정해지므로 커밋 순서와 다를 수 있다.
+ *   (id 11 이 먼저 커밋되고 id 10 이 아직 커밋 전이면, 11 까지 내려준 커서는 10 을 영영 건너뛴다)
+ *   그래서 두 가지로 페이지를 자른다.
+ *   1) horizon(지금 - commit-lag)보다 늦게 기록된 첫 로그 (방금 기록된 로그는 앞 id 가 커밋 전일 가능성이 크다)
+ *   2) id 가 비는 지점(gap). 커서 다음 id 부터 빠짐없이 이어진 곳까지만 내려주고, 빈 id 가 나타날 때까지 커서를 그 앞에 둔다.
+ *      일괄 작업(로그 수백 건 INSERT)이나 잠금 대기로 커밋이 commit-lag 보다 늦어져도 건너뛰지 않는다.
+ *      롤백된 트랜잭션의 id 는 영영 채워지지 않으므로, 빈 id 뒤의 로그가 gap-timeout 보다 오래되면 빈 id 를 버리고 넘어간다.
+ * - 보관 기간(retention)이 지나 지워진 범위의 커서/시각으로 요청하면 410(RESYNC_REQUIRED)으로 전체 재조회를 요구한다.
+ */
+@Service
+public class ChangeFeedService {
+
+    /** 한 번에 읽는 변경 로그 최대 건수 */
+    private static final int MAX_LIMIT = 500;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final CommentRepository commentRepository;
+    private final Duration commitLag;
+    private final Duration gapTimeout;
+    private final Duration retention;
+
+    public ChangeFeedService(ChangeLogRepository changeLogRepository,
+                             ScheduleRepository scheduleRepository,
+                             CommentRepository commentRepository,
+                             @Value("${sync.changes.commit-lag:PT3S}") Duration commitLag,
+                             @Value("${sync.changes.gap-timeout:PT2M}") Duration gapTimeout,
+                             @Value("${sync.changes.retention:P30D}") Duration retention) {
+        this.changeLogRepository = changeLogRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.commentRepository = commentRepository;
+        this.commitLag = commitLag;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+    }
+
+    /**
+     * 변경 조회
+     * - since : 이전 응답의 nextSince. 없으면 sinceTime(ISO 시각) 이후 변경부터 조회한다.
+     * - 둘 다 없으면 변경 없이 현재 커서만 반환한다. (전체 목록을 받은 직후 시작점을 잡는 용도)
+     * - 커서/시각이 보관 범위보다 오래되었으면 RESYNC_REQUIRED.
+     */
+    @Transactional(readOnly = true)
+    public ChangesResponse changes(Long since, LocalDateTime sinceTime, Integer limit) {
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = now.minus(commitLag);
+        LocalDateTime gapDeadline = now.minus(gapTimeout);
+
+        // 1) 시작 커서 결정
+        if (since == null) {
+            if (sinceTime == null) {
+                return ChangesResponse.empty(safeCursor(gapDeadline));
+            }
+            if (sinceTime.isBefore(now.minus(retention))) {
+                throw new CustomException(RESYNC_REQUIRED);
+            }
+            Long firstId = changeLogRepository.findFirstIdChangedSince(sinceTime);
+            if (firstId == null) {
+                return ChangesResponse.empty(safeCursor(gapDeadline));
+            }
+            since = firstId - 1;
+        }
+        if (since < 0) {
+            throw new CustomException(INVALID_INPUT_VALUE);
+        }
+
+        // 보관 중인 첫 id 바로 앞까지는 이어서 받을 수 있다. 그보다 오래된 커서는 지워진 변경을 놓친다
+        Long firstRetainedId = changeLogRepository.findFirstId();
+        if (firstRetainedId != null && since < firstRetainedId - 1) {
+            throw new CustomException(RESYNC_REQUIRED);
+        }
+
+        // 2) 커서 이후 변경 로그 limit + 1 건 조회 (최신 상태면 빈 결과)
+        int pageSize = PageSize.clamp(limit, MAX_LIMIT);
+        List<ChangeLog> logs = changeLogRepository.findAllAfter(since, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = logs.size() > pageSize;
+        if (hasMore) {
+            logs = logs.subList(0, pageSize);
+        }
+
+        // horizon 이후에 기록된 첫 로그, 또는 gap-timeout 안의 빈 id 에서 자른다
+        // (그 뒤는 앞 id 가 아직 커밋 전일 수 있다 → 커밋되면 다음 조회에서 내려준다)
+        int safe = 0;
+        long expectedId = since + 1;
+        while (safe < logs.size()) {
+            ChangeLog log = logs.get(safe);
+            if (log.getChangedAt().isAfter(horizon)) {
+                break;
+            }
+            if (log.getId() != expectedId && log.getChangedAt().isAfter(gapDeadline)) {
+                break;
+            }
+            expectedId = log.getId() + 1;
+            safe++;
+        }
+        if (safe < logs.size()) {
+            logs = logs.subList(0, safe);
+            hasMore = false;
+        }
+        if (logs.isEmpty()) {
+            return ChangesResponse.empty(since);
+        }
+        long nextSince = logs.get(logs.size() - 1).getId();
+
+        // 3) 대상별 마지막 변경만 남긴다
+        Map<String, ChangeLog> latest = new LinkedHashMap<>();
+        for (ChangeLog log : logs) {
+            String key = log.getEntityType() + ":" + log.getEntityId();
+            latest.remove(key);
+            latest.put(key, log);
+        }
+
+        List<Long> upsertedScheduleIds = new ArrayList<>();
+        List<Long> upsertedCommentIds = new ArrayList<>();
+        List<Long> deletedScheduleIds = new ArrayList<>();
+        List<Long> deletedCommentIds = new ArrayList<>();
+        for (ChangeLog log : latest.values()) {
+            boolean schedule = log.getEntityType() == EntityType.SCHEDULE;
+            boolean deleted = log.getChangeType() == ChangeType.DELETE;
+            (schedule ? (deleted ? deletedScheduleIds : upsertedScheduleIds)
+                      : (deleted ? deletedCommentIds : upsertedCommentIds)).add(log.getEntityId());
+        }
+
+        // 4) 생성/수정된 대상의 현재 상태 조회 (이후 페이지에서 삭제된 대상은 결과에서 빠진다)
+        return new ChangesResponse(
+                findSchedules(upsertedScheduleIds),
+                findComments(upsertedCommentIds, latest),
+                deletedScheduleIds,
+                deletedCommentIds,
+                nextSince,
+                hasMore
+        );
+    }
+
+    /**
+     * 시작 커서: gap-timeout 이전에 기록된 마지막 변경 id (없으면 0)
+     * - 커밋이 늦어진 변경도 gap-timeout 안에는 커밋되므로 이 커서 위에 있다.
+     * - 그 사이 이미 커밋된 변경은 한 번 더 내려가지만, 현재 상태/삭제 ID 라 다시 적용해도 결과가 같다.
+     */
+    private long safeCursor(LocalDateTime horizon) {
+        return changeLogRepository.findFirstByChangedAtLessThanEqualOrderByChangedAtDescIdDesc(horizon)
+                .map(ChangeLog::getId)
+                .orElse(0L);
+    }
+
+    private List<ScheduleSummaryResponse> findSchedules(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ScheduleSummary> summaries = scheduleRepository.findSummariesByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(ScheduleSummary::getId, Function.identity()));
+        return ids.stream()
+                .filter(summaries::containsKey)
+                .map(id -> ScheduleSummaryResponse.of(summaries.get(id), null, null))
+                .toList();
+    }
+
+    private List<ChangesResponse.CommentChange> findComments(List<Long> ids, Map<String, ChangeLog> latest) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Comment> comments = commentRepository.findAllWithUserByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(Comment::getId, Function.identity()));
+        return ids.stream()
+                .filter(comments::containsKey)
+                .map(id -> new ChangesResponse.CommentChange(
+                        latest.get(EntityType.COMMENT + ":" + id).getScheduleId(),
+                        CommentResponse.from(comments.get(id))))
+                .toList();
+    }
+}
@@ -0,0 +1,57 @@
+package com.scheduleappdevelop2.sync.service;
+
+import com.scheduleappdevelop2.sync.entity.ChangeLog;
+import com.scheduleappdevelop2.sync.repository.ChangeLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * ChangeLogPruner
+ * - 보관 기간(sync.changes.retention)이 지난 변경 로그를 주기적으로 지운다. (append-only 테이블이 끝없이 커지지 않도록)
+ * - 기간이 지난 로그 중 마지막 1건은 경계로 남긴다. 피드는 보관 중인 첫 id 로 "지워진 범위의 커서"를 판단하므로,
+ *   모든 로그가 기간을 넘겨도 테이블이 비지 않게 한다.
+ * - DELETE_BATCH_SIZE 건씩 나누어 지운다.
+ */
+@Slf4j
+@Component
+public class ChangeLogPruner {
+
+    private static final int DELETE_BATCH_SIZE = 10_000;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final Duration retention;
+
+    public ChangeLogPruner(ChangeLogRepository changeLogRepository,
+                           @Value("${sync.changes.retention:P30D}") Duration retention) {
+        this.changeLogRepository = changeLogRepository;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${sync.changes.prune-interval:PT1H}",
+               initialDelayString = "${sync.changes.prune-interval:PT1H}")
+    public void prune() {
+        Optional<ChangeLog> boundary = changeLogRepository
+                .findFirstByChangedAtLessThanEqualOrderByChangedAtDescIdDesc(LocalDateTime.now().minus(retention));
+        if (boundary.isEmpty()) {
+            return;
+        }
+
+        long beforeId = boundary.get().getId();
+        long deleted = 0;
+        int count;
+        do {
+            count = changeLogRepository.deleteBefore(beforeId, DELETE_BATCH_SIZE);
+            deleted += count;
+        } while (count == DELETE_BATCH_SIZE);
+
+        if (deleted > 0) {
+            log.info("변경 로그 정리: id {} 미만 {}건 삭제", beforeId, deleted);
+        }
+    }
+}
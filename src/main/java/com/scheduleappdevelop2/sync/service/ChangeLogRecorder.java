@@ -0,0 +1,42 @@
+package com.scheduleappdevelop2.sync.service;
+
+import com.scheduleappdevelop2.comment.event.CommentChangedEvent;
+import com.scheduleappdevelop2.schedule.event.ScheduleChangedEvent;
+import com.scheduleappdevelop2.sync.entity.ChangeLog;
+import com.scheduleappdevelop2.sync.entity.ChangeLog.ChangeType;
+import com.scheduleappdevelop2.sync.entity.ChangeLog.EntityType;
+import com.scheduleappdevelop2.sync.repository.ChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * ChangeLogRecorder
+ * - 일정/댓글 변경 이벤트를 변경 로그(ChangeLog)에 기록한다.
+ * - BEFORE_COMMIT 단계에서 같은 트랜잭션으로 INSERT 하므로 변경과 로그가 함께 커밋되거나 함께 롤백된다.
+ * - 커밋 직전에 id를 받으므로, 오래 걸린 트랜잭션이 먼저 시작했더라도 id 순서가 커밋 순서에 가깝게 유지된다.
+ *   (완전히 같지는 않으므로 피드는 commit-lag 가 지나고 빈 id 가 없는 곳까지만 내려준다 → changedAt 은 INSERT 직전에 찍는다)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeLogRecorder {
+
+    private final ChangeLogRepository changeLogRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        ChangeType changeType = event.getType() == ScheduleChangedEvent.Type.DELETED ? ChangeType.DELETE : ChangeType.UPSERT;
+        changeLogRepository.save(ChangeLog.of(EntityType.SCHEDULE, event.getScheduleId(), event.getScheduleId(),
+                changeType, LocalDateTime.now()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        ChangeType changeType = event.getType() == CommentChangedEvent.Type.DELETED ? ChangeType.DELETE : ChangeType.UPSERT;
+        changeLogRepository.save(ChangeLog.of(EntityType.COMMENT, event.getCommentId(), event.getScheduleId(),
+                changeType, LocalDateTime.now()));
+    }
+}
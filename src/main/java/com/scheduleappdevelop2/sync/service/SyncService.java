@@ -0,0 +1,386 @@
+package com.scheduleappdevelop2.sync.service;
+
+import com.scheduleappdevelop2.comment.dto.CommentCreateRequest;
+import com.scheduleappdevelop2.comment.dto.CommentResponse;
+import com.scheduleappdevelop2.comment.entity.Comment;
+import com.scheduleappdevelop2.comment.repository.CommentRepository;
+import com.scheduleappdevelop2.comment.service.CommentService;
+import com.scheduleappdevelop2.global.exception.CustomException;
+import com.scheduleappdevelop2.global.web.ETags;
+import com.scheduleappdevelop2.schedule.dto.UpdateSchedule.UpdateScheduleRequest;
+import com.scheduleappdevelop2.schedule.dto.checkSchedule.ScheduleResponse;
+import com.scheduleappdevelop2.schedule.dto.createSchedule.CreateScheduleRequest;
+import com.scheduleappdevelop2.schedule.entity.Schedule;
+import com.scheduleappdevelop2.schedule.repository.ScheduleRepository;
+import com.scheduleappdevelop2.schedule.service.ScheduleService;
+import com.scheduleappdevelop2.sync.dto.SyncOperation;
+import com.scheduleappdevelop2.sync.dto.SyncRequest;
+import com.scheduleappdevelop2.sync.dto.SyncResponse;
+import com.scheduleappdevelop2.sync.dto.SyncResponse.OperationResult;
+import com.scheduleappdevelop2.user.dto.sessionUser.SessionUser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.scheduleappdevelop2.global.exception.ErrorCode.*;
+
+/**
+ * SyncService
+ * - 오프라인 클라이언트가 모아 보낸 일정/댓글 변경 작업을 한 트랜잭션에서 순서대로 적용한다.
+ * - 각 작업은 REST API와 같은 ScheduleService/CommentService 메서드로 처리한다. (검증/권한/버전 규칙을 한 곳에서만 관리)
+ *   서비스 메서드는 바깥 트랜잭션에 참여하고, 검증/권한 실패(CustomException)는 롤백 표시 없이 던지므로
+ *   실패한 작업만 결과에 사유를 담고 나머지 작업은 계속 적용한다.
+ * - 수정 작업은 expectedVersion 을 If-Match 로 바꿔 넘기므로 REST 와 같이 버전이 다르면 PRECONDITION_FAILED 로 실패한다.
+ * - 요청이 가리키는 기존 일정/댓글의 작성자는 시도마다 IN 조회 한 번씩으로 미리 확인해 둔다. (Context)
+ *   없는 대상이나 남의 대상을 고치는 작업은 서비스를 부르지 않고(작업별 조회 없이) 바로 실패시킨다.
+ *   통과한 작업은 서비스가 수정할 엔티티를 읽으면서 권한을 한 번 더 확인한다. (REST 와 같은 규칙)
+ * - 작업마다 flush 해서 DB 오류가 어느 작업에서 났는지 확정한다. JPA 트랜잭션은 DB 오류 후 커밋할 수 없으므로
+ *   그 작업을 실패로 표시하고 새 트랜잭션에서 처음부터 다시 적용한다. (최대 MAX_REPLAYS 번, 실패한 시도의 변경/이벤트는 모두 롤백)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    /** 한 번에 받을 수 있는 최대 작업 수 */
+    private static final int MAX_OPERATIONS = 200;
+
+    /** DB 오류로 다시 적용하는 최대 횟수 (넘으면 요청 전체 실패) */
+    private static final int MAX_REPLAYS = 3;
+
+    private final ScheduleService scheduleService;
+    private final CommentService commentService;
+    private final ScheduleRepository scheduleRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 동기화 적용
+     * - 작업을 순서대로 적용하고, 변경된 일정/댓글의 최신 상태와 삭제된 ID를 함께 반환한다.
+     * - DB 오류가 난 작업은 실패로 표시한 뒤 새 트랜잭션에서 다시 적용한다.
+     */
+    public SyncResponse apply(SyncRequest requestData, SessionUser sessionUser) {
+
+        List<SyncOperation> operations = requestData.getOperations();
+        if (operations == null || operations.isEmpty() || operations.size() > MAX_OPERATIONS) {
+            throw new CustomException(INVALID_INPUT_VALUE);
+        }
+
+        // 작업 순번 → DB 오류 사유 (다시 적용할 때 건너뛴다)
+        Map<Integer, String> failedByDatabase = new HashMap<>();
+        while (true) {
+            try {
+                return transactionTemplate.execute(status -> applyAll(operations, failedByDatabase, sessionUser));
+            } catch (OperationFailedException e) {
+                if (failedByDatabase.size() >= MAX_REPLAYS) {
+                    throw e.getCause();
+                }
+                log.warn("동기화 작업 DB 오류로 다시 적용: index = {}", e.index, e.getCause());
+                failedByDatabase.put(e.index, messageOf(e.getCause()));
+            }
+        }
+    }
+
+    /** 트랜잭션 한 번: 전체 작업 적용 + 최신 상태 조회 */
+    private SyncResponse applyAll(List<SyncOperation> operations, Map<Integer, String> failedByDatabase,
+                                  SessionUser sessionUser) {
+
+        Context context = new Context(sessionUser.getId());
+        resolveOwners(operations, context);
+        List<OperationResult> results = new ArrayList<>();
+
+        for (int index = 0; index < operations.size(); index++) {
+            SyncOperation operation = operations.get(index);
+            String clientOpId = operation == null ? null : operation.getClientOpId();
+
+            String databaseError = failedByDatabase.get(index);
+            if (databaseError != null) {
+                results.add(OperationResult.failed(index, clientOpId, databaseError));
+                continue;
+            }
+
+            try {
+                Long entityId = applyOne(operation, context, sessionUser);
+                // 이 작업의 SQL을 지금 실행해, DB 오류가 나면 이 작업의 실패로 확정한다
+                scheduleRepository.flush();
+                results.add(OperationResult.applied(index, clientOpId, entityId));
+            } catch (CustomException e) {
+                results.add(OperationResult.failed(index, clientOpId, e.getMessage()));
+            } catch (DataAccessException e) {
+                throw new OperationFailedException(index, e);
+            }
+        }
+
+        return new SyncResponse(
+                results,
+                loadSchedules(context.touchedScheduleIds),
+                loadComments(context.touchedCommentIds),
+                List.copyOf(context.deletedScheduleIds),
+                List.copyOf(context.deletedCommentIds)
+        );
+    }
+
+    private Long applyOne(SyncOperation operation, Context context, SessionUser sessionUser) {
+        if (operation == null || operation.getType() == null) {
+            throw new CustomException(INVALID_INPUT_VALUE);
+        }
+
+        switch (operation.getType()) {
+            case CREATE_SCHEDULE: {
+                Long scheduleId = scheduleService.createSchedule(new CreateScheduleRequest(
+                        operation.getTitle(), operation.getContent(),
+                        operation.getStartAt(), operation.getEndAt(), operation.getRecurrence()), sessionUser).getId();
+                context.scheduleCreated(operation.getClientOpId(), scheduleId);
+                return scheduleId;
+            }
+            case UPDATE_SCHEDULE: {
+                Long scheduleId = scheduleId(operation, context, true);
+                scheduleService.updateSchedule(scheduleId, new UpdateScheduleRequest(
+                        operation.getTitle(), operation.getContent(),
+                        operation.getStartAt(), operation.getEndAt(), operation.getRecurrence()),
+                        ifMatch(scheduleId, operation, context.touchedScheduleIds), sessionUser);
+                context.touchedScheduleIds.add(scheduleId);
+                return scheduleId;
+            }
+            case DELETE_SCHEDULE: {
+                Long scheduleId = scheduleId(operation, context, true);
+                // 함께 지워질 댓글 중 이번 요청에서 다룬 것 (이후 작업이 그 댓글을 가리키면 조회 없이 실패시키기 위해)
+                Set<Long> knownCommentIds = context.knownCommentIds();
+                List<Long> commentIds = knownCommentIds.isEmpty()
+                        ? List.of()
+                        : commentRepository.findIdsByScheduleIdAndIdIn(scheduleId, knownCommentIds);
+                scheduleService.deleteSchedule(scheduleId, sessionUser);
+                context.scheduleDeleted(scheduleId);
+                commentIds.forEach(context::commentDeleted);
+                return scheduleId;
+            }
+            case CREATE_COMMENT: {
+                Long scheduleId = scheduleId(operation, context, false);
+                Long commentId = commentService.createComment(scheduleId,
+                        new CommentCreateRequest(operation.getContent(), parentId(operation, context)), sessionUser).getId();
+                context.commentCreated(operation.getClientOpId(), commentId);
+                return commentId;
+            }
+            case UPDATE_COMMENT: {
+                Long commentId = commentId(operation, context);
+                commentService.updateComment(commentId, new CommentCreateRequest(operation.getContent(), null),
+                        ifMatch(commentId, operation, context.touchedCommentIds), sessionUser);
+                context.touchedCommentIds.add(commentId);
+                return commentId;
+            }
+            case DELETE_COMMENT: {
+                Long commentId = commentId(operation, context);
+                commentService.deleteComment(commentId, sessionUser).forEach(context::commentDeleted);
+                return commentId;
+            }
+            default:
+                throw new CustomException(INVALID_INPUT_VALUE);
+        }
+    }
+
+    /**
+     * 요청이 가리키는 기존 일정/댓글의 작성자를 미리 조회 (일정 IN 조회 1번 + 댓글 IN 조회 1번)
+     * - 다시 적용할 때는 그 사이 삭제된 대상이 있을 수 있으므로 시도마다 새로 조회한다.
+     */
+    private void resolveOwners(List<SyncOperation> operations, Context context) {
+        Set<Long> scheduleIds = new LinkedHashSet<>();
+        Set<Long> commentIds = new LinkedHashSet<>();
+        for (SyncOperation operation : operations) {
+            if (operation == null) {
+                continue;
+            }
+            if (operation.getScheduleId() != null) scheduleIds.add(operation.getScheduleId());
+            if (operation.getCommentId() != null) commentIds.add(operation.getCommentId());
+            if (operation.getParentId() != null) commentIds.add(operation.getParentId());
+        }
+        if (!scheduleIds.isEmpty()) {
+            scheduleRepository.findOwnersByIdIn(scheduleIds)
+                    .forEach(owner -> context.scheduleOwners.put(owner.getId(), owner.getOwnerId()));
+        }
+        if (!commentIds.isEmpty()) {
+            commentRepository.findOwnersByIdIn(commentIds)
+                    .forEach(owner -> context.commentOwners.put(owner.getId(), owner.getOwnerId()));
+        }
+    }
+
+    /**
+     * 대상 일정 ID
+     * - scheduleRef가 있으면 같은 요청에서 생성한 일정의 ID로 바꾼다.
+     * - 이번 요청에서 이미 삭제했거나 미리 조회한 작성자가 없으면(없는 일정) 조회 없이 실패.
+     * - ownerOnly 이면 본인 일정이 아닐 때도 조회 없이 실패. (댓글 작성은 남의 일정에도 가능)
+     */
+    private Long scheduleId(SyncOperation operation, Context context, boolean ownerOnly) {
+        Long scheduleId = operation.getScheduleId();
+        if (scheduleId == null && operation.getScheduleRef() != null) {
+            scheduleId = context.scheduleRefs.get(operation.getScheduleRef());
+        }
+        if (scheduleId == null || context.deletedScheduleIds.contains(scheduleId)) {
+            throw new CustomException(SCHEDULE_NOT_FOUND);
+        }
+        Long ownerId = context.scheduleOwners.get(scheduleId);
+        if (ownerId == null) {
+            throw new CustomException(SCHEDULE_NOT_FOUND);
+        }
+        if (ownerOnly && !ownerId.equals(context.userId)) {
+            throw new CustomException(NOT_VALID_OWNER);
+        }
+        return scheduleId;
+    }
+
+    /** 부모 댓글 ID (답글이 아니면 null, parentRef는 같은 요청에서 생성한 댓글) */
+    private Long parentId(SyncOperation operation, Context context) {
+        if (operation.getParentId() == null && operation.getParentRef() == null) {
+            return null;
+        }
+        Long parentId = operation.getParentId() != null
+                ? operation.getParentId()
+                : context.commentRefs.get(operation.getParentRef());
+        if (parentId == null || context.deletedCommentIds.contains(parentId)
+                || !context.commentOwners.containsKey(parentId)) {
+            throw new CustomException(COMMENT_NOT_FOUND);
+        }
+        return parentId;
+    }
+
+    /** 대상 댓글 ID (이번 요청에서 이미 삭제했거나, 없거나, 본인 댓글이 아니면 조회 없이 실패) */
+    private Long commentId(SyncOperation operation, Context context) {
+        Long commentId = operation.getCommentId();
+        if (commentId == null || context.deletedCommentIds.contains(commentId)) {
+            throw new CustomException(COMMENT_NOT_FOUND);
+        }
+        Long ownerId = context.commentOwners.get(commentId);
+        if (ownerId == null) {
+            throw new CustomException(COMMENT_NOT_FOUND);
+        }
+        if (!ownerId.equals(context.userId)) {
+            throw new CustomException(NOT_VALID_OWNER);
+        }
+        return commentId;
+    }
+
+    /**
+     * 수정 작업의 If-Match 값
+     * - 이번 요청에서 먼저 생성/수정한 대상이면 그 결과에 이어서 고치는 것이므로 버전을 확인하지 않는다. ("*")
+     *   (클라이언트는 오프라인 동안 바뀐 버전을 알 수 없다)
+     * - 그 밖에는 expectedVersion 이 필수이고 없으면 PRECONDITION_REQUIRED, 서비스에서 현재 버전과 다르면 PRECONDITION_FAILED.
+     */
+    private static String ifMatch(Long id, SyncOperation operation, Set<Long> touchedIds) {
+        if (touchedIds.contains(id)) {
+            return "*";
+        }
+        if (operation.getExpectedVersion() == null) {
+            throw new CustomException(PRECONDITION_REQUIRED);
+        }
+        return ETags.of(id, operation.getExpectedVersion());
+    }
+
+    /** 변경된 일정의 최신 상태 (IN 조회 한 번, 요청 순서 유지. 그 사이 삭제된 일정은 제외) */
+    private List<ScheduleResponse> loadSchedules(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Schedule> schedules = scheduleRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Schedule::getId, Function.identity()));
+        return ids.stream().map(schedules::get).filter(Objects::nonNull).map(ScheduleResponse::from).toList();
+    }
+
+    /** 변경된 댓글의 최신 상태 (삭제된 일정의 댓글 등 더 이상 없는 댓글은 제외) */
+    private List<CommentResponse> loadComments(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Comment> comments = commentRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Comment::getId, Function.identity()));
+        return ids.stream().map(comments::get).filter(Objects::nonNull).map(CommentResponse::from).toList();
+    }
+
+    private static String messageOf(DataAccessException e) {
+        if (e instanceof OptimisticLockingFailureException) return PRECONDITION_FAILED.getMessage();
+        if (e instanceof DataIntegrityViolationException) return INVALID_INPUT_VALUE.getMessage();
+        return INTERNAL_SERVER_ERROR.getMessage();
+    }
+
+    /** 작업 하나가 DB 오류로 실패해 트랜잭션을 되돌려야 할 때 (순번을 담아 다시 적용) */
+    private static class OperationFailedException extends RuntimeException {
+
+        private final int index;
+
+        private OperationFailedException(int index, DataAccessException cause) {
+            super(cause);
+            this.index = index;
+        }
+
+        @Override
+        public synchronized DataAccessException getCause() {
+            return (DataAccessException) super.getCause();
+        }
+    }
+
+    /**
+     * 요청 하나(시도 한 번)를 처리하는 동안 유지되는 상태
+     * - 같은 요청에서 생성한 일정/댓글의 참조, 변경/삭제된 대상 ID.
+     * - 요청이 가리키는 일정/댓글의 작성자 ID (미리 조회한 기존 대상 + 이번 요청에서 생성한 대상).
+     */
+    private static class Context {
+
+        private final Long userId;
+        private final Map<Long, Long> scheduleOwners = new HashMap<>();
+        private final Map<Long, Long> commentOwners = new HashMap<>();
+        private final Map<String, Long> scheduleRefs = new HashMap<>();
+        private final Map<String, Long> commentRefs = new HashMap<>();
+        private final Set<Long> touchedScheduleIds = new LinkedHashSet<>();
+        private final Set<Long> touchedCommentIds = new LinkedHashSet<>();
+        private final Set<Long> deletedScheduleIds = new LinkedHashSet<>();
+        private final Set<Long> deletedCommentIds = new LinkedHashSet<>();
+
+        private Context(Long userId) {
+            this.userId = userId;
+        }
+
+        private void scheduleCreated(String clientOpId, Long scheduleId) {
+            if (clientOpId != null) scheduleRefs.put(clientOpId, scheduleId);
+            scheduleOwners.put(scheduleId, userId);
+            touchedScheduleIds.add(scheduleId);
+        }
+
+        private void commentCreated(String clientOpId, Long commentId) {
+            if (clientOpId != null) commentRefs.put(clientOpId, commentId);
+            commentOwners.put(commentId, userId);
+            touchedCommentIds.add(commentId);
+        }
+
+        /** 이번 요청에서 생성/수정했거나 참조로 가리킬 수 있는, 아직 삭제되지 않은 댓글 */
+        private Set<Long> knownCommentIds() {
+            Set<Long> ids = new LinkedHashSet<>(touchedCommentIds);
+            ids.addAll(commentRefs.values());
+            ids.removeAll(deletedCommentIds);
+            return ids;
+        }
+
+        /** 일정에 달린 댓글은 호출하는 쪽에서 commentDeleted 로 따로 기록한다 */
+        private void scheduleDeleted(Long scheduleId) {
+            touchedScheduleIds.remove(scheduleId);
+            deletedScheduleIds.add(scheduleId);
+        }
+
+        private void commentDeleted(Long commentId) {
+            touchedCommentIds.remove(commentId);
+            deletedCommentIds.add(commentId);
+        }
+    }
+}
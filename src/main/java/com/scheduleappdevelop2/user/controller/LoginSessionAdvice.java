@@ -0,0 +1,40 @@
+package com.scheduleappdevelop2.user.controller;
+
+import com.scheduleappdevelop2.user.dto.login.LoginResponse;
+import com.scheduleappdevelop2.user.dto.sessionUser.SessionUser;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * LoginSessionAdvice
+ * - 로그인 성공 응답(LoginResponse)을 쓰기 직전에 세션을 만들고 로그인 정보를 저장한다.
+ * - 로그인은 비밀번호 검증이 끝나면 결과만 돌려주고(해시 풀 스레드), 응답은 컨테이너의 비동기 디스패치(요청 스레드)에서 쓰인다.
+ *   세션 생성/저장을 여기서 하면 요청 스레드에서, 응답이 커밋되기 전에(세션 쿠키를 붙일 수 있을 때) 처리된다.
+ */
+@RestControllerAdvice(assignableTypes = UserController.class)
+public class LoginSessionAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof LoginResponse loginResponse && request instanceof ServletServerHttpRequest servletRequest) {
+            // 세션 객체를 가져오고(true: 세션 없으면 새로 생성) 로그인한 사용자 정보를 저장 (로그인 유지 목적)
+            HttpSession session = servletRequest.getServletRequest().getSession(true);
+            session.setAttribute("loginUser", new SessionUser(loginResponse.getId(), loginResponse.getEmail()));
+        }
+        return body;
+    }
+}
@@ -2,6 +2,7 @@ package com.scheduleappdevelop2.user.controller;
 
 import com.scheduleappdevelop2.global.exception.GlobalExceptionHandler;
 import com.scheduleappdevelop2.global.exception.LoginFailException;
+import com.scheduleappdevelop2.global.web.ETags;
 import com.scheduleappdevelop2.user.dto.login.LoginRequest;
 import com.scheduleappdevelop2.user.dto.login.LoginResponse;
 import com.scheduleappdevelop2.user.dto.sessionUser.SessionUser;
@@ -15,14 +16,17 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static com.scheduleappdevelop2.global.exception.ErrorCode.NOT_AUTHENTICATED;
 import static com.scheduleappdevelop2.global.exception.ErrorCode.NOT_VALID_OWNER;
+import static com.scheduleappdevelop2.global.exception.ErrorCode.PRECONDITION_REQUIRED;
 
 
 
@@ -49,9 +53,10 @@ public class UserController {
      * - POST /users
      * - 요청 바디의 JSON을 UserCreateRequest DTO로 받아 Service로 전달한다.
      * - 생성된 유저 정보를 DTO 형태로 반환한다.
+     * - 비밀번호 해시와 저장은 전용 풀에서 비동기로 처리된다. (요청 스레드는 기다리지 않음, 포화 시 503 + Retry-After)
      */
     @PostMapping
-    public UserCreateResponse create(@RequestBody UserCreateRequest requestData) {
+    public CompletableFuture<UserCreateResponse> create(@RequestBody UserCreateRequest requestData) {
         return userService.createUser(requestData);
     }
 
@@ -83,16 +88,21 @@ public class UserController {
 
         UserResponse sessionUsers = userService.checkOneUser(id, session);
 
-        return ResponseEntity.ok(sessionUsers);
+        // 수정 시 If-Match 로 보낼 ETag (유저 ID + 버전)
+        return ResponseEntity.ok()
+                .eTag(ETags.of(id, sessionUsers.getVersion()))
+                .body(sessionUsers);
     }
 
     /**
      * 유저 정보 수정
      * - PATCH /users/{id}
      * - 수정하고 싶은 필드만 담은 DTO를 전달하면 Service에서 엔티티를 갱신한다.
+     * - 단건 조회에서 받은 ETag를 If-Match 로 보내야 한다. (없으면 428, 그 사이 변경되었으면 412)
      */
     @PatchMapping("/{id}")
     public ResponseEntity<UpdateUserResponse> update(@PathVariable Long id, HttpServletRequest sessionRequest,
+                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                      @RequestBody UpdateUserRequest requestData) {
         HttpSession session = sessionRequest.getSession(false);
         if (session == null) throw new CustomException(NOT_AUTHENTICATED);
@@ -105,7 +115,17 @@ public class UserController {
             throw new CustomException(NOT_VALID_OWNER);
         }
 
-        return userService.updateUser(id, requestData, sessionUser);
+        if (ifMatch == null) throw new CustomException(PRECONDITION_REQUIRED);
+
+        UpdateUserResponse updated = userService.updateUser(id, requestData, ifMatch, sessionUser);
+
+        // 일정/댓글 생성 응답의 작성자 이메일을 세션 값으로 채우므로, 이메일이 바뀌면 세션도 갱신한다
+        if (!updated.getEmail().equals(sessionUser.getEmail())) {
+            session.setAttribute("loginUser", new SessionUser(id, updated.getEmail()));
+        }
+        return ResponseEntity.ok()
+                .eTag(ETags.of(id, updated.getVersion()))
+                .body(updated);
     }
 
     /**
@@ -127,18 +147,21 @@ public class UserController {
         }
 
         userService.deleteUser(id, sessionUser);
+        // 삭제된 유저의 세션이 남아 있으면 ID 참조로 만든 일정/댓글이 없는 유저를 가리키게 되므로 세션도 끝낸다
+        session.invalidate();
         return "해당 유저가 삭제 되었습니다.";
     }
 
     /**
      * 로그인
      * - POST /users/login
-     * - 이메일/비밀번호를 DTO로 받고, 로그인 성공 시 세션 정보를 생성한다.
-     * - 로그인한 유저의 기본 정보(LoginResponse)를 반환한다.
+     * - 이메일/비밀번호를 DTO로 받고, 로그인한 유저의 기본 정보(LoginResponse)를 반환한다.
+     * - 비밀번호 검증은 전용 풀에서 비동기로 처리된다. (요청 스레드는 검증을 기다리지 않음, 포화 시 503 + Retry-After)
+     * - 로그인 성공 시 세션 정보는 결과를 응답으로 쓰는 비동기 디스패치에서 LoginSessionAdvice 가 만든다.
      */
     @PostMapping("/login")
-    public LoginResponse login(@Valid @RequestBody LoginRequest requestData, HttpServletRequest httpRequest) {
-        return userService.login(requestData, httpRequest);
+    public CompletableFuture<LoginResponse> login(@Valid @RequestBody LoginRequest requestData) {
+        return userService.login(requestData);
     }
 
     /**
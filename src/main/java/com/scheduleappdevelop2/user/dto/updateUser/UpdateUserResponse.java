@@ -15,13 +15,15 @@ public class UpdateUserResponse {
     private final String email;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
+    private final Long version;
 
-    public UpdateUserResponse(Long id, String name, String email, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    public UpdateUserResponse(Long id, String name, String email, LocalDateTime createdAt, LocalDateTime modifiedAt, Long version) {
         this.id = id;
         this.name = name;
         this.email = email;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.version = version;
     }
 
     public static UpdateUserResponse from(User user) {
@@ -30,7 +32,8 @@ public class UpdateUserResponse {
                 user.getName(),
                 user.getEmail(),
                 user.getCreatedAt(),
-                user.getModifiedAt()
+                user.getModifiedAt(),
+                user.getVersion()
         );
     }
 
@@ -40,4 +43,5 @@ public class UpdateUserResponse {
     public String getEmail() { return email; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getModifiedAt() { return modifiedAt; }
+    public Long getVersion() { return version; }
 }
@@ -15,13 +15,15 @@ public class UserResponse {
     private final String email;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
+    private final Long version;
 
-    private UserResponse(Long id, String name, String email, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    private UserResponse(Long id, String name, String email, LocalDateTime createdAt, LocalDateTime modifiedAt, Long version) {
         this.id = id;
         this.name = name;
         this.email = email;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.version = version;
     }
 
     public static UserResponse from(User user) {
@@ -30,7 +32,8 @@ public class UserResponse {
                 user.getName(),
                 user.getEmail(),
                 user.getCreatedAt(),
-                user.getModifiedAt()
+                user.getModifiedAt(),
+                user.getVersion()
         );
     }
 
@@ -40,4 +43,5 @@ public class UserResponse {
     public String getEmail() { return email; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getModifiedAt() { return modifiedAt; }
+    public Long getVersion() { return version; }
 }
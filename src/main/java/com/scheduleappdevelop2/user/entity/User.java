@@ -20,11 +20,12 @@ import static lombok.AccessLevel.PROTECTED;
 public class User extends BaseTimeEntity {
 
     /**
-     * PK (AUTO_INCREMENT)
-     * - DB가 자동 생성하는 식별자
+     * PK (pooled 시퀀스)
+     * - users_seq 에서 50개씩 미리 할당받아 사용하는 식별자
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -51,6 +52,13 @@ public class User extends BaseTimeEntity {
     @Column(length = 100, nullable = false)
     private String password;
 
+    /**
+     * 낙관적 락 버전
+     * - 수정이 flush 될 때마다 증가한다. 동시 수정 시 나중 커밋이 실패해 덮어쓰기를 막는다.
+     */
+    @Version
+    private Long version;
+
     /**
      * 엔티티 생성용 생성자
      * - Builder 로만 객체가 생성되도록 제한하여 안정성을 높인다.
@@ -90,4 +98,5 @@ public class User extends BaseTimeEntity {
     public String getName() { return name; }
     public String getEmail() { return email; }
     public String getPassword() { return password; }
+    public Long getVersion() { return version; }
 }
@@ -0,0 +1,23 @@
+package com.scheduleappdevelop2.user.event;
+
+/**
+ * UserEmailChangedEvent
+ * - 유저의 이메일이 바뀌었음을 알리는 애플리케이션 이벤트.
+ * - UserService가 트랜잭션 안에서 발행하고, 작성자 이메일을 담아 둔 캐시(일정 조회 등)는
+ *   @TransactionalEventListener로 커밋 이후에 그 유저의 항목을 무효화한다.
+ */
+public class UserEmailChangedEvent {
+
+    private final Long userId; // 이메일이 바뀐 유저 ID
+
+    private UserEmailChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+
+    public static UserEmailChangedEvent of(Long userId) {
+        return new UserEmailChangedEvent(userId);
+    }
+
+    //getter
+    public Long getUserId() { return userId; }
+}
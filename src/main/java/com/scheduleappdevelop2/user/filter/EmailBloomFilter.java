@@ -0,0 +1,353 @@
+package com.scheduleappdevelop2.user.filter;
+
+import com.scheduleappdevelop2.user.repository.UserEmail;
+import com.scheduleappdevelop2.user.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * EmailBloomFilter
+ * - 가입된 이메일 집합을 메모리에 비트 배열(Bloom filter)로 들고 있는다.
+ * - mightContain() 이 false 면 이 필터가 아는 범위에서는 없는 이메일이다.
+ *   가입 중복 검사는 false 면 DB 조회(existsByEmail)를 건너뛴다. (놓친 중복은 email unique 제약이 막고 DUPLICATE_EMAIL 로 응답한다)
+ *   로그인은 다른 인스턴스의 가입처럼 필터가 모르는 계정이 있을 수 있으므로 false 여도 DB로 확인하고,
+ *   DB에 있었으면 놓친 것(miss)으로 기록해 필터에 추가하고 다음 주기에 다시 만든다.
+ * - 비트 수/해시 수는 expected-insertions 와 false-positive-rate 로 정한다.
+ * - 시작 시 DB 전체 이메일로 만들고, 가입/이메일 변경이 커밋된 뒤 추가한다.
+ *   재구축은 building 을 먼저 세우고 DB를 읽으므로, 커밋 뒤에 추가된 이메일은 DB 읽기나 building 중 한쪽에는 반드시 반영된다.
+ * - Bloom filter 는 항목을 뺄 수 없으므로 삭제/이메일 변경은 stale 로만 기록해 둔다.
+ *   rebuild-interval 마다 stale, 용량 초과, 놓친 이메일이 있었거나 DB 유저 수가 추가한 수보다 많으면 DB 기준으로 다시 만든다.
+ * - 구축이 끝나기 전에는 항상 true (DB로 확인)를 반환한다.
+ * - 예상 오탐률(비트 채움 비율 기준)과 실제 오탐(필터 true → DB 없음)/놓침(필터 false → DB 있음) 횟수를 메트릭(user.email.filter.*)으로 노출한다.
+ */
+@Slf4j
+@Component
+public class EmailBloomFilter implements MeterBinder {
+
+    private static final int BUILD_PAGE_SIZE = 10_000;
+
+    /** 결합 문자(악센트 등). 분해한 뒤 지워서 utf8mb4_0900_ai_ci 처럼 악센트를 구분하지 않는다. */
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final UserRepository userRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    /** 현재 사용하는 필터 (구축 전에는 null) */
+    private volatile Bits bits;
+
+    /** 재구축 중인 필터. 구축 중에 들어온 추가도 여기에 함께 반영한다. */
+    private volatile Bits building;
+
+    /** 마지막 구축 이후 삭제/이메일 변경 횟수 */
+    private final AtomicLong stale = new AtomicLong();
+
+    /** 마지막 구축 이후 필터가 놓친(false 였는데 DB에 있던) 횟수 */
+    private final AtomicLong missedSinceBuild = new AtomicLong();
+
+    private final AtomicLong negatives = new AtomicLong();
+    private final AtomicLong positives = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong rebuilds = new AtomicLong();
+
+    public EmailBloomFilter(UserRepository userRepository,
+                            @Value("${user.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                            @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("user.email-filter.false-positive-rate 는 0과 1 사이여야 합니다.");
+        }
+        this.userRepository = userRepository;
+        this.expectedInsertions = Math.max(1, expectedInsertions);
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * 이메일이 가입되어 있을 수 있는지
+     * - false: 이 필터가 아는 범위(구축 + 커밋 뒤 추가)에서는 없음
+     * - true : 있을 수도 있음 (DB로 확인)
+     */
+    public boolean mightContain(String email) {
+        Bits bits = this.bits;
+        if (bits == null) {
+            return true;
+        }
+        String key = normalize(email);
+        boolean result = bits.mightContain(hash1(key), hash2(key));
+        (result ? positives : negatives).incrementAndGet();
+        return result;
+    }
+
+    /**
+     * 가입/이메일 변경 시 추가 (저장이 커밋된 뒤에 호출한다)
+     * - 커밋 뒤라면, building 이 세워지기 전에 읽었어도 재구축의 DB 읽기에 이 이메일이 잡힌다.
+     */
+    public void put(String email) {
+        String key = normalize(email);
+        long h1 = hash1(key);
+        long h2 = hash2(key);
+
+        Bits building = this.building;
+        if (building != null) {
+            building.put(h1, h2);
+        }
+        Bits bits = this.bits;
+        if (bits != null) {
+            bits.put(h1, h2);
+        }
+    }
+
+    /** 진행 중인 트랜잭션이 있으면 커밋된 뒤에, 없으면 바로 추가 */
+    public void putAfterCommit(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(email);
+            }
+        });
+    }
+
+    /** 삭제/이메일 변경 기록 (다음 재구축 대상) */
+    public void markStale() {
+        stale.incrementAndGet();
+    }
+
+    /** mightContain() 이 true 였는데 DB에 없었을 때 호출 (실제 오탐률 측정용) */
+    public void recordFalsePositive() {
+        if (bits != null) {
+            falsePositives.incrementAndGet();
+        }
+    }
+
+    /** mightContain() 이 false 였는데 DB에 있었을 때 호출 (필터에 추가하고 다음 주기에 재구축) */
+    public void recordMiss(String email) {
+        misses.incrementAndGet();
+        missedSinceBuild.incrementAndGet();
+        put(email);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 주기적 재구축
+     * - 다음 중 하나면 다시 만든다.
+     *   삭제/이메일 변경이 있었을 때, 추가가 용량을 넘어 오탐률이 설정보다 나빠졌을 때,
+     *   놓친 이메일이 있었을 때, DB 유저 수가 필터에 추가한 수보다 많을 때 (다른 인스턴스의 가입 등 이 필터를 거치지 않은 저장)
+     */
+    @Scheduled(fixedDelayString = "${user.email-filter.rebuild-interval:PT1H}",
+               initialDelayString = "${user.email-filter.rebuild-interval:PT1H}")
+    public void rebuildIfNeeded() {
+        Bits bits = this.bits;
+        if (bits == null || stale.get() > 0 || missedSinceBuild.get() > 0 || bits.insertions.get() > bits.capacity
+                || userRepository.count() > bits.insertions.get()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB 기준으로 필터를 새로 만들어 교체한다.
+     * - 용량은 현재 유저 수의 2배와 expected-insertions 중 큰 값.
+     * - ID 커서로 BUILD_PAGE_SIZE 건씩 (ID, 이메일)만 읽는다.
+     */
+    private synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+        long staleBefore = stale.get();
+        long missedBefore = missedSinceBuild.get();
+
+        Bits next = new Bits(Math.max(expectedInsertions, userRepository.count() * 2), falsePositiveRate);
+        this.building = next;
+        try {
+            Long afterId = 0L;
+            List<UserEmail> page;
+            do {
+                page = userRepository.findEmailsAfter(afterId, PageRequest.of(0, BUILD_PAGE_SIZE));
+                for (UserEmail row : page) {
+                    String key = normalize(row.getEmail());
+                    next.put(hash1(key), hash2(key));
+                }
+                if (!page.isEmpty()) {
+                    afterId = page.get(page.size() - 1).getId();
+                }
+            } while (page.size() == BUILD_PAGE_SIZE);
+
+            this.bits = next;
+            stale.addAndGet(-staleBefore);
+            missedSinceBuild.addAndGet(-missedBefore);
+            rebuilds.incrementAndGet();
+            log.info("이메일 필터 구축: {}건, {}bit, 해시 {}개, {}ms",
+                    next.insertions.get(), next.size, next.hashes, (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (Exception e) {
+            // 실패해도 기존 필터(없으면 항상 DB 확인)로 계속 동작한다
+            log.error("이메일 필터 구축 실패", e);
+        } finally {
+            this.building = null;
+        }
+    }
+
+    /**
+     * DB 비교 규칙(utf8mb4_0900_ai_ci)에 맞춘 정규화
+     * - 대소문자와 악센트를 구분하지 않으므로 호환 분해(NFKD) 후 결합 문자를 지우고 소문자로 바꾼다. (é → e, ｅ → e)
+     * - ß 는 ss 와 같게 본다. 끝 공백도 지워, DB가 구분하는 값까지 같은 키로 묶일 수는 있어도 DB가 같게 보는 값을 놓치지는 않는다.
+     */
+    static String normalize(String email) {
+        String decomposed = Normalizer.normalize(email.stripTrailing(), Normalizer.Form.NFKD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                .toLowerCase(Locale.ROOT)
+                .replace("ß", "ss");
+    }
+
+    /** FNV-1a 64 */
+    private static long fnv(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long hash1(String key) {
+        return mix(fnv(key));
+    }
+
+    /** 두 번째 해시는 0이 되지 않게 해서 (h1 + i·h2) 가 해시마다 다른 위치를 고르게 한다 */
+    private static long hash2(String key) {
+        return mix(fnv(key) + 0x9e3779b97f4a7c15L) | 1L;
+    }
+
+    /** murmur3 fmix64 */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private double expectedFalsePositiveRate() {
+        Bits bits = this.bits;
+        return bits == null ? 1.0 : bits.expectedFalsePositiveRate();
+    }
+
+    private long sizeInBits() {
+        Bits bits = this.bits;
+        return bits == null ? 0 : bits.size;
+    }
+
+    private long insertions() {
+        Bits bits = this.bits;
+        return bits == null ? 0 : bits.insertions.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("user.email.filter.lookups", negatives, AtomicLong::get)
+                .tag("result", "negative")
+                .description("필터가 없다고 답한 횟수 (가입 중복 검사는 이때 DB 조회를 건너뛰고, 로그인은 그래도 DB로 확인한다)")
+                .register(registry);
+        FunctionCounter.builder("user.email.filter.lookups", positives, AtomicLong::get)
+                .tag("result", "positive")
+                .register(registry);
+        FunctionCounter.builder("user.email.filter.false.positives", falsePositives, AtomicLong::get)
+                .description("필터는 있을 수도 있다고 했지만 DB에 없었던 횟수")
+                .register(registry);
+        FunctionCounter.builder("user.email.filter.misses", misses, AtomicLong::get)
+                .description("필터는 없다고 했지만 DB에 있었던 횟수 (필터가 모르는 저장)")
+                .register(registry);
+        FunctionCounter.builder("user.email.filter.rebuilds", rebuilds, AtomicLong::get).register(registry);
+        Gauge.builder("user.email.filter.expected.fpp", this, EmailBloomFilter::expectedFalsePositiveRate)
+                .description("현재 비트 채움 비율로 계산한 예상 오탐률")
+                .register(registry);
+        Gauge.builder("user.email.filter.configured.fpp", this, filter -> filter.falsePositiveRate).register(registry);
+        Gauge.builder("user.email.filter.size.bits", this, EmailBloomFilter::sizeInBits).register(registry);
+        Gauge.builder("user.email.filter.insertions", this, EmailBloomFilter::insertions).register(registry);
+        Gauge.builder("user.email.filter.stale", stale, AtomicLong::get).register(registry);
+    }
+
+    /**
+     * 비트 배열
+     * - size = -n·ln(p) / (ln 2)², hashes = size/n · ln 2
+     * - 위치 i = (h1 + i·h2) mod size (이중 해싱)
+     * - 비트 설정은 CAS 라 락 없이 여러 스레드가 동시에 추가/조회할 수 있다.
+     */
+    private static final class Bits {
+
+        private final long capacity;
+        private final long size;
+        private final int hashes;
+        private final AtomicLongArray words;
+
+        private final AtomicLong bitCount = new AtomicLong();
+        private final AtomicLong insertions = new AtomicLong();
+
+        private Bits(long capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            this.size = Math.max(64, (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+            this.hashes = Math.max(1, (int) Math.round((double) size / capacity * Math.log(2)));
+            this.words = new AtomicLongArray(Math.toIntExact((size + 63) >>> 6));
+        }
+
+        private void put(long h1, long h2) {
+            for (int i = 0; i < hashes; i++) {
+                if (set(Math.floorMod(h1 + i * h2, size))) {
+                    bitCount.incrementAndGet();
+                }
+            }
+            insertions.incrementAndGet();
+        }
+
+        private boolean mightContain(long h1, long h2) {
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(h1 + i * h2, size);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** 새로 켠 비트면 true */
+        private boolean set(long bit) {
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word;
+            do {
+                word = words.get(index);
+                if ((word & mask) != 0) {
+                    return false;
+                }
+            } while (!words.compareAndSet(index, word, word | mask));
+            return true;
+        }
+
+        private double expectedFalsePositiveRate() {
+            return Math.pow((double) bitCount.get() / size, hashes);
+        }
+    }
+}
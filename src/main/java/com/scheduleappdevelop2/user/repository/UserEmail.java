@@ -0,0 +1,13 @@
+package com.scheduleappdevelop2.user.repository;
+
+/**
+ * UserEmail
+ * - 이메일 필터를 만들 때 필요한 값(ID, 이메일)만 담는 인터페이스 프로젝션.
+ * - 전체 유저를 엔티티로 만들지 않고 ID 순서로 나눠 읽기 위해 사용한다.
+ */
+public interface UserEmail {
+
+    Long getId();
+
+    String getEmail();
+}
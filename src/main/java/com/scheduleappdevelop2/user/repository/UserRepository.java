@@ -1,7 +1,13 @@
 package com.scheduleappdevelop2.user.repository;
 
 import com.scheduleappdevelop2.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,4 +21,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     Optional<User> findByEmail(String email);
+
+    // 이메일 필터 구축용: ID 커서 기준으로 (ID, 이메일)만 한 페이지씩 조회 (PK 범위 스캔)
+    @Query("select u.id as id, u.email as email from User u where u.id > :afterId order by u.id asc")
+    List<UserEmail> findEmailsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 로그인 시 재해시 저장용: 해시가 그 사이 바뀌지 않았을 때만 교체 (비밀번호는 응답/ETag에 나오지 않으므로 version 은 올리지 않는다)
+    // 해시 전용 스레드에서 호출되므로 자체 트랜잭션으로 실행한다
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :newPassword where u.id = :id and u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
 }
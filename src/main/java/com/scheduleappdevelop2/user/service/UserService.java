@@ -1,8 +1,11 @@
 package com.scheduleappdevelop2.user.service;
 
 import com.scheduleappdevelop2.global.config.PasswordEncoder;
+import com.scheduleappdevelop2.global.config.PasswordHashExecutor;
+import com.scheduleappdevelop2.global.exception.ServiceBusyException;
 import com.scheduleappdevelop2.global.exception.LoginFailException;
 import com.scheduleappdevelop2.global.exception.NotFoundException;
+import com.scheduleappdevelop2.global.web.ETags;
 import com.scheduleappdevelop2.user.dto.login.LoginResponse;
 import com.scheduleappdevelop2.user.dto.login.LoginRequest;
 import com.scheduleappdevelop2.user.dto.sessionUser.SessionUser;
@@ -12,15 +15,22 @@ import com.scheduleappdevelop2.user.dto.userResponse.UserResponse;
 import com.scheduleappdevelop2.user.dto.userCreate.UserCreateRequest;
 import com.scheduleappdevelop2.user.dto.userCreate.UserCreateResponse;
 import com.scheduleappdevelop2.user.entity.User;
+import com.scheduleappdevelop2.user.event.UserEmailChangedEvent;
+import com.scheduleappdevelop2.user.filter.EmailBloomFilter;
 import com.scheduleappdevelop2.user.repository.UserRepository;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static com.scheduleappdevelop2.global.exception.ErrorCode.NOT_AUTHENTICATED;
+import static com.scheduleappdevelop2.global.exception.ErrorCode.PRECONDITION_FAILED;
 import static com.scheduleappdevelop2.global.exception.ErrorCode.USER_NOT_FOUND;
 import static com.scheduleappdevelop2.global.exception.ErrorMessage.*;
 
@@ -30,6 +40,7 @@ import static com.scheduleappdevelop2.global.exception.ErrorMessage.*;
  * - Controller는 단순 요청 처리만 하고, 핵심 로직은 모두 Service에서 수행한다.
  * - 유효성 검사, 중복 체크, DB 조회/수정/삭제 등의 실제 처리 흐름이 들어있다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
@@ -37,15 +48,20 @@ public class UserService {
     /** 의존성 주입 */
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final EmailBloomFilter emailFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 유저 생성
      * - 이름/이메일/비밀번호의 유효성을 검사하고 중복 여부도 확인한다.
      * - User.of()를 통해 엔티티를 생성하여 DB에 저장한다.
      * - 저장한 엔티티를 UserCreateResponse DTO로 변환해 반환한다.
+     * - BCrypt 해시는 전용 풀에서 만들고, 저장은 해시가 끝난 뒤 이어서 실행한다. (요청 스레드는 해시를 기다리지 않고 바로 반환)
+     *   해시를 기다리는 동안 DB 커넥션을 잡지 않도록 메서드 전체를 트랜잭션으로 묶지 않는다.
+     *   (중복 검사와 저장 사이의 경합은 email unique 제약이 막는다)
      */
-    @Transactional
-    public UserCreateResponse createUser(UserCreateRequest requestData) {
+    public CompletableFuture<UserCreateResponse> createUser(UserCreateRequest requestData) {
 
         // 이름 공백 확인
         if(requestData.getName() == null || requestData.getName().isBlank()) {
@@ -59,25 +75,39 @@ public class UserService {
         if(requestData.getEmail() == null || requestData.getEmail().isBlank()) {
             throw new IllegalArgumentException("이메일에 공백이 포함 될수 없습니다.");
         }
-        // 이메일 중복 검사
-        if(userRepository.existsByEmail(requestData.getEmail())) {
-            throw new CustomException(DUPLICATE_EMAIL);
+        // 이메일 중복 검사 (필터가 없다고 하면 DB 조회 생략. 필터가 놓친 중복은 저장 시 unique 제약으로 DUPLICATE_EMAIL)
+        if(emailFilter.mightContain(requestData.getEmail())) {
+            if(userRepository.existsByEmail(requestData.getEmail())) {
+                throw new CustomException(DUPLICATE_EMAIL);
+            }
+            emailFilter.recordFalsePositive();
         }
 
-        // DTO → 엔터티 변환 (정적 팩토리 메서드 사용)
-        String encodedPassword = passwordEncoder.encode(requestData.getPassword());
-
-        User user = User.of(
-                requestData.getName(),
-                requestData.getEmail(),
-                encodedPassword
-        );
-
-        // 엔터티 저장
-        User saved = userRepository.save(user);
-
-        // 저장된 엔터티를 응답 DTO로 변환
-        return UserCreateResponse.from(saved);
+        // 비밀번호 해시 (전용 풀, 포화 시 503 + Retry-After)
+        return passwordHashExecutor.encode(requestData.getPassword())
+                .thenApply(encodedPassword -> {
+
+                    // DTO → 엔터티 변환 (정적 팩토리 메서드 사용)
+                    User user = User.of(
+                            requestData.getName(),
+                            requestData.getEmail(),
+                            encodedPassword
+                    );
+
+                    // 엔터티 저장
+                    User saved;
+                    try {
+                        saved = userRepository.save(user);
+                    } catch (DataIntegrityViolationException e) {
+                        throw duplicateEmailOr(e);
+                    }
+
+                    // 저장(커밋) 뒤 필터에 추가 (재구축 중이어도 DB 읽기나 새 필터 중 한쪽에 반영되도록)
+                    emailFilter.put(saved.getEmail());
+
+                    // 저장된 엔터티를 응답 DTO로 변환
+                    return UserCreateResponse.from(saved);
+                });
     }
 
     /**
@@ -117,15 +147,20 @@ public class UserService {
      * - 엔티티 수정 후 UpdateUserResponse DTO로 변환하여 반환한다.
      */
     @Transactional
-    public UpdateUserResponse updateUser(Long id, UpdateUserRequest requestData, SessionUser sessionUser) {
+    public UpdateUserResponse updateUser(Long id, UpdateUserRequest requestData, String ifMatch, SessionUser sessionUser) {
+
+        //로그인 세션 조회 (본인 여부는 ID 비교만으로 판단하므로 조회 전에 먼저 검사)
+        if(!id.equals(sessionUser.getId())) {
+            throw new CustomException(NOT_VALID_OWNER);
+        }
 
         // 엔티티 조회
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new CustomException(NOT_FOUND_USER));
 
-        //로그인 세션 조회
-        if(!user.getId().equals(sessionUser.getId())) {
-            throw new CustomException(NOT_VALID_OWNER);
+        // 조건부 수정: 클라이언트가 마지막으로 본 버전이 아니면 덮어쓰지 않는다
+        if(!ETags.matches(ifMatch, id, user.getVersion())) {
+            throw new CustomException(PRECONDITION_FAILED);
         }
 
         // 요청 데이터 확인
@@ -133,9 +168,24 @@ public class UserService {
             throw new CustomException(DATA_NOT_FOUND);
         }
 
+        // 이메일이 바뀌면 커밋 뒤 새 이메일을 필터에 추가 (예전 이메일은 뺄 수 없으므로 재구축 대상으로 기록)
+        // 일정 조회 캐시는 작성자 이메일을 담고 있으므로 커밋 뒤 이 유저의 항목을 무효화한다
+        if(requestData.getEmail() != null && !requestData.getEmail().equals(user.getEmail())) {
+            emailFilter.putAfterCommit(requestData.getEmail());
+            emailFilter.markStale();
+            eventPublisher.publishEvent(UserEmailChangedEvent.of(id));
+        }
+
         // 엔티티에게 값 변경 명령
         user.update(requestData.getName(), requestData.getEmail());
 
+        // 버전 조건 UPDATE 를 바로 실행 (동시 수정 충돌이면 412, 이미 쓰는 이메일이면 DUPLICATE_EMAIL, 성공이면 증가된 버전을 응답에 담는다)
+        try {
+            userRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateEmailOr(e);
+        }
+
         // DTO 변환 후 반환
         return UpdateUserResponse.from(user);
     }
@@ -148,27 +198,33 @@ public class UserService {
     @Transactional
     public void deleteUser(Long id, SessionUser sessionUser) {
 
+        //로그인 세션 조회 (본인 여부는 ID 비교만으로 판단)
+        if(!id.equals(sessionUser.getId())) {
+            throw new CustomException(NOT_VALID_OWNER);
+        }
+
         // 엔티티 조회
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new CustomException(NOT_FOUND_USER));
 
-        //로그인 세션 조회
-        if(!user.getId().equals(sessionUser.getId())) {
-            throw new CustomException(NOT_VALID_OWNER);
-        }
-
         // 삭제
-        userRepository.deleteById(id);
+        userRepository.delete(user);
+
+        // 필터에서는 뺄 수 없으므로 재구축 대상으로 기록 (그 전까지는 이 이메일이 오탐으로 DB 조회될 뿐)
+        emailFilter.markStale();
     }
 
     /**
      * 로그인 기능
      * - 이메일/비밀번호 검증 후, DB 값과 비교해 로그인 여부를 결정한다.
-     * - 로그인 성공 시 세션을 생성하고 로그인 정보를 저장한다.
-     * - 이후 로그인한 사용자의 기본 정보를 LoginResponse로 반환한다.
+     * - 로그인한 사용자의 기본 정보를 LoginResponse로 반환한다.
+     *   세션 저장은 비동기 디스패치(요청 스레드)에서 응답을 쓰기 직전에 LoginSessionAdvice 가 한다. (해시 풀 스레드에서 세션을 다루지 않도록)
+     * - 비밀번호 검증(BCrypt)은 전용 풀에서 실행하고 결과를 CompletableFuture 로 돌려준다.
+     *   요청 스레드는 조회만 하고 바로 반환되며, 풀이 가득 차면 503 + Retry-After 로 거절된다.
+     * - 검증 중에 DB 커넥션을 잡지 않도록 트랜잭션을 걸지 않는다. (조회는 리포지토리 호출 한 번)
+     * - 저장된 해시가 현재 cost 보다 약하면 로그인 성공 후 평문이 있는 이 시점에 다시 해시해 둔다. (응답은 기다리지 않음)
      */
-    @Transactional
-    public LoginResponse login(LoginRequest requestData, HttpServletRequest httpRequest) {
+    public CompletableFuture<LoginResponse> login(LoginRequest requestData) {
 
         // 1) 이메일 입력값 검증
         // - 이메일이 null이거나 비어 있으면 아예 로그인 시도 자체가 불가능하므로 즉시 예외 처리.
@@ -184,26 +240,78 @@ public class UserService {
 
         // 3) 이메일을 기준으로 데이터베이스에서 유저 조회
         // - 일치하는 이메일이 없으면 Optional이 비어 있으므로 orElseThrow로 예외 처리.
+        // - 필터가 없다고 해도 필터가 모르는 계정(다른 인스턴스의 가입 등)일 수 있으므로 DB로 확인한다.
+        //   이때 DB에 있으면 필터가 놓친 것으로 기록해 필터에 추가하고 재구축을 앞당긴다.
+        boolean mightExist = emailFilter.mightContain(requestData.getEmail());
         User user = userRepository.findByEmail(requestData.getEmail())
-                .orElseThrow(() -> new CustomException(NOT_VALID_LOGIN));
+                .orElseThrow(() -> {
+                    if(mightExist) {
+                        emailFilter.recordFalsePositive();
+                    }
+                    return new CustomException(NOT_VALID_LOGIN);
+                });
+        if(!mightExist) {
+            emailFilter.recordMiss(user.getEmail());
+        }
 
-        // 4) 비밀번호 비교 (passwordEncoder를 아직 배우지 않았으므로 평문 비교)
-        // - user.getPassword() : DB에 저장된 비밀번호
+        // 4) 비밀번호 비교 (BCrypt, 전용 풀에서 실행)
+        // - user.getPassword() : DB에 저장된 비밀번호 해시
         // - requestData.getPassword() : 사용자가 입력한 비밀번호
         // - 두 값이 다르면 예외 발생 (로그인 실패)
-        if(!passwordEncoder.matches(requestData.getPassword(), user.getPassword())) {
-                throw new CustomException(NOT_VALID_LOGIN);
+        return passwordHashExecutor.matches(requestData.getPassword(), user.getPassword())
+                .thenApply(matched -> {
+                    if(!matched) {
+                        throw new CustomException(NOT_VALID_LOGIN);
+                    }
+
+                    // 5) 예전 cost 로 만든 해시면 현재 cost 로 교체
+                    rehashIfNeeded(user, requestData.getPassword());
+
+                    // 6) 이메일과 비밀번호가 모두 일치했으므로 로그인 성공
+                    // - 로그인 정보 DTO 반환 (세션 저장은 응답을 쓰는 요청 스레드에서)
+                    return LoginResponse.from(user);
+                });
+    }
+
+    /**
+     * email unique 제약 위반이면 DUPLICATE_EMAIL, 그 밖의 무결성 위반은 그대로
+     * - 가입 중복 검사는 필터가 없다고 하면 DB 조회를 건너뛰므로, 필터가 모르는 중복(다른 인스턴스의 가입 등)은 여기서 걸린다.
+     */
+    private static RuntimeException duplicateEmailOr(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return new CustomException(DUPLICATE_EMAIL);
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            // MySQL ER_DUP_ENTRY (users 테이블의 unique 제약은 email 하나뿐)
+            if (cause instanceof SQLException sqlException && sqlException.getErrorCode() == 1062) {
+                return new CustomException(DUPLICATE_EMAIL);
+            }
         }
+        return e;
+    }
 
-        // 5) 이메일과 비밀번호가 모두 일치했으므로 로그인 성공
-        // - 세션 객체를 가져오고(true: 세션 없으면 새로 생성)
-        // - 로그인한 사용자 정보를 세션에 저장 (로그인 유지 목적)
-        HttpSession session = httpRequest.getSession(true);
-        SessionUser sessionUser = new SessionUser(user.getId(), user.getEmail());
-        session.setAttribute("loginUser", sessionUser);
+    /**
+     * 비밀번호 재해시
+     * - 해시 문자열의 버전/cost 가 현재 설정보다 낮을 때만, 전용 풀에서 새 해시를 만들어 저장한다.
+     * - 로그인 응답과 무관하게 진행하고, 풀이 바쁘거나 저장에 실패하면 다음 로그인 때 다시 시도한다.
+     * - 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않는다. (기존 해시 조건 UPDATE)
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        String oldPassword = user.getPassword();
+        if(!passwordEncoder.needsRehash(oldPassword)) {
+            return;
+        }
 
-        // 6) 컨트롤러로 반환할 로그인 정보 DTO 생성 후 반환
-        return LoginResponse.from(user);
+        try {
+            passwordHashExecutor.encode(rawPassword)
+                    .thenAccept(newPassword -> userRepository.updatePasswordIfUnchanged(user.getId(), oldPassword, newPassword))
+                    .exceptionally(e -> {
+                        log.warn("비밀번호 재해시 저장 실패: userId = {}", user.getId(), e);
+                        return null;
+                    });
+        } catch (ServiceBusyException e) {
+            // 로그인 검증을 우선한다
+        }
     }
 
 }
@@ -0,0 +1,65 @@
+package com.scheduleappdevelop2.comment.controller;
+
+import com.scheduleappdevelop2.comment.dto.CommentCreateRequest;
+import com.scheduleappdevelop2.comment.dto.CommentResponse;
+import com.scheduleappdevelop2.comment.ingest.CommentIngestQueue;
+import com.scheduleappdevelop2.comment.service.CommentService;
+import com.scheduleappdevelop2.global.exception.CustomException;
+import com.scheduleappdevelop2.global.exception.ErrorCode;
+import com.scheduleappdevelop2.global.web.ETags;
+import com.scheduleappdevelop2.user.dto.sessionUser.SessionUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * CommentController 조건부 수정 테스트
+ * - If-Match 없이 온 수정은 서비스를 부르지 않고 428 로 거절하고, 성공하면 새 버전의 ETag 를 돌려주는지 검증한다.
+ */
+class CommentControllerTest {
+
+    private static final SessionUser SESSION_USER = new SessionUser(7L, "me@example.com");
+
+    private CommentService commentService;
+    private CommentController commentController;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        commentService = mock(CommentService.class);
+        commentController = new CommentController(commentService, mock(CommentIngestQueue.class));
+        request = new MockHttpServletRequest();
+        request.getSession(true).setAttribute("loginUser", SESSION_USER);
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void updateWithoutIfMatchIsRejectedWith428() {
+        assertThatThrownBy(() -> commentController.update(1L, 10L, null, new CommentCreateRequest("수정", null), request, response))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.PRECONDITION_REQUIRED);
+        verifyNoInteractions(commentService);
+    }
+
+    @Test
+    void updateReturnsTheNewVersionAsETag() {
+        CommentCreateRequest body = new CommentCreateRequest("수정", null);
+        CommentResponse updated = mock(CommentResponse.class);
+        when(updated.getVersion()).thenReturn(4L);
+        when(commentService.updateComment(10L, body, ETags.of(10L, 3L), SESSION_USER)).thenReturn(updated);
+
+        commentController.update(1L, 10L, ETags.of(10L, 3L), body, request, response);
+
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETags.of(10L, 4L));
+    }
+}
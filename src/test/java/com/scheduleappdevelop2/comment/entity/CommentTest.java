@@ -0,0 +1,63 @@
+package com.scheduleappdevelop2.comment.entity;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Comment 경로(materialized path) 단위 테스트
+ * - 답글의 조상 경로가 부모의 전체 경로가 되는지, 깊이 계산, 전체 경로 정렬이 깊이 우선 순서인지 검증한다.
+ */
+class CommentTest {
+
+    @Test
+    void topLevelCommentHasEmptyPathAndDepthZero() {
+        Comment root = comment(1L, null);
+
+        assertThat(root.getPath()).isEmpty();
+        assertThat(root.getDepth()).isZero();
+        assertThat(root.getParentId()).isNull();
+        assertThat(root.threadPath()).isEqualTo("00000001");
+    }
+
+    @Test
+    void replyPathIsTheParentsThreadPath() {
+        Comment root = comment(1L, null);
+        Comment reply = comment(36L, root);
+        Comment nested = comment(37L, reply);
+
+        assertThat(reply.getPath()).isEqualTo("00000001");
+        assertThat(reply.threadPath()).isEqualTo("0000000100000010"); // 36 = "10" (36진수)
+        assertThat(reply.getDepth()).isEqualTo(1);
+        assertThat(reply.getParentId()).isEqualTo(1L);
+
+        assertThat(nested.getPath()).isEqualTo(reply.threadPath());
+        assertThat(nested.getDepth()).isEqualTo(2);
+        assertThat(nested.threadPath()).startsWith(root.threadPath());
+    }
+
+    @Test
+    void threadPathOrderIsDepthFirst() {
+        Comment root = comment(1L, null);
+        Comment first = comment(2L, root);
+        Comment second = comment(10L, root);      // "a" 는 "2" 뒤
+        Comment firstChild = comment(40L, first); // 부모(2) 바로 뒤, 형제(10) 앞
+
+        List<Long> order = List.of(second, firstChild, root, first).stream()
+                .sorted(Comparator.comparing(Comment::threadPath))
+                .map(Comment::getId)
+                .toList();
+
+        assertThat(order).containsExactly(1L, 2L, 40L, 10L);
+    }
+
+    private static Comment comment(Long id, Comment parent) {
+        Comment comment = parent == null ? Comment.of("댓글", null, null) : Comment.reply("답글", parent, null);
+        ReflectionTestUtils.setField(comment, "id", id);
+        return comment;
+    }
+}
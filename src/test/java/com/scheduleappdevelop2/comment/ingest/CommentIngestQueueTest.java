@@ -0,0 +1,250 @@
+package com.scheduleappdevelop2.comment.ingest;
+
+import com.scheduleappdevelop2.comment.dto.CommentIngestResponse;
+import com.scheduleappdevelop2.comment.dto.CommentIngestResponse.Status;
+import com.scheduleappdevelop2.comment.service.CommentService;
+import com.scheduleappdevelop2.global.exception.CustomException;
+import com.scheduleappdevelop2.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * CommentIngestQueue 단위 테스트 (DB 없이)
+ * - CommentService 를 가짜로 두고 배치 묶음/순서, 저장하지 못한 건만 FAILED, 일시적 오류 재시도,
+ *   특정 건 때문에 실패한 배치의 분할 저장, 예상하지 못한 Error 뒤에도 저장 스레드가 계속 도는지,
+ *   큐 가득 참(503), 접수 번호의 일정 확인을 검증한다.
+ */
+class CommentIngestQueueTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+
+    private CommentService commentService;
+    private CommentIngestQueue queue;
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    /** 저장 호출마다 넘어온 배치 (내용 순서 그대로 복사) */
+    private final List<List<String>> calls = new CopyOnWriteArrayList<>();
+    private final AtomicLong nextId = new AtomicLong(100);
+
+    @BeforeEach
+    void setUp() {
+        commentService = mock(CommentService.class);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (queue != null) {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    void collectsUpToBatchSizeAndSavesInOrder() {
+        start(1, 100, 3, Duration.ofMillis(300));
+        when(commentService.createCommentBatch(anyList())).thenAnswer(invocation -> saveAll(invocation.getArgument(0)));
+
+        List<CommentIngestResponse> responses = submitAll("a", "b", "c", "d", "e");
+
+        awaitTrue(() -> responses.stream().allMatch(response -> statusOf(response) == Status.SAVED));
+        assertThat(calls).containsExactly(List.of("a", "b", "c"), List.of("d", "e"));
+        assertThat(responses).extracting(response -> queue.status(SCHEDULE_ID, response.getTicket()).getCommentId())
+                .containsExactly(100L, 101L, 102L, 103L, 104L);
+        assertThat(registry.get("comment.ingest.batch.size").summary().count()).isEqualTo(2);
+    }
+
+    @Test
+    void onlyUnsavedItemsFail() {
+        start(1, 100, 10, Duration.ofMillis(100));
+        when(commentService.createCommentBatch(anyList())).thenAnswer(invocation -> {
+            List<PendingComment> batch = invocation.getArgument(0);
+            record(batch);
+            List<Long> ids = new ArrayList<>();
+            for (PendingComment pending : batch) {
+                ids.add(pending.getContent().equals("no-parent") ? null : nextId.getAndIncrement());
+            }
+            return ids;
+        });
+
+        List<CommentIngestResponse> responses = submitAll("a", "no-parent", "b");
+
+        awaitTrue(() -> responses.stream().noneMatch(response -> statusOf(response) == Status.PENDING));
+        assertThat(responses).extracting(this::statusOf).containsExactly(Status.SAVED, Status.FAILED, Status.SAVED);
+        assertThat(registry.get("comment.ingest.failed").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void transientFailureIsRetriedWithTheSameBatch() {
+        start(1, 100, 10, Duration.ofMillis(100));
+        AtomicInteger attempts = new AtomicInteger();
+        when(commentService.createCommentBatch(anyList())).thenAnswer(invocation -> {
+            List<PendingComment> batch = invocation.getArgument(0);
+            if (attempts.incrementAndGet() < 3) {
+                record(batch);
+                throw new CannotAcquireLockException("lock wait timeout");
+            }
+            return saveAll(batch);
+        });
+
+        List<CommentIngestResponse> responses = submitAll("a", "b");
+
+        awaitTrue(() -> responses.stream().allMatch(response -> statusOf(response) == Status.SAVED));
+        assertThat(calls).containsExactly(List.of("a", "b"), List.of("a", "b"), List.of("a", "b"));
+        assertThat(registry.get("comment.ingest.retries").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("comment.ingest.splits").functionCounter().count()).isZero();
+    }
+
+    @Test
+    void transientFailureFailsTheBatchAfterMaxRetries() {
+        start(1, 100, 10, Duration.ofMillis(100));
+        when(commentService.createCommentBatch(anyList())).thenAnswer(invocation -> {
+            record(invocation.getArgument(0));
+            throw new CannotAcquireLockException("lock wait timeout");
+        });
+
+        List<CommentIngestResponse> responses = submitAll("a", "b");
+
+        awaitTrue(() -> responses.stream().allMatch(response -> statusOf(response) == Status.FAILED));
+        assertThat(calls).hasSize(1 + 2); // 처음 1번 + max-retries 2번, 나누지 않는다
+        assertThat(registry.get("comment.ingest.failed").functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void persistentFailureSplitsTheBatchSoOnlyTheBadItemFails() {
+        start(1, 100, 10, Duration.ofMillis(100));
+        when(commentService.createCommentBatch(anyList())).thenAnswer(invocation -> {
+            List<PendingComment> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(pending -> pending.getContent().equals("bad"))) {
+                record(batch);
+                throw new DataIntegrityViolationException("Data too long for column 'content'");
+            }
+            return saveAll(batch);
+        });
+
+        List<CommentIngestResponse> responses = submitAll("a", "b", "bad", "c", "d");
+
+        awaitTrue(() -> responses.stream().noneMatch(response -> statusOf(response) == Status.PENDING));
+        assertThat(responses).extracting(this::statusOf)
+                .containsExactly(Status.SAVED, Status.SAVED, Status.FAILED, Status.SAVED, Status.SAVED);
+        // 성공한 건은 접수 순서대로 저장된다
+        assertThat(responses).extracting(response -> queue.status(SCHEDULE_ID, response.getTicket()).getCommentId())
+                .containsExactly(100L, 101L, null, 102L, 103L);
+        assertThat(registry.get("comment.ingest.failed").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("comment.ingest.retries").functionCounter().count()).isZero();
+    }
+
+    @Test
+    void writerKeepsRunningAfterAnError() {
+        start(1, 100, 10, Duration.ofMillis(50));
+        AtomicInteger attempts = new AtomicInteger();
+        when(commentService.createCommentBatch(anyList())).thenAnswer(invocation -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new StackOverflowError();
+            }
+            return saveAll(invocation.getArgument(0));
+        });
+
+        CommentIngestResponse first = queue.submit(SCHEDULE_ID, 7L, null, "a");
+        awaitTrue(() -> statusOf(first) == Status.FAILED);
+        CommentIngestResponse second = queue.submit(SCHEDULE_ID, 7L, null, "b");
+
+        awaitTrue(() -> statusOf(second) == Status.SAVED);
+        assertThat(registry.get("comment.ingest.failed").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsWhenThePartitionQueueIsFull() throws InterruptedException {
+        start(1, 1, 1, Duration.ZERO);
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(commentService.createCommentBatch(anyList())).thenAnswer(invocation -> {
+            saving.countDown();
+            release.await(2, TimeUnit.SECONDS);
+            return saveAll(invocation.getArgument(0));
+        });
+
+        CommentIngestResponse first = queue.submit(SCHEDULE_ID, 7L, null, "a");
+        assertThat(saving.await(2, TimeUnit.SECONDS)).isTrue(); // 저장 스레드가 첫 건을 들고 막힘
+        CommentIngestResponse second = queue.submit(SCHEDULE_ID, 7L, null, "b");
+
+        assertThatThrownBy(() -> queue.submit(SCHEDULE_ID, 7L, null, "c"))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SERVICE_BUSY);
+        assertThat(registry.get("comment.ingest.rejected").functionCounter().count()).isEqualTo(1);
+
+        release.countDown();
+        awaitTrue(() -> statusOf(first) == Status.SAVED && statusOf(second) == Status.SAVED);
+    }
+
+    @Test
+    void ticketIsOnlyVisibleUnderItsSchedule() {
+        start(1, 100, 10, Duration.ofMillis(100));
+        when(commentService.createCommentBatch(anyList())).thenAnswer(invocation -> saveAll(invocation.getArgument(0)));
+
+        CommentIngestResponse response = queue.submit(SCHEDULE_ID, 7L, null, "a");
+
+        assertThat(queue.status(SCHEDULE_ID, response.getTicket())).isNotNull();
+        assertThat(queue.status(SCHEDULE_ID + 1, response.getTicket())).isNull();
+        assertThat(queue.status(SCHEDULE_ID, "unknown")).isNull();
+    }
+
+    private void start(int partitions, int capacity, int batchSize, Duration maxWait) {
+        queue = new CommentIngestQueue(commentService, partitions, capacity, batchSize, maxWait, 1000, 2, Duration.ofMillis(5));
+        queue.bindTo(registry);
+    }
+
+    private List<CommentIngestResponse> submitAll(String... contents) {
+        List<CommentIngestResponse> responses = new ArrayList<>();
+        for (String content : contents) {
+            responses.add(queue.submit(SCHEDULE_ID, 7L, null, content));
+        }
+        return responses;
+    }
+
+    private List<Long> saveAll(List<PendingComment> batch) {
+        record(batch);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            ids.add(nextId.getAndIncrement());
+        }
+        return ids;
+    }
+
+    private void record(List<PendingComment> batch) {
+        calls.add(batch.stream().map(PendingComment::getContent).toList());
+    }
+
+    private Status statusOf(CommentIngestResponse response) {
+        return queue.status(SCHEDULE_ID, response.getTicket()).getStatus();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("조건을 2초 안에 만족하지 못했습니다.");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
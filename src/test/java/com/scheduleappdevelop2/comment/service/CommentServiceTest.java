@@ -0,0 +1,250 @@
+package com.scheduleappdevelop2.comment.service;
+
+import com.scheduleappdevelop2.comment.dto.CommentCreateRequest;
+import com.scheduleappdevelop2.comment.dto.CommentResponse;
+import com.scheduleappdevelop2.comment.dto.CommentThreadResponse;
+import com.scheduleappdevelop2.comment.entity.Comment;
+import com.scheduleappdevelop2.comment.repository.CommentOwnership;
+import com.scheduleappdevelop2.comment.repository.CommentRepository;
+import com.scheduleappdevelop2.global.exception.CustomException;
+import com.scheduleappdevelop2.global.exception.ErrorCode;
+import com.scheduleappdevelop2.global.web.ETags;
+import com.scheduleappdevelop2.schedule.entity.Schedule;
+import com.scheduleappdevelop2.schedule.repository.ScheduleRepository;
+import com.scheduleappdevelop2.user.dto.sessionUser.SessionUser;
+import com.scheduleappdevelop2.user.entity.User;
+import com.scheduleappdevelop2.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CommentService 답글 트리 단위 테스트 (DB 없이)
+ * - 탈퇴한 세션 유저의 작성 거부(FK 위반 대신 CustomException), 수정의 If-Match 버전 검사(412)와 동시 수정 충돌,
+ * - 답글 작성 시 부모의 답글 수 증가와 최대 깊이 제한, 하위 트리 삭제(경로 접두사)와 부모 답글 수 감소,
+ *   트리 조회의 깊이 우선 순서와 잘림 표시(truncated)를 검증한다.
+ */
+class CommentServiceTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+    private static final SessionUser SESSION_USER = new SessionUser(7L, "me@example.com");
+
+    private CommentRepository commentRepository;
+    private ScheduleRepository scheduleRepository;
+    private UserRepository userRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private CommentService commentService;
+
+    private Schedule schedule;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        commentRepository = mock(CommentRepository.class);
+        scheduleRepository = mock(ScheduleRepository.class);
+        userRepository = mock(UserRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        commentService = new CommentService(commentRepository, scheduleRepository, userRepository, eventPublisher);
+        ReflectionTestUtils.setField(commentService, "maxThreadSize", 1000);
+
+        schedule = mock(Schedule.class);
+        when(schedule.getId()).thenReturn(SCHEDULE_ID);
+        user = mock(User.class);
+        when(user.getId()).thenReturn(SESSION_USER.getId());
+        when(user.getEmail()).thenReturn(SESSION_USER.getEmail());
+
+        when(scheduleRepository.findById(SCHEDULE_ID)).thenReturn(Optional.of(schedule));
+        when(userRepository.existsById(SESSION_USER.getId())).thenReturn(true);
+        when(userRepository.getReferenceById(SESSION_USER.getId())).thenReturn(user);
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void deletedSessionUserCannotComment() {
+        when(userRepository.existsById(SESSION_USER.getId())).thenReturn(false);
+
+        assertThatThrownBy(() -> commentService.createComment(SCHEDULE_ID, new CommentCreateRequest("댓글", null), SESSION_USER))
+                .isInstanceOf(CustomException.class);
+        verify(userRepository, never()).getReferenceById(anyLong());
+        verify(commentRepository, never()).save(any());
+    }
+
+    @Test
+    void staleIfMatchIsRejectedWithoutUpdating() {
+        Comment comment = versioned(comment(10L, null), 4L);
+        when(commentRepository.findWithUserById(10L)).thenReturn(Optional.of(comment));
+
+        assertThatThrownBy(() -> commentService.updateComment(10L, new CommentCreateRequest("수정", null), ETags.of(10L, 3L), SESSION_USER))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.PRECONDITION_FAILED);
+        assertThat(comment.getContent()).isEqualTo("댓글");
+        verify(commentRepository, never()).flush();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void matchingIfMatchUpdatesAndFlushes() {
+        Comment comment = versioned(comment(10L, null), 3L);
+        when(commentRepository.findWithUserById(10L)).thenReturn(Optional.of(comment));
+
+        CommentResponse response = commentService.updateComment(10L, new CommentCreateRequest("수정", null), ETags.of(10L, 3L), SESSION_USER);
+
+        assertThat(response.getContent()).isEqualTo("수정");
+        verify(commentRepository).flush();
+    }
+
+    @Test
+    void concurrentUpdateAfterTheCheckSurfacesAsOptimisticLockFailure() {
+        // If-Match 검사는 통과했지만 그 사이 다른 요청이 커밋 → 버전 조건 UPDATE 0건 (핸들러가 412 로 바꾼다)
+        Comment comment = versioned(comment(10L, null), 3L);
+        when(commentRepository.findWithUserById(10L)).thenReturn(Optional.of(comment));
+        doThrow(new ObjectOptimisticLockingFailureException(Comment.class, 10L)).when(commentRepository).flush();
+
+        assertThatThrownBy(() -> commentService.updateComment(10L, new CommentCreateRequest("수정", null), ETags.of(10L, 3L), SESSION_USER))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void replyIsPlacedUnderItsParentAndIncrementsTheReplyCount() {
+        Comment parent = comment(3L, null);
+        when(commentRepository.findById(3L)).thenReturn(Optional.of(parent));
+
+        CommentResponse response = commentService.createComment(SCHEDULE_ID, new CommentCreateRequest("답글", 3L), SESSION_USER);
+
+        assertThat(response.getParentId()).isEqualTo(3L);
+        assertThat(response.getDepth()).isEqualTo(1);
+        verify(commentRepository).addReplyCount(3L, 1);
+    }
+
+    @Test
+    void replyBelowTheMaxDepthIsRejected() {
+        Comment parent = comment(3L, null);
+        ReflectionTestUtils.setField(parent, "path", "0".repeat(8 * Comment.MAX_DEPTH));
+        when(commentRepository.findById(3L)).thenReturn(Optional.of(parent));
+
+        assertThatThrownBy(() -> commentService.createComment(SCHEDULE_ID, new CommentCreateRequest("답글", 3L), SESSION_USER))
+                .isInstanceOf(CustomException.class);
+        verify(commentRepository, never()).save(any());
+        verify(commentRepository, never()).addReplyCount(anyLong(), anyInt());
+    }
+
+    @Test
+    void deleteRemovesTheWholeSubtreeAndDecrementsTheParent() {
+        String prefix = Comment.threadPath(Comment.threadPath("", 3L), 10L) + "%";
+        when(commentRepository.findOwnershipById(10L))
+                .thenReturn(Optional.of(ownership(3L, Comment.threadPath("", 3L), 2)));
+        when(commentRepository.findIdsByPathPrefix(prefix)).thenReturn(List.of(11L, 12L));
+
+        List<Long> deletedIds = commentService.deleteComment(10L, SESSION_USER);
+
+        assertThat(deletedIds).containsExactly(10L, 11L, 12L);
+        verify(commentRepository).deleteThreadInBulk(10L, prefix);
+        verify(commentRepository, never()).deleteByIdInBulk(anyLong());
+        verify(commentRepository).addReplyCount(3L, -1);
+        verify(eventPublisher, times(3)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void deleteWithoutRepliesDeletesOnlyTheComment() {
+        when(commentRepository.findOwnershipById(10L)).thenReturn(Optional.of(ownership(null, "", 0)));
+
+        List<Long> deletedIds = commentService.deleteComment(10L, SESSION_USER);
+
+        assertThat(deletedIds).containsExactly(10L);
+        verify(commentRepository).deleteByIdInBulk(10L);
+        verify(commentRepository, never()).findIdsByPathPrefix(any());
+        verify(commentRepository, never()).addReplyCount(anyLong(), anyInt());
+    }
+
+    @Test
+    void threadIsDepthFirstAndFlagsTruncation() {
+        ReflectionTestUtils.setField(commentService, "maxThreadSize", 2);
+        Comment root = comment(1L, null);
+        ReflectionTestUtils.setField(root, "replyCount", 2);
+        Comment first = comment(2L, root);
+        Comment firstChild = comment(9L, first);
+        when(commentRepository.findWithUserById(1L)).thenReturn(Optional.of(root));
+        // DB 가 깊이 우선 순서로 max-size + 1 건을 돌려준다 (1 → 2 → 9 → 5)
+        when(commentRepository.findReplyIdsInThreadOrder(root.threadPath() + "%", 3)).thenReturn(List.of(2L, 9L, 5L));
+        when(commentRepository.findAllWithUserByIdIn(List.of(2L, 9L))).thenReturn(List.of(firstChild, first));
+
+        CommentThreadResponse response = commentService.getThread(SCHEDULE_ID, 1L);
+
+        assertThat(response.getComments()).extracting(CommentResponse::getId).containsExactly(1L, 2L, 9L);
+        assertThat(response.getComments()).extracting(CommentResponse::getDepth).containsExactly(0, 1, 2);
+        assertThat(response.isTruncated()).isTrue();
+    }
+
+    @Test
+    void threadWithinTheLimitIsNotTruncated() {
+        Comment root = comment(1L, null);
+        ReflectionTestUtils.setField(root, "replyCount", 1);
+        Comment reply = comment(2L, root);
+        when(commentRepository.findWithUserById(1L)).thenReturn(Optional.of(root));
+        when(commentRepository.findReplyIdsInThreadOrder(root.threadPath() + "%", 1001)).thenReturn(List.of(2L));
+        when(commentRepository.findAllWithUserByIdIn(List.of(2L))).thenReturn(List.of(reply));
+
+        CommentThreadResponse response = commentService.getThread(SCHEDULE_ID, 1L);
+
+        assertThat(response.getComments()).extracting(CommentResponse::getId).containsExactly(1L, 2L);
+        assertThat(response.isTruncated()).isFalse();
+    }
+
+    private Comment comment(Long id, Comment parent) {
+        Comment comment = parent == null ? Comment.of("댓글", schedule, user) : Comment.reply("답글", parent, user);
+        ReflectionTestUtils.setField(comment, "id", id);
+        return comment;
+    }
+
+    private static Comment versioned(Comment comment, long version) {
+        ReflectionTestUtils.setField(comment, "version", version);
+        return comment;
+    }
+
+    private static CommentOwnership ownership(Long parentId, String path, int replyCount) {
+        return new CommentOwnership() {
+            @Override
+            public Long getOwnerId() {
+                return SESSION_USER.getId();
+            }
+
+            @Override
+            public Long getScheduleId() {
+                return SCHEDULE_ID;
+            }
+
+            @Override
+            public Long getParentId() {
+                return parentId;
+            }
+
+            @Override
+            public String getPath() {
+                return path;
+            }
+
+            @Override
+            public int getReplyCount() {
+                return replyCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package com.scheduleappdevelop2.global.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PasswordEncoder 단위 테스트
+ * - 해시 문자열("$2a$NN$...")의 cost 읽기와 재해시 판단, 시작 시 cost 보정이 min/max 범위를 지키는지 검증한다.
+ * - 보정은 실제 BCrypt 를 돌리므로 작은 cost 범위로 확인한다.
+ */
+class PasswordEncoderTest {
+
+    @Test
+    void readsTheCostFromTheHashPrefix() {
+        assertThat(PasswordEncoder.costOf("$2a$12$abcdefghijklmnopqrstuv")).isEqualTo(12);
+        assertThat(PasswordEncoder.costOf("$2b$04$abcdefghijklmnopqrstuv")).isEqualTo(4);
+        assertThat(PasswordEncoder.costOf("$2a$1x$abcdefghijklmnopqrstuv")).isZero();
+        assertThat(PasswordEncoder.costOf("$2a$123abcdefghijklmnopqrstuv")).isZero();
+        assertThat(PasswordEncoder.costOf("plain")).isZero();
+    }
+
+    @Test
+    void needsRehashWhenTheCostIsLowerOrTheVersionDiffers() {
+        PasswordEncoder encoder = fixed(12);
+
+        assertThat(encoder.needsRehash("$2a$10$abcdefghijklmnopqrstuv")).isTrue();
+        assertThat(encoder.needsRehash("$2a$12$abcdefghijklmnopqrstuv")).isFalse();
+        assertThat(encoder.needsRehash("$2a$14$abcdefghijklmnopqrstuv")).isFalse();
+        assertThat(encoder.needsRehash("$2b$12$abcdefghijklmnopqrstuv")).isTrue();
+        assertThat(encoder.needsRehash("plain")).isTrue();
+    }
+
+    @Test
+    void encodedHashCarriesTheCurrentCostAndVerifies() {
+        PasswordEncoder encoder = fixed(4);
+
+        String hash = encoder.encode("secret");
+
+        assertThat(hash).startsWith("$2a$04$");
+        assertThat(encoder.matches("secret", hash)).isTrue();
+        assertThat(encoder.matches("other", hash)).isFalse();
+        assertThat(encoder.needsRehash(hash)).isFalse();
+    }
+
+    @Test
+    void calibrationKeepsTheMinimumEvenWhenItIsSlowerThanTheTarget() {
+        PasswordEncoder encoder = new PasswordEncoder(0, Duration.ZERO, 10, 16);
+
+        assertThat(encoder.getCost()).isEqualTo(10);
+    }
+
+    @Test
+    void calibrationStopsAtTheMaximum() {
+        PasswordEncoder encoder = new PasswordEncoder(0, Duration.ofHours(1), 4, 6);
+
+        assertThat(encoder.getCost()).isEqualTo(6);
+    }
+
+    @Test
+    void fixedCostSkipsCalibration() {
+        assertThat(fixed(13).getCost()).isEqualTo(13);
+    }
+
+    private static PasswordEncoder fixed(int cost) {
+        return new PasswordEncoder(cost, Duration.ZERO, 10, 16);
+    }
+}
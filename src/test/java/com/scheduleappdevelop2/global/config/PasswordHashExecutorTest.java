@@ -0,0 +1,102 @@
+package com.scheduleappdevelop2.global.config;
+
+import com.scheduleappdevelop2.global.exception.ErrorResponse;
+import com.scheduleappdevelop2.global.exception.GlobalExceptionHandler;
+import com.scheduleappdevelop2.global.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PasswordHashExecutor 단위 테스트 (BCrypt 없이)
+ * - PasswordEncoder 를 가짜로 두고 스레드와 큐가 모두 찼을 때 기다리지 않고 거절하는지,
+ *   거절이 503 + Retry-After 응답으로 이어지는지, 자리가 나면 다시 받는지를 검증한다.
+ */
+class PasswordHashExecutorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(2, TimeUnit.SECONDS);
+            return "hash-of-" + invocation.getArgument(0);
+        });
+        // 스레드 1개 + 대기 1개
+        executor = new PasswordHashExecutor(passwordEncoder, 1, 1, Duration.ofSeconds(2));
+        executor.bindTo(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenThePoolAndQueueAreFull() throws Exception {
+        CompletableFuture<String> running = executor.encode("a");
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue(); // 스레드가 첫 건을 들고 막힘
+        CompletableFuture<String> queued = executor.encode("b");
+
+        Throwable thrown = catchThrowable(() -> executor.encode("c"));
+
+        assertThat(thrown).isInstanceOf(ServiceBusyException.class);
+        assertThat(((ServiceBusyException) thrown).getRetryAfterSeconds()).isEqualTo(2);
+        assertThat(registry.get("password.hash.rejected").functionCounter().count()).isEqualTo(1);
+
+        // 자리가 나면 앞선 작업은 모두 끝나고 새 작업도 받는다
+        release.countDown();
+        assertThat(running.get(2, TimeUnit.SECONDS)).isEqualTo("hash-of-a");
+        assertThat(queued.get(2, TimeUnit.SECONDS)).isEqualTo("hash-of-b");
+        assertThat(executor.encode("d").get(2, TimeUnit.SECONDS)).isEqualTo("hash-of-d");
+    }
+
+    @Test
+    void rejectionIsAnsweredWith503AndRetryAfter() throws InterruptedException {
+        executor.encode("a");
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        executor.encode("b");
+
+        Throwable thrown = catchThrowable(() -> executor.matches("c", "hash"));
+        assertThat(thrown).isInstanceOf(ServiceBusyException.class);
+        ResponseEntity<ErrorResponse> response = new GlobalExceptionHandler().handleServiceBusy((ServiceBusyException) thrown);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getBody().getStatus()).isEqualTo(503);
+    }
+
+    @Test
+    void retryAfterIsAtLeastOneSecond() {
+        executor.shutdown();
+        executor = new PasswordHashExecutor(mock(PasswordEncoder.class), 1, 1, Duration.ofMillis(200));
+        executor.shutdown(); // 종료된 풀도 같은 경로로 거절된다
+
+        assertThatThrownBy(() -> executor.encode("a"))
+                .isInstanceOf(ServiceBusyException.class)
+                .extracting(e -> ((ServiceBusyException) e).getRetryAfterSeconds())
+                .isEqualTo(1L);
+    }
+}
@@ -0,0 +1,51 @@
+package com.scheduleappdevelop2.global.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GlobalExceptionHandler 조건부 수정 응답 테스트
+ * - If-Match 누락(428), 버전 불일치(412), 검사 이후 동시 수정으로 버전 조건 UPDATE 가 0건이 된 경우(412)를 검증한다.
+ */
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void missingIfMatchIs428() {
+        ResponseEntity<ErrorResponse> response = handler.handleCustomException(new CustomException(ErrorCode.PRECONDITION_REQUIRED));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_REQUIRED);
+        assertThat(response.getBody().getMessage()).isEqualTo(ErrorCode.PRECONDITION_REQUIRED.getMessage());
+    }
+
+    @Test
+    void staleIfMatchIs412() {
+        ResponseEntity<ErrorResponse> response = handler.handleCustomException(new CustomException(ErrorCode.PRECONDITION_FAILED));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @Test
+    void concurrentVersionConflictIs412() {
+        ResponseEntity<ErrorResponse> response = handler.handleOptimisticLock(
+                new ObjectOptimisticLockingFailureException("Schedule", 1L));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(response.getBody().getStatus()).isEqualTo(412);
+        assertThat(response.getBody().getMessage()).isEqualTo(ErrorCode.PRECONDITION_FAILED.getMessage());
+    }
+
+    @Test
+    void plainOptimisticLockingFailureIs412() {
+        ResponseEntity<ErrorResponse> response = handler.handleOptimisticLock(
+                new OptimisticLockingFailureException("Row was updated or deleted by another transaction"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+}
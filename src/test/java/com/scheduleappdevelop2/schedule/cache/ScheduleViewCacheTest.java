@@ -0,0 +1,94 @@
+package com.scheduleappdevelop2.schedule.cache;
+
+import com.scheduleappdevelop2.schedule.cache.ScheduleViewCache.CachedSchedule;
+import com.scheduleappdevelop2.schedule.dto.checkSchedule.ScheduleResponse;
+import com.scheduleappdevelop2.user.event.UserEmailChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ScheduleViewCache 단위 테스트
+ * - 조회 도중의 무효화가 그 일정(또는 작성자)일 때만 저장을 막는지,
+ *   이메일 변경 시 작성자의 항목이 모두 빠지는지, 무효화 기록을 버린 뒤에도 오래된 값이 저장되지 않는지 검증한다.
+ */
+class ScheduleViewCacheTest {
+
+    private static final Long OWNER_ID = 7L;
+
+    private ScheduleViewCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ScheduleViewCache(100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void invalidatingAnotherScheduleDoesNotBlockTheStore() {
+        long generation = cache.generation();
+        cache.invalidate(2L);
+
+        cache.putIfUnchanged(1L, cached(OWNER_ID), generation);
+
+        assertThat(cache.get(1L)).isNotNull();
+    }
+
+    @Test
+    void invalidatingTheSameScheduleDuringTheLoadBlocksTheStore() {
+        long generation = cache.generation();
+        cache.invalidate(1L);
+
+        cache.putIfUnchanged(1L, cached(OWNER_ID), generation);
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    void invalidationBeforeTheLoadDoesNotBlockTheStore() {
+        cache.invalidate(1L);
+        long generation = cache.generation();
+
+        cache.putIfUnchanged(1L, cached(OWNER_ID), generation);
+
+        assertThat(cache.get(1L)).isNotNull();
+    }
+
+    @Test
+    void emailChangeDropsAndBlocksOnlyThatOwnersEntries() {
+        cache.putIfUnchanged(1L, cached(OWNER_ID), cache.generation());
+        cache.putIfUnchanged(2L, cached(OWNER_ID), cache.generation());
+        cache.putIfUnchanged(3L, cached(99L), cache.generation());
+        long inFlight = cache.generation(); // 이메일 변경 커밋 전에 시작한 조회
+
+        cache.onUserEmailChanged(UserEmailChangedEvent.of(OWNER_ID));
+        cache.putIfUnchanged(4L, cached(OWNER_ID), inFlight);
+        cache.putIfUnchanged(5L, cached(99L), inFlight);
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(4L)).isNull();
+        assertThat(cache.get(3L)).isNotNull();
+        assertThat(cache.get(5L)).isNotNull();
+    }
+
+    @Test
+    void droppedInvalidationRecordsStillBlockOlderLoads() {
+        cache = new ScheduleViewCache(2, Duration.ofMinutes(5));
+        long generation = cache.generation();
+        cache.invalidate(1L);
+        cache.invalidate(2L);
+        cache.invalidate(3L); // 일정 1의 기록이 밀려난다
+
+        cache.putIfUnchanged(1L, cached(OWNER_ID), generation);
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    private static CachedSchedule cached(Long ownerId) {
+        return new CachedSchedule(ownerId, 0L, mock(ScheduleResponse.class));
+    }
+}
@@ -0,0 +1,131 @@
+package com.scheduleappdevelop2.schedule.calendar;
+
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FreeBusyCalculator 단위 테스트
+ * - 겹치는/맞닿은/포함된 구간 합치기, 조회 기간 밖 잘라내기, 빈 구간과 최소 길이 필터를 검증한다.
+ */
+class FreeBusyCalculatorTest {
+
+    private static final LocalDateTime FROM = at(8, 0);
+    private static final LocalDateTime TO = at(18, 0);
+
+    @Test
+    void overlappingIntervalsAreMerged() {
+        List<TimeBlock> busy = FreeBusyCalculator.mergeBusy(List.of(
+                block(at(10, 0), at(12, 0)),
+                block(at(9, 0), at(11, 0))), FROM, TO);
+
+        assertThat(busy).extracting(TimeBlock::getStartAt, TimeBlock::getEndAt)
+                .containsExactly(pair(at(9, 0), at(12, 0)));
+    }
+
+    @Test
+    void touchingIntervalsAreMergedIntoOne() {
+        List<TimeBlock> busy = FreeBusyCalculator.mergeBusy(List.of(
+                block(at(10, 0), at(11, 0)),
+                block(at(9, 0), at(10, 0))), FROM, TO);
+
+        assertThat(busy).extracting(TimeBlock::getStartAt, TimeBlock::getEndAt)
+                .containsExactly(pair(at(9, 0), at(11, 0)));
+    }
+
+    @Test
+    void nestedAndSeparateIntervalsStayOrdered() {
+        List<TimeBlock> busy = FreeBusyCalculator.mergeBusy(List.of(
+                block(at(14, 0), at(15, 0)),
+                block(at(9, 0), at(12, 0)),
+                block(at(10, 0), at(11, 0)),
+                block(at(9, 0), at(12, 0))), FROM, TO);
+
+        assertThat(busy).extracting(TimeBlock::getStartAt, TimeBlock::getEndAt)
+                .containsExactly(
+                        pair(at(9, 0), at(12, 0)),
+                        pair(at(14, 0), at(15, 0)));
+    }
+
+    @Test
+    void intervalsAreClippedToTheWindow() {
+        List<TimeBlock> busy = FreeBusyCalculator.mergeBusy(List.of(
+                block(at(7, 0), at(9, 0)),      // 앞쪽이 잘린다
+                block(at(17, 0), at(20, 0)),    // 뒤쪽이 잘린다
+                block(at(6, 0), at(8, 0)),      // from 에 딱 끝남 → 제외
+                block(at(18, 0), at(19, 0)),    // to 에 시작 → 제외
+                block(at(10, 0), at(10, 0))),   // 길이 0 → 제외
+                FROM, TO);
+
+        assertThat(busy).extracting(TimeBlock::getStartAt, TimeBlock::getEndAt)
+                .containsExactly(
+                        pair(at(8, 0), at(9, 0)),
+                        pair(at(17, 0), at(18, 0)));
+    }
+
+    @Test
+    void noBlocksMeansNoBusyAndTheWholeWindowIsFree() {
+        List<TimeBlock> busy = FreeBusyCalculator.mergeBusy(List.of(), FROM, TO);
+
+        assertThat(busy).isEmpty();
+        assertThat(FreeBusyCalculator.freeSlots(busy, FROM, TO, Duration.ZERO))
+                .extracting(TimeBlock::getStartAt, TimeBlock::getEndAt)
+                .containsExactly(pair(FROM, TO));
+    }
+
+    @Test
+    void freeSlotsAreTheGapsBetweenBusyBlocks() {
+        List<TimeBlock> busy = FreeBusyCalculator.mergeBusy(List.of(
+                block(at(9, 0), at(10, 0)),
+                block(at(12, 0), at(13, 0))), FROM, TO);
+
+        assertThat(FreeBusyCalculator.freeSlots(busy, FROM, TO, Duration.ZERO))
+                .extracting(TimeBlock::getStartAt, TimeBlock::getEndAt)
+                .containsExactly(
+                        pair(at(8, 0), at(9, 0)),
+                        pair(at(10, 0), at(12, 0)),
+                        pair(at(13, 0), at(18, 0)));
+    }
+
+    @Test
+    void freeSlotsShorterThanMinLengthAreDropped() {
+        List<TimeBlock> busy = FreeBusyCalculator.mergeBusy(List.of(
+                block(at(9, 0), at(10, 0)),
+                block(at(12, 0), at(13, 0))), FROM, TO);
+
+        // 8~9시(60분)는 빠지고, 10~12시(120분)는 최소 길이와 같아도 남는다
+        assertThat(FreeBusyCalculator.freeSlots(busy, FROM, TO, Duration.ofMinutes(120)))
+                .extracting(TimeBlock::getStartAt, TimeBlock::getEndAt)
+                .containsExactly(
+                        pair(at(10, 0), at(12, 0)),
+                        pair(at(13, 0), at(18, 0)));
+    }
+
+    @Test
+    void busyCoveringWindowEdgesLeavesNoEmptySlots() {
+        List<TimeBlock> busy = FreeBusyCalculator.mergeBusy(List.of(
+                block(at(7, 0), at(12, 0)),
+                block(at(12, 0), at(19, 0))), FROM, TO);
+
+        assertThat(busy).extracting(TimeBlock::getStartAt, TimeBlock::getEndAt)
+                .containsExactly(pair(FROM, TO));
+        assertThat(FreeBusyCalculator.freeSlots(busy, FROM, TO, Duration.ZERO)).isEmpty();
+    }
+
+    private static LocalDateTime at(int hour, int minute) {
+        return LocalDateTime.of(2026, 1, 5, hour, minute);
+    }
+
+    private static TimeBlock block(LocalDateTime startAt, LocalDateTime endAt) {
+        return TimeBlock.of(startAt, endAt);
+    }
+
+    private static Tuple pair(LocalDateTime startAt, LocalDateTime endAt) {
+        return Tuple.tuple(startAt, endAt);
+    }
+}
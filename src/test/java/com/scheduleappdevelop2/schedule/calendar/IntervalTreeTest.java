@@ -0,0 +1,106 @@
+package com.scheduleappdevelop2.schedule.calendar;
+
+import com.scheduleappdevelop2.schedule.dto.calendarSchedule.CalendarScheduleResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IntervalTree 단위 테스트
+ * - 겹침 조건(startAt < to, endAt > from)의 경계, 시작/종료 시간이 없는 일정 제외, 결과 순서를 검증한다.
+ * - 길이가 제각각인 일정 묶음에 대해 전체 비교(브루트 포스) 결과와 같은지도 확인한다. (maxEnd 가지치기 검증)
+ */
+class IntervalTreeTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Test
+    void touchingIntervalsDoNotOverlap() {
+        IntervalTree tree = IntervalTree.of(List.of(
+                item(1L, 0, 60),      // 00:00 ~ 01:00
+                item(2L, 60, 120),    // 01:00 ~ 02:00
+                item(3L, 120, 180))); // 02:00 ~ 03:00
+
+        assertThat(ids(tree.query(at(60), at(120)))).containsExactly(2L);
+        assertThat(ids(tree.query(at(59), at(121)))).containsExactly(1L, 2L, 3L);
+        assertThat(tree.query(at(180), at(240))).isEmpty();
+    }
+
+    @Test
+    void longIntervalStartingEarlyIsFoundThroughMaxEnd() {
+        // 가장 먼저 시작하는 일정이 가장 늦게 끝난다 → 왼쪽 서브트리를 건너뛰면 안 된다
+        IntervalTree tree = IntervalTree.of(List.of(
+                item(1L, 0, 10_000),
+                item(2L, 10, 20),
+                item(3L, 30, 40),
+                item(4L, 50, 60),
+                item(5L, 9_000, 9_010)));
+
+        assertThat(ids(tree.query(at(5_000), at(5_001)))).containsExactly(1L);
+        assertThat(ids(tree.query(at(9_005), at(9_006)))).containsExactly(1L, 5L);
+    }
+
+    @Test
+    void schedulesWithoutPeriodAreExcludedAndResultIsSortedByStart() {
+        IntervalTree tree = IntervalTree.of(List.of(
+                item(3L, 30, 90),
+                CalendarScheduleResponse.occurrence(9L, "기간 없음", null, null, null),
+                item(1L, 0, 60),
+                item(2L, 0, 45)));
+
+        assertThat(tree.size()).isEqualTo(3);
+        // 시작 시간이 같으면 ID 순
+        assertThat(ids(tree.query(at(0), at(100)))).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void emptyTreeReturnsNothing() {
+        IntervalTree tree = IntervalTree.of(List.of());
+
+        assertThat(tree.size()).isZero();
+        assertThat(tree.query(at(0), at(1_000))).isEmpty();
+    }
+
+    @Test
+    void queryMatchesBruteForce() {
+        Random random = new Random(42);
+        List<CalendarScheduleResponse> schedules = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            int start = random.nextInt(10_000);
+            int length = random.nextInt(10) == 0 ? random.nextInt(3_000) + 1 : random.nextInt(60) + 1;
+            schedules.add(item(id, start, start + length));
+        }
+        IntervalTree tree = IntervalTree.of(schedules);
+
+        for (int i = 0; i < 200; i++) {
+            int from = random.nextInt(11_000) - 500;
+            int to = from + random.nextInt(500) + 1;
+
+            List<CalendarScheduleResponse> expected = schedules.stream()
+                    .filter(s -> s.getStartAt().isBefore(at(to)) && s.getEndAt().isAfter(at(from)))
+                    .sorted(Comparator.comparing(CalendarScheduleResponse::getStartAt)
+                            .thenComparing(CalendarScheduleResponse::getId))
+                    .toList();
+
+            assertThat(tree.query(at(from), at(to))).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private static LocalDateTime at(int minutes) {
+        return BASE.plusMinutes(minutes);
+    }
+
+    private static CalendarScheduleResponse item(Long id, int startMinutes, int endMinutes) {
+        return CalendarScheduleResponse.occurrence(id, "일정 " + id, at(startMinutes), at(endMinutes), null);
+    }
+
+    private static List<Long> ids(List<CalendarScheduleResponse> result) {
+        return result.stream().map(CalendarScheduleResponse::getId).toList();
+    }
+}
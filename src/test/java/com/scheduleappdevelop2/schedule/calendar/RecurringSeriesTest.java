@@ -0,0 +1,145 @@
+package com.scheduleappdevelop2.schedule.calendar;
+
+import com.scheduleappdevelop2.schedule.dto.calendarSchedule.CalendarScheduleResponse;
+import com.scheduleappdevelop2.schedule.entity.RecurrenceRule;
+import com.scheduleappdevelop2.schedule.entity.ScheduleOccurrenceOverride;
+import com.scheduleappdevelop2.schedule.repository.ScheduleSeries;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RecurringSeries 단위 테스트
+ * - 매일 09~10시 반복 일정에 대해 취소/이동/제목 변경 기록이 기간 조회에 반영되는지 검증한다.
+ * - 원래 시간은 기간 밖이지만 기간 안으로 옮겨진 발생, 기간 밖으로 옮겨진 발생도 확인한다.
+ */
+class RecurringSeriesTest {
+
+    private static final LocalDateTime SERIES_START = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Test
+    void occurrencesWithoutOverridesFollowTheRule() {
+        RecurringSeries series = RecurringSeries.of(daily(), List.of());
+
+        List<CalendarScheduleResponse> result = series.occurrences(at(2, 0), at(4, 0)).toList();
+
+        assertThat(result).extracting(CalendarScheduleResponse::getStartAt).containsExactly(at(2, 9), at(3, 9));
+        assertThat(result).extracting(CalendarScheduleResponse::getOriginalStartAt).containsExactly(at(2, 9), at(3, 9));
+        assertThat(result).extracting(CalendarScheduleResponse::getTitle).containsOnly("회의");
+    }
+
+    @Test
+    void cancelledOccurrenceIsSkipped() {
+        RecurringSeries series = RecurringSeries.of(daily(), List.of(override(at(3, 9), null, null, null, true)));
+
+        List<CalendarScheduleResponse> result = series.occurrences(at(2, 0), at(5, 0)).toList();
+
+        assertThat(result).extracting(CalendarScheduleResponse::getStartAt).containsExactly(at(2, 9), at(4, 9));
+    }
+
+    @Test
+    void occurrenceMovedInsideWindowKeepsOriginalStart() {
+        RecurringSeries series = RecurringSeries.of(daily(),
+                List.of(override(at(3, 9), "옮긴 회의", at(3, 14), at(3, 15), false)));
+
+        List<CalendarScheduleResponse> result = series.occurrences(at(2, 0), at(5, 0)).toList();
+
+        assertThat(result).extracting(CalendarScheduleResponse::getStartAt)
+                .containsExactly(at(2, 9), at(3, 14), at(4, 9));
+        CalendarScheduleResponse moved = result.get(1);
+        assertThat(moved.getEndAt()).isEqualTo(at(3, 15));
+        assertThat(moved.getOriginalStartAt()).isEqualTo(at(3, 9));
+        assertThat(moved.getTitle()).isEqualTo("옮긴 회의");
+    }
+
+    @Test
+    void occurrenceMovedIntoWindowFromOutsideIsIncludedOnce() {
+        // 1/10 발생을 1/3 20시로 옮김 (종료 시간은 원래 길이로 계산)
+        RecurringSeries series = RecurringSeries.of(daily(), List.of(override(at(10, 9), null, at(3, 20), null, false)));
+
+        List<CalendarScheduleResponse> result = series.occurrences(at(3, 0), at(4, 0)).toList();
+
+        assertThat(result).extracting(CalendarScheduleResponse::getStartAt).containsExactly(at(3, 9), at(3, 20));
+        assertThat(result.get(1).getEndAt()).isEqualTo(at(3, 21));
+        assertThat(result.get(1).getOriginalStartAt()).isEqualTo(at(10, 9));
+    }
+
+    @Test
+    void occurrenceMovedOutOfWindowIsExcluded() {
+        RecurringSeries series = RecurringSeries.of(daily(), List.of(override(at(3, 9), null, at(20, 9), null, false)));
+
+        assertThat(series.occurrences(at(3, 0), at(4, 0)).toList()).isEmpty();
+        assertThat(series.occurrences(at(20, 0), at(21, 0)).toList())
+                .extracting(CalendarScheduleResponse::getOriginalStartAt)
+                .containsExactly(at(20, 9), at(3, 9));
+    }
+
+    @Test
+    void occurrenceEndingAtWindowStartButMovedIntoWindowIsIncluded() {
+        // 1/2 09~10시 발생은 from(10시)과 겹치지 않지만, 12시로 옮겼으므로 기간 안이다
+        RecurringSeries series = RecurringSeries.of(daily(), List.of(override(at(2, 9), null, at(2, 12), null, false)));
+
+        List<CalendarScheduleResponse> result = series.occurrences(at(2, 10), at(3, 0)).toList();
+
+        assertThat(result).extracting(CalendarScheduleResponse::getStartAt).containsExactly(at(2, 12));
+    }
+
+    @Test
+    void occurrenceMovedBeforeTheSeriesStartIsFound() {
+        // 첫 발생(1/1 09시)을 전년 12/30 14시로 앞당김
+        LocalDateTime movedStart = LocalDateTime.of(2025, 12, 30, 14, 0);
+        RecurringSeries series = RecurringSeries.of(daily(), List.of(override(SERIES_START, null, movedStart, null, false)));
+
+        List<CalendarScheduleResponse> result = series
+                .occurrences(LocalDateTime.of(2025, 12, 30, 0, 0), LocalDateTime.of(2025, 12, 31, 0, 0)).toList();
+
+        assertThat(result).extracting(CalendarScheduleResponse::getStartAt).containsExactly(movedStart);
+        assertThat(result.get(0).getOriginalStartAt()).isEqualTo(SERIES_START);
+    }
+
+    @Test
+    void occurrenceMovedAfterTheSeriesEndIsFound() {
+        // 3번만 반복 (1/1 ~ 1/3), 마지막 발생을 1/10 로 미룸
+        RecurringSeries series = RecurringSeries.of(daily(3), List.of(override(at(3, 9), null, at(10, 9), null, false)));
+
+        assertThat(series.occurrences(at(10, 0), at(11, 0)).toList())
+                .extracting(CalendarScheduleResponse::getOriginalStartAt)
+                .containsExactly(at(3, 9));
+        assertThat(series.occurrences(at(1, 0), at(5, 0)).toList())
+                .extracting(CalendarScheduleResponse::getStartAt)
+                .containsExactly(at(1, 9), at(2, 9));
+    }
+
+    private static LocalDateTime at(int day, int hour) {
+        return LocalDateTime.of(2026, 1, day, hour, 0);
+    }
+
+    private static ScheduleOccurrenceOverride override(LocalDateTime original, String title,
+                                                       LocalDateTime startAt, LocalDateTime endAt, boolean cancelled) {
+        ScheduleOccurrenceOverride override = ScheduleOccurrenceOverride.of(null, original);
+        override.apply(title, startAt, endAt, cancelled);
+        return override;
+    }
+
+    /** 1/1 부터 매일 09~10시, 끝없이 반복 */
+    private static ScheduleSeries daily() {
+        return daily(null);
+    }
+
+    /** 1/1 부터 매일 09~10시, count 번 반복 (null 이면 끝없이) */
+    private static ScheduleSeries daily(Integer count) {
+        return new ScheduleSeries() {
+            @Override public Long getId() { return 1L; }
+            @Override public String getTitle() { return "회의"; }
+            @Override public LocalDateTime getStartAt() { return SERIES_START; }
+            @Override public LocalDateTime getEndAt() { return SERIES_START.plusHours(1); }
+            @Override public RecurrenceRule.Frequency getFrequency() { return RecurrenceRule.Frequency.DAILY; }
+            @Override public Integer getRecurrenceInterval() { return 1; }
+            @Override public Integer getRecurrenceCount() { return count; }
+            @Override public LocalDateTime getRecurrenceUntil() { return null; }
+        };
+    }
+}
@@ -0,0 +1,138 @@
+package com.scheduleappdevelop2.schedule.entity;
+
+import com.scheduleappdevelop2.schedule.entity.RecurrenceRule.Frequency;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RecurrenceRule 단위 테스트
+ * - 조회 기간 [from, to) 경계에서 발생이 포함/제외되는 규칙, count/until 종료, 매월 말일 보정을 검증한다.
+ */
+class RecurrenceRuleTest {
+
+    private static final LocalDateTime SERIES_START = LocalDateTime.of(2026, 1, 1, 9, 0);
+    private static final Duration ONE_HOUR = Duration.ofHours(1);
+
+    @Test
+    void occurrenceEndingAtWindowStartIsExcluded() {
+        RecurrenceRule rule = RecurrenceRule.of(Frequency.DAILY, null, null, null);
+
+        // 1/3 09~10시 발생은 from(10시)에 딱 끝나므로 겹치지 않는다
+        List<LocalDateTime> starts = rule.startsOverlapping(SERIES_START, ONE_HOUR,
+                LocalDateTime.of(2026, 1, 3, 10, 0), LocalDateTime.of(2026, 1, 5, 9, 0)).toList();
+
+        assertThat(starts).containsExactly(LocalDateTime.of(2026, 1, 4, 9, 0));
+    }
+
+    @Test
+    void occurrenceStartingAtWindowEndIsExcluded() {
+        RecurrenceRule rule = RecurrenceRule.of(Frequency.DAILY, null, null, null);
+
+        List<LocalDateTime> starts = rule.startsOverlapping(SERIES_START, ONE_HOUR,
+                LocalDateTime.of(2026, 1, 4, 0, 0), LocalDateTime.of(2026, 1, 5, 9, 0)).toList();
+
+        assertThat(starts).containsExactly(LocalDateTime.of(2026, 1, 4, 9, 0));
+    }
+
+    @Test
+    void occurrenceSpanningWindowStartIsIncluded() {
+        RecurrenceRule rule = RecurrenceRule.of(Frequency.DAILY, null, null, null);
+
+        List<LocalDateTime> starts = rule.startsOverlapping(SERIES_START, ONE_HOUR,
+                LocalDateTime.of(2026, 1, 3, 9, 30), LocalDateTime.of(2026, 1, 5, 9, 0)).toList();
+
+        assertThat(starts).containsExactly(
+                LocalDateTime.of(2026, 1, 3, 9, 0),
+                LocalDateTime.of(2026, 1, 4, 9, 0));
+    }
+
+    @Test
+    void windowBeforeSeriesStartIsEmpty() {
+        RecurrenceRule rule = RecurrenceRule.of(Frequency.DAILY, null, null, null);
+
+        List<LocalDateTime> starts = rule.startsOverlapping(SERIES_START, ONE_HOUR,
+                LocalDateTime.of(2025, 12, 1, 0, 0), SERIES_START).toList();
+
+        assertThat(starts).isEmpty();
+    }
+
+    @Test
+    void countStopsTheSeries() {
+        RecurrenceRule rule = RecurrenceRule.of(Frequency.DAILY, 1, 3, null);
+
+        List<LocalDateTime> starts = rule.startsOverlapping(SERIES_START, ONE_HOUR,
+                LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 2, 1, 0, 0)).toList();
+
+        assertThat(starts).containsExactly(
+                LocalDateTime.of(2026, 1, 1, 9, 0),
+                LocalDateTime.of(2026, 1, 2, 9, 0),
+                LocalDateTime.of(2026, 1, 3, 9, 0));
+    }
+
+    @Test
+    void untilIsInclusiveAndIntervalSkipsWeeks() {
+        RecurrenceRule rule = RecurrenceRule.of(Frequency.WEEKLY, 2, null, LocalDateTime.of(2026, 1, 29, 9, 0));
+
+        List<LocalDateTime> starts = rule.startsOverlapping(SERIES_START, ONE_HOUR,
+                LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 3, 1, 0, 0)).toList();
+
+        assertThat(starts).containsExactly(
+                LocalDateTime.of(2026, 1, 1, 9, 0),
+                LocalDateTime.of(2026, 1, 15, 9, 0),
+                LocalDateTime.of(2026, 1, 29, 9, 0));
+    }
+
+    @Test
+    void monthlyOnLastDayIsRecomputedFromSeriesStart() {
+        LocalDateTime start = LocalDateTime.of(2026, 1, 31, 9, 0);
+        RecurrenceRule rule = RecurrenceRule.of(Frequency.MONTHLY, 1, null, null);
+
+        // 2월은 28일로 밀리지만, 3월은 다시 31일이어야 한다
+        List<LocalDateTime> starts = rule.startsOverlapping(start, ONE_HOUR,
+                LocalDateTime.of(2026, 2, 1, 0, 0), LocalDateTime.of(2026, 5, 1, 0, 0)).toList();
+
+        assertThat(starts).containsExactly(
+                LocalDateTime.of(2026, 2, 28, 9, 0),
+                LocalDateTime.of(2026, 3, 31, 9, 0),
+                LocalDateTime.of(2026, 4, 30, 9, 0));
+    }
+
+    @Test
+    void monthlyFarFromSeriesStartSkipsAheadArithmetically() {
+        LocalDateTime start = LocalDateTime.of(2026, 1, 31, 9, 0);
+        RecurrenceRule rule = RecurrenceRule.of(Frequency.MONTHLY, 1, null, null);
+
+        List<LocalDateTime> starts = rule.startsOverlapping(start, ONE_HOUR,
+                LocalDateTime.of(2027, 1, 1, 0, 0), LocalDateTime.of(2027, 2, 1, 0, 0)).toList();
+
+        assertThat(starts).containsExactly(LocalDateTime.of(2027, 1, 31, 9, 0));
+    }
+
+    @Test
+    void isOccurrenceMatchesOnlyRuleStarts() {
+        RecurrenceRule monthly = RecurrenceRule.of(Frequency.MONTHLY, 1, null, null);
+        LocalDateTime start = LocalDateTime.of(2026, 1, 31, 9, 0);
+
+        assertThat(monthly.isOccurrence(start, LocalDateTime.of(2026, 2, 28, 9, 0))).isTrue();
+        assertThat(monthly.isOccurrence(start, LocalDateTime.of(2026, 2, 28, 10, 0))).isFalse();
+
+        RecurrenceRule counted = RecurrenceRule.of(Frequency.DAILY, 1, 3, null);
+        assertThat(counted.isOccurrence(SERIES_START, LocalDateTime.of(2026, 1, 3, 9, 0))).isTrue();
+        assertThat(counted.isOccurrence(SERIES_START, LocalDateTime.of(2026, 1, 4, 9, 0))).isFalse();
+    }
+
+    @Test
+    void seriesEndUsesTheEarlierOfCountAndUntil() {
+        assertThat(RecurrenceRule.of(Frequency.DAILY, 1, 3, null).seriesEnd(SERIES_START, ONE_HOUR))
+                .isEqualTo(LocalDateTime.of(2026, 1, 3, 10, 0));
+        assertThat(RecurrenceRule.of(Frequency.DAILY, 1, 3, LocalDateTime.of(2026, 1, 2, 9, 0))
+                .seriesEnd(SERIES_START, ONE_HOUR))
+                .isEqualTo(LocalDateTime.of(2026, 1, 2, 10, 0));
+        assertThat(RecurrenceRule.of(Frequency.DAILY, 1, null, null).seriesEnd(SERIES_START, ONE_HOUR)).isNull();
+    }
+}
@@ -0,0 +1,124 @@
+package com.scheduleappdevelop2.schedule.search;
+
+import com.scheduleappdevelop2.schedule.entity.Schedule;
+import com.scheduleappdevelop2.schedule.event.ScheduleChangedEvent;
+import com.scheduleappdevelop2.schedule.repository.ScheduleRepository;
+import com.scheduleappdevelop2.schedule.repository.ScheduleText;
+import com.scheduleappdevelop2.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ScheduleSearchIndex 단위 테스트 (DB 없이)
+ * - 단어 분리 규칙, AND 검색/접두어 일치/점수 순서, 변경 이벤트에 따른 증분 갱신, 재구성 중 이벤트 재적용을 검증한다.
+ * - 커밋 이후 리스너(onScheduleChanged)는 직접 호출해 커밋이 끝난 상황을 흉내 낸다.
+ */
+class ScheduleSearchIndexTest {
+
+    private ScheduleRepository scheduleRepository;
+    private ScheduleSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        scheduleRepository = mock(ScheduleRepository.class);
+        index = new ScheduleSearchIndex(scheduleRepository);
+    }
+
+    @Test
+    void tokenizeSplitsOnNonLetterAndLowercases() {
+        assertThat(ScheduleSearchIndex.tokenize("Team-Meeting, 10AM 회의실"))
+                .containsExactly("team", "meeting", "10am", "회의실");
+        assertThat(ScheduleSearchIndex.tokenize("  ")).isEmpty();
+        assertThat(ScheduleSearchIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void searchRequiresEveryTerm() {
+        index.onScheduleChanged(created(1L, "weekly meeting", "agenda"));
+        index.onScheduleChanged(created(2L, "weekly report", "numbers"));
+        index.onScheduleChanged(created(3L, "lunch", "meeting room"));
+
+        assertThat(ids(index.search("weekly", 10))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(index.search("meeting", 10))).containsExactlyInAnyOrder(1L, 3L);
+        // 두 단어를 모두 포함하는 일정만
+        assertThat(ids(index.search("weekly meeting", 10))).containsExactly(1L);
+        // 한 단어라도 없으면 결과 없음
+        assertThat(index.search("weekly dinner", 10)).isEmpty();
+    }
+
+    @Test
+    void titleOutranksContentAndExactOutranksPrefix() {
+        index.onScheduleChanged(created(1L, "plan", "meeting"));
+        index.onScheduleChanged(created(2L, "meeting", "plan"));
+        index.onScheduleChanged(created(3L, "meetings", "plan"));
+
+        // 제목 정확 일치(2) > 제목 접두어 일치(3) > 내용 정확 일치(1)
+        assertThat(ids(index.search("meeting", 10))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(index.search("meeting", 2))).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void updateReplacesOldTermsAndDeleteRemovesDocument() {
+        index.onScheduleChanged(created(1L, "dentist", "checkup"));
+
+        index.onScheduleChanged(ScheduleChangedEvent.updated(schedule(1L, "doctor", "checkup")));
+        assertThat(index.search("dentist", 10)).isEmpty();
+        assertThat(ids(index.search("doctor", 10))).containsExactly(1L);
+
+        index.onScheduleChanged(ScheduleChangedEvent.deleted(1L, 100L));
+        assertThat(index.search("checkup", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void rebuildLoadsAllTextsAndReplaysEventsCommittedMeanwhile() {
+        index.onScheduleChanged(created(9L, "stale", "entry"));
+
+        // 재구성용 스캔 도중 일정 1이 수정되어 커밋된 상황 (스캔은 수정 전 값을 읽었다)
+        when(scheduleRepository.streamAllTexts()).thenAnswer(invocation -> {
+            index.onScheduleChanged(ScheduleChangedEvent.updated(schedule(1L, "new title", "body")));
+            return Stream.of(text(1L, "old title", "body"), text(2L, "other", "body"));
+        });
+
+        index.rebuild();
+
+        // DB에 없는 예전 문서는 사라지고, 재구성 중에 들어온 수정이 반영된다
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("stale", 10)).isEmpty();
+        assertThat(index.search("old", 10)).isEmpty();
+        assertThat(ids(index.search("new", 10))).containsExactly(1L);
+        assertThat(ids(index.search("body", 10))).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    private static ScheduleChangedEvent created(Long id, String title, String content) {
+        return ScheduleChangedEvent.created(schedule(id, title, content));
+    }
+
+    private static Schedule schedule(Long id, String title, String content) {
+        User user = User.of("user", "user@test.com", "password");
+        ReflectionTestUtils.setField(user, "id", 100L);
+        Schedule schedule = Schedule.of(title, content, user);
+        ReflectionTestUtils.setField(schedule, "id", id);
+        return schedule;
+    }
+
+    private static ScheduleText text(Long id, String title, String content) {
+        return new ScheduleText() {
+            @Override public Long getId() { return id; }
+            @Override public String getTitle() { return title; }
+            @Override public String getContent() { return content; }
+        };
+    }
+
+    private static List<Long> ids(List<ScheduleSearchIndex.SearchHit> hits) {
+        return hits.stream().map(ScheduleSearchIndex.SearchHit::getScheduleId).toList();
+    }
+}
@@ -0,0 +1,214 @@
+package com.scheduleappdevelop2.schedule.service;
+
+import com.scheduleappdevelop2.global.exception.CustomException;
+import com.scheduleappdevelop2.schedule.calendar.TimeBlock;
+import com.scheduleappdevelop2.schedule.dto.freeBusy.FreeBusyRequest;
+import com.scheduleappdevelop2.schedule.dto.freeBusy.FreeBusyResponse;
+import com.scheduleappdevelop2.schedule.entity.RecurrenceRule;
+import com.scheduleappdevelop2.schedule.entity.Schedule;
+import com.scheduleappdevelop2.schedule.entity.ScheduleOccurrenceOverride;
+import com.scheduleappdevelop2.schedule.repository.ScheduleOccurrenceOverrideRepository;
+import com.scheduleappdevelop2.schedule.repository.ScheduleRepository;
+import com.scheduleappdevelop2.schedule.repository.UserScheduleInterval;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.scheduleappdevelop2.global.exception.ErrorCode.INVALID_INPUT_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * FreeBusyService 단위 테스트 (DB 없이)
+ * - 유저별 바쁜 구간/공통 빈 구간 계산, 반복 일정 발생 펼치기와 발생별 변경 기록 반영을 검증한다.
+ * - 유저 수(100명)와 조회 기간(93일) 제한, 잘못된 요청은 쿼리 없이 거절되는지 확인한다.
+ */
+class FreeBusyServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 1, 2, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2026, 1, 3, 0, 0);
+
+    private ScheduleRepository scheduleRepository;
+    private ScheduleOccurrenceOverrideRepository occurrenceOverrideRepository;
+    private FreeBusyService freeBusyService;
+
+    @BeforeEach
+    void setUp() {
+        scheduleRepository = mock(ScheduleRepository.class);
+        occurrenceOverrideRepository = mock(ScheduleOccurrenceOverrideRepository.class);
+        freeBusyService = new FreeBusyService(scheduleRepository, occurrenceOverrideRepository);
+    }
+
+    @Test
+    void busyIsPerUserAndFreeIsTheCommonGap() {
+        when(scheduleRepository.findUserIntervalsOverlapping(anyCollection(), any(), any(), any(), any(), any())).thenReturn(List.of(
+                single(1L, 1L, at(9, 0), at(10, 0)),
+                single(2L, 1L, at(9, 30), at(11, 0)),   // 같은 유저의 겹치는 일정 → 하나로
+                single(3L, 2L, at(11, 0), at(12, 0)))); // 다른 유저, 맞닿음 → 전체 바쁜 구간은 9~12시
+
+        FreeBusyResponse response = freeBusyService.checkFreeBusy(new FreeBusyRequest(List.of(2L, 1L, 3L), FROM, TO, 0));
+
+        assertThat(response.getBusy()).extracting(FreeBusyResponse.UserBusy::getUserId).containsExactly(2L, 1L, 3L);
+        assertThat(response.getBusy().get(0).getBlocks()).extracting(TimeBlock::getStartAt, TimeBlock::getEndAt)
+                .containsExactly(Tuple.tuple(at(11, 0), at(12, 0)));
+        assertThat(response.getBusy().get(1).getBlocks()).extracting(TimeBlock::getStartAt, TimeBlock::getEndAt)
+                .containsExactly(Tuple.tuple(at(9, 0), at(11, 0)));
+        assertThat(response.getBusy().get(2).getBlocks()).isEmpty();
+        assertThat(response.getFree()).extracting(TimeBlock::getStartAt, TimeBlock::getEndAt)
+                .containsExactly(Tuple.tuple(FROM, at(9, 0)), Tuple.tuple(at(12, 0), TO));
+        // 반복 일정이 없으면 변경 기록은 읽지 않는다
+        verifyNoInteractions(occurrenceOverrideRepository);
+    }
+
+    @Test
+    void singleScheduleIsClippedToTheWindow() {
+        when(scheduleRepository.findUserIntervalsOverlapping(anyCollection(), any(), any(), any(), any(), any())).thenReturn(List.of(
+                single(1L, 1L, at(-2, 0), at(1, 0))));
+
+        FreeBusyResponse response = freeBusyService.checkFreeBusy(new FreeBusyRequest(List.of(1L), FROM, TO, null));
+
+        assertThat(response.getBusy().get(0).getBlocks()).extracting(TimeBlock::getStartAt, TimeBlock::getEndAt)
+                .containsExactly(Tuple.tuple(FROM, at(1, 0)));
+    }
+
+    @Test
+    void recurringOccurrencesAreExpandedWithOverrides() {
+        // 매일 08~09시 + 20~21시 (두 시리즈), 1/2 20시 발생은 취소
+        when(scheduleRepository.findUserIntervalsOverlapping(anyCollection(), any(), any(), any(), any(), any())).thenReturn(List.of(
+                daily(10L, 1L, LocalDateTime.of(2026, 1, 1, 8, 0)),
+                daily(11L, 1L, LocalDateTime.of(2026, 1, 1, 20, 0))));
+        ScheduleOccurrenceOverride cancelled = ScheduleOccurrenceOverride.of(scheduleWithId(11L), at(20, 0));
+        cancelled.apply(null, null, null, true);
+        when(occurrenceOverrideRepository.findAllInRange(anyCollection(), any(), any())).thenReturn(List.of(cancelled));
+
+        FreeBusyResponse response = freeBusyService.checkFreeBusy(new FreeBusyRequest(List.of(1L), FROM, TO, 60));
+
+        assertThat(response.getBusy().get(0).getBlocks()).extracting(TimeBlock::getStartAt, TimeBlock::getEndAt)
+                .containsExactly(Tuple.tuple(at(8, 0), at(9, 0)));
+        assertThat(response.getFree()).extracting(TimeBlock::getStartAt, TimeBlock::getEndAt)
+                .containsExactly(Tuple.tuple(FROM, at(8, 0)), Tuple.tuple(at(9, 0), TO));
+    }
+
+    @Test
+    void seriesStartingAfterTheWindowStillBlocksAnOccurrenceMovedIntoIt() {
+        // 1/4 08시에 시작하는 시리즈의 첫 발생을 1/2 13시로 앞당김 (시리즈 시작 전, 조회 기간 안)
+        LocalDateTime seriesStart = LocalDateTime.of(2026, 1, 4, 8, 0);
+        when(scheduleRepository.findUserIntervalsOverlapping(anyCollection(), any(), any(), any(), any(), any()))
+                .thenReturn(List.of(daily(10L, 1L, seriesStart)));
+        ScheduleOccurrenceOverride moved = ScheduleOccurrenceOverride.of(scheduleWithId(10L), seriesStart);
+        moved.apply(null, at(13, 0), at(14, 0), false);
+        when(occurrenceOverrideRepository.findAllInRange(anyCollection(), any(), any())).thenReturn(List.of(moved));
+
+        FreeBusyResponse response = freeBusyService.checkFreeBusy(new FreeBusyRequest(List.of(1L), FROM, TO, 0));
+
+        assertThat(response.getBusy().get(0).getBlocks()).extracting(TimeBlock::getStartAt, TimeBlock::getEndAt)
+                .containsExactly(Tuple.tuple(at(13, 0), at(14, 0)));
+        // 시리즈 조건은 옮길 수 있는 범위만큼 넓힌 기간으로 거른다
+        verify(scheduleRepository).findUserIntervalsOverlapping(anyCollection(), eq(FROM), eq(TO),
+                eq(FROM.minus(Schedule.MAX_DURATION)),
+                eq(FROM.minus(Schedule.MAX_DURATION.multipliedBy(2))), eq(TO.plus(Schedule.MAX_DURATION)));
+    }
+
+    @Test
+    void oneHundredDistinctUsersAreAllowed() {
+        when(scheduleRepository.findUserIntervalsOverlapping(anyCollection(), any(), any(), any(), any(), any())).thenReturn(List.of());
+        // 중복 ID 는 한 명으로 센다
+        List<Long> userIds = new ArrayList<>(LongStream.rangeClosed(1, 100).boxed().toList());
+        userIds.addAll(LongStream.rangeClosed(1, 50).boxed().toList());
+
+        FreeBusyResponse response = freeBusyService.checkFreeBusy(new FreeBusyRequest(userIds, FROM, TO, 0));
+
+        assertThat(response.getBusy()).hasSize(100);
+    }
+
+    @Test
+    void moreThanOneHundredUsersAreRejected() {
+        List<Long> userIds = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        assertInvalid(new FreeBusyRequest(userIds, FROM, TO, 0));
+    }
+
+    @Test
+    void windowOfNinetyThreeDaysIsAllowed() {
+        when(scheduleRepository.findUserIntervalsOverlapping(anyCollection(), any(), any(), any(), any(), any())).thenReturn(List.of());
+
+        FreeBusyResponse response = freeBusyService.checkFreeBusy(new FreeBusyRequest(List.of(1L), FROM, FROM.plusDays(93), 0));
+
+        assertThat(response.getFree()).extracting(TimeBlock::getStartAt, TimeBlock::getEndAt)
+                .containsExactly(Tuple.tuple(FROM, FROM.plusDays(93)));
+    }
+
+    @Test
+    void windowLongerThanNinetyThreeDaysIsRejected() {
+        assertInvalid(new FreeBusyRequest(List.of(1L), FROM, FROM.plusDays(93).plusMinutes(1), 0));
+    }
+
+    @Test
+    void malformedRequestsAreRejected() {
+        List<Long> withNull = new ArrayList<>();
+        withNull.add(null);
+
+        assertInvalid(new FreeBusyRequest(List.of(), FROM, TO, 0));
+        assertInvalid(new FreeBusyRequest(withNull, FROM, TO, 0));
+        assertInvalid(new FreeBusyRequest(List.of(1L), TO, FROM, 0));
+        assertInvalid(new FreeBusyRequest(List.of(1L), FROM, FROM, 0));
+        assertInvalid(new FreeBusyRequest(List.of(1L), FROM, TO, -1));
+    }
+
+    private void assertInvalid(FreeBusyRequest request) {
+        assertThatThrownBy(() -> freeBusyService.checkFreeBusy(request))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(INVALID_INPUT_VALUE);
+        verify(scheduleRepository, never()).findUserIntervalsOverlapping(anyCollection(), any(), any(), any(), any(), any());
+    }
+
+    /** 1/2 기준 시각 (음수면 전날) */
+    private static LocalDateTime at(int hour, int minute) {
+        return FROM.plusHours(hour).plusMinutes(minute);
+    }
+
+    private static Schedule scheduleWithId(Long id) {
+        Schedule schedule = Schedule.of("시리즈", "내용", null);
+        ReflectionTestUtils.setField(schedule, "id", id);
+        return schedule;
+    }
+
+    private static UserScheduleInterval single(Long id, Long userId, LocalDateTime startAt, LocalDateTime endAt) {
+        return interval(id, userId, startAt, endAt, null);
+    }
+
+    /** 매일 1시간, 끝없이 반복 */
+    private static UserScheduleInterval daily(Long id, Long userId, LocalDateTime startAt) {
+        return interval(id, userId, startAt, startAt.plusHours(1), RecurrenceRule.Frequency.DAILY);
+    }
+
+    private static UserScheduleInterval interval(Long id, Long userId, LocalDateTime startAt, LocalDateTime endAt,
+                                                 RecurrenceRule.Frequency frequency) {
+        return new UserScheduleInterval() {
+            @Override public Long getUserId() { return userId; }
+            @Override public Long getId() { return id; }
+            @Override public String getTitle() { return "일정 " + id; }
+            @Override public LocalDateTime getStartAt() { return startAt; }
+            @Override public LocalDateTime getEndAt() { return endAt; }
+            @Override public RecurrenceRule.Frequency getFrequency() { return frequency; }
+            @Override public Integer getRecurrenceInterval() { return frequency == null ? null : 1; }
+            @Override public Integer getRecurrenceCount() { return null; }
+            @Override public LocalDateTime getRecurrenceUntil() { return null; }
+        };
+    }
+}
@@ -0,0 +1,165 @@
+package com.scheduleappdevelop2.schedule.service;
+
+import com.scheduleappdevelop2.comment.entity.Comment;
+import com.scheduleappdevelop2.comment.service.CommentService;
+import com.scheduleappdevelop2.schedule.dto.UpdateSchedule.UpdateScheduleRequest;
+import com.scheduleappdevelop2.schedule.dto.checkSchedule.ScheduleResponse;
+import com.scheduleappdevelop2.schedule.entity.Schedule;
+import com.scheduleappdevelop2.user.dto.sessionUser.SessionUser;
+import com.scheduleappdevelop2.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회/권한 검사 경로가 고정된 수의 SQL만 실행하는지 검증한다.
+ * - 목록 조회: 행 개수와 상관없이 일정한 statement 수
+ * - 단건 조회/수정/삭제: 로그인 유저를 따로 조회하지 않는 권한 검사
+ * - 캐시된 일정의 ETag: DB 조회 없음
+ * - 작성자가 서로 다른 여러 행을 만든 뒤, 영속성 컨텍스트를 비우고 조회한다.
+ * - Hibernate Statistics로 실행된 statement 수를 센다.
+ * - 실행 중인 MySQL 이 필요하므로 integration 태그로 기본 test 에서 빼고 ./gradlew integrationTest 로 실행한다.
+ */
+@Tag("integration")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class QueryCountTest {
+
+    private static final int ROWS = 5;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long scheduleId;
+    private Long lastScheduleId;
+    private SessionUser lastOwner;
+
+    @BeforeEach
+    void setUp() {
+        Schedule first = null;
+        for (int i = 0; i < ROWS; i++) {
+            User user = User.of("user" + i, "count" + i + "@test.com", "password");
+            entityManager.persist(user);
+
+            Schedule schedule = Schedule.of("title" + i, "content" + i, user);
+            entityManager.persist(schedule);
+            if (first == null) first = schedule;
+            lastScheduleId = schedule.getId();
+            lastOwner = new SessionUser(user.getId(), user.getEmail());
+
+            entityManager.persist(Comment.of("comment" + i, first, user));
+        }
+        scheduleId = first.getId();
+
+        // 1차 캐시에 남은 엔티티로 인해 지연 로딩이 가려지지 않도록 비운다
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void scheduleListRunsSingleStatement() {
+        Statistics statistics = statistics();
+
+        int size = scheduleService.checkAllSchedules(null, 20, false, false).getItems().size();
+
+        assertThat(size).isGreaterThanOrEqualTo(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void scheduleListWithCommentCountRunsTwoStatements() {
+        Statistics statistics = statistics();
+
+        scheduleService.checkAllSchedules(null, 20, true, false);
+
+        // 일정 페이지 1번 + 댓글 수 집계 1번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void commentListRunsSingleStatement() {
+        Statistics statistics = statistics();
+
+        int size = commentService.getComments(scheduleId, null, 20).getItems().size();
+
+        assertThat(size).isEqualTo(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void checkOneRunsSingleStatement() {
+        Statistics statistics = statistics();
+
+        scheduleService.checkOneSchedule(lastScheduleId, lastOwner, false);
+
+        // 일정 + 작성자 fetch join 1번 (로그인 유저 재조회 없음)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void etagOnCachedScheduleRunsNoStatement() {
+        scheduleService.checkOneSchedule(lastScheduleId, lastOwner, false);
+        Statistics statistics = statistics();
+
+        ScheduleResponse response = scheduleService.checkOneSchedule(lastScheduleId, lastOwner, false, eTag -> true);
+
+        // 캐시에 보관된 버전으로 ETag 생성 (버전 조회 쿼리 없음), 클라이언트 사본이 최신이면 본문 없음
+        assertThat(response).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void conditionalGetMissReadsVersionThenScheduleOnce() {
+        Statistics statistics = statistics();
+
+        ScheduleResponse response = scheduleService.checkOneSchedule(lastScheduleId, lastOwner, false, eTag -> false);
+
+        // 버전 조회 1번 + 일정 + 작성자 fetch join 1번 (캐시는 한 번만 확인)
+        assertThat(response).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void updateLoadsScheduleOnce() {
+        Statistics statistics = statistics();
+
+        scheduleService.updateSchedule(lastScheduleId, new UpdateScheduleRequest("new title", null, null, null, null), "*", lastOwner);
+
+        // 일정 + 작성자 fetch join 1번 + 버전 조건 UPDATE 1번 (서비스 안에서 flush)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void deleteRunsOwnerLookupAndDelete() {
+        Statistics statistics = statistics();
+
+        scheduleService.deleteSchedule(lastScheduleId, lastOwner);
+
+        // 작성자 ID 조회 1번 + 댓글 일괄 DELETE 1번 + 일정 DELETE 1번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
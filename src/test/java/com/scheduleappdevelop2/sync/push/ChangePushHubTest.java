@@ -0,0 +1,189 @@
+package com.scheduleappdevelop2.sync.push;
+
+import com.scheduleappdevelop2.schedule.event.ScheduleChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChangePushHub 단위 테스트 (서블릿 컨테이너 없이)
+ * - emitter 를 전송 기록/지연용 가짜로 바꿔, 브로드캐스트, 버퍼 가득 참(drop-oldest),
+ *   막힌 전송(write-timeout)이 다른 구독자를 막지 않고 끊기는지 검증한다.
+ * - 막힌 전송 감시(disconnectStalled)는 스케줄러를 시작하지 않고(start 미호출) 직접 호출한다.
+ */
+class ChangePushHubTest {
+
+    private final Deque<FakeEmitter> emitters = new ArrayDeque<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ChangePushHub hub;
+
+    @AfterEach
+    void tearDown() {
+        if (hub != null) {
+            hub.shutdown();
+        }
+    }
+
+    @Test
+    void broadcastReachesEverySubscriber() {
+        hub = hub(8, Duration.ofSeconds(5), 2);
+        FakeEmitter first = subscribe(new FakeEmitter(null));
+        FakeEmitter second = subscribe(new FakeEmitter(null));
+
+        hub.onScheduleChanged(ScheduleChangedEvent.deleted(7L, 1L));
+
+        awaitTrue(() -> first.sent.size() == 2 && second.sent.size() == 2);
+        assertThat(pushEvent(first.sent.get(1)).getId()).isEqualTo(7L);
+        assertThat(pushEvent(second.sent.get(1)).getType()).isEqualTo("DELETED");
+        awaitTrue(() -> registry.get("sync.push.sent").functionCounter().count() == 4);
+    }
+
+    @Test
+    void fullBufferDropsTheOldestNotification() throws Exception {
+        hub = hub(2, Duration.ofSeconds(5), 1);
+        CountDownLatch release = new CountDownLatch(1);
+        FakeEmitter slow = subscribe(new FakeEmitter(release));
+        assertThat(slow.sending.await(2, TimeUnit.SECONDS)).isTrue(); // "connected" 전송 중에 막힘
+
+        hub.onScheduleChanged(ScheduleChangedEvent.deleted(1L, 1L));
+        hub.onScheduleChanged(ScheduleChangedEvent.deleted(2L, 1L));
+        hub.onScheduleChanged(ScheduleChangedEvent.deleted(3L, 1L));
+        release.countDown();
+
+        awaitTrue(() -> slow.sent.size() == 3);
+        assertThat(List.of(pushEvent(slow.sent.get(1)).getId(), pushEvent(slow.sent.get(2)).getId()))
+                .containsExactly(2L, 3L);
+        assertThat(registry.get("sync.push.dropped").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void stalledSubscriberIsDroppedWithoutBlockingOthers() throws Exception {
+        hub = hub(8, Duration.ofMillis(50), 1);
+        CountDownLatch release = new CountDownLatch(1);
+        FakeEmitter stalled = subscribe(new FakeEmitter(release));
+        assertThat(stalled.sending.await(2, TimeUnit.SECONDS)).isTrue();
+
+        // 디스패처 스레드가 하나뿐이라 이 구독자의 전송은 막힌 전송 뒤에 줄 서 있다
+        FakeEmitter healthy = subscribe(new FakeEmitter(null));
+        Thread.sleep(100);
+        assertThat(healthy.sent).isEmpty();
+
+        hub.disconnectStalled();
+
+        awaitTrue(() -> healthy.sent.size() == 1);
+        assertThat(registry.get("sync.push.subscribers").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("sync.push.stalled").functionCounter().count()).isEqualTo(1);
+
+        // 끊긴 구독자에게는 더 이상 알림을 넣지 않는다
+        hub.onScheduleChanged(ScheduleChangedEvent.deleted(9L, 1L));
+        awaitTrue(() -> healthy.sent.size() == 2);
+
+        // 막힌 전송이 돌아오면 연결을 끊고, 늘렸던 디스패처 스레드를 되돌린다
+        release.countDown();
+        assertThat(stalled.failed.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(stalled.sent).hasSize(1);
+        ThreadPoolExecutor dispatcher = (ThreadPoolExecutor) ReflectionTestUtils.getField(hub, "dispatcher");
+        awaitTrue(() -> dispatcher.getCorePoolSize() == 1 && dispatcher.getMaximumPoolSize() == 1);
+    }
+
+    @Test
+    void sendFinishingBeforeTheCheckIsNotStalled() {
+        hub = hub(8, Duration.ofMillis(50), 1);
+        FakeEmitter fast = subscribe(new FakeEmitter(null));
+        awaitTrue(() -> fast.sent.size() == 1);
+
+        hub.disconnectStalled();
+
+        assertThat(registry.get("sync.push.subscribers").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("sync.push.stalled").functionCounter().count()).isZero();
+    }
+
+    private ChangePushHub hub(int bufferSize, Duration writeTimeout, int dispatcherThreads) {
+        ChangePushHub hub = new ChangePushHub(100, bufferSize, Duration.ofMinutes(1), writeTimeout, dispatcherThreads,
+                Duration.ofSeconds(25), Duration.ofSeconds(1)) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                return emitters.poll();
+            }
+        };
+        hub.bindTo(registry);
+        return hub;
+    }
+
+    private FakeEmitter subscribe(FakeEmitter emitter) {
+        emitters.add(emitter);
+        hub.subscribe();
+        return emitter;
+    }
+
+    private static PushEvent pushEvent(Set<DataWithMediaType> message) {
+        return message.stream()
+                .map(DataWithMediaType::getData)
+                .filter(PushEvent.class::isInstance)
+                .map(PushEvent.class::cast)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("조건을 2초 안에 만족하지 못했습니다.");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 전송을 기록하는 가짜 emitter
+     * - release 가 있으면 전송마다 release 가 열릴 때까지 막힌다. (읽지 않는 클라이언트 흉내)
+     */
+    private static class FakeEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch failed = new CountDownLatch(1);
+        private final List<Set<DataWithMediaType>> sent = new CopyOnWriteArrayList<>();
+
+        private FakeEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            sending.countDown();
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            sent.add(items);
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failed.countDown();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.scheduleappdevelop2.sync.service;
+
+import com.scheduleappdevelop2.comment.repository.CommentRepository;
+import com.scheduleappdevelop2.global.exception.CustomException;
+import com.scheduleappdevelop2.schedule.repository.ScheduleRepository;
+import com.scheduleappdevelop2.sync.dto.ChangesResponse;
+import com.scheduleappdevelop2.sync.entity.ChangeLog;
+import com.scheduleappdevelop2.sync.entity.ChangeLog.ChangeType;
+import com.scheduleappdevelop2.sync.entity.ChangeLog.EntityType;
+import com.scheduleappdevelop2.sync.repository.ChangeLogRepository;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.scheduleappdevelop2.global.exception.ErrorCode.RESYNC_REQUIRED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ChangeFeedService 단위 테스트 (DB 없이)
+ * - commit-lag 안에 기록된 로그나 빈 id 에서 페이지를 자르는지(커밋 전 id 를 건너뛰지 않도록),
+ *   gap-timeout 이 지난 빈 id 는 건너뛰는지,
+ *   보관 범위보다 오래된 커서/시각에 RESYNC_REQUIRED 를 주는지 검증한다.
+ * - 삭제 로그만 사용해 현재 상태 조회 없이 커서와 ID 목록만 확인한다.
+ */
+class ChangeFeedServiceTest {
+
+    private static final Duration COMMIT_LAG = Duration.ofSeconds(3);
+    private static final Duration GAP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration RETENTION = Duration.ofDays(30);
+
+    private ChangeLogRepository changeLogRepository;
+    private ChangeFeedService changeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        changeLogRepository = mock(ChangeLogRepository.class);
+        changeFeedService = new ChangeFeedService(changeLogRepository, mock(ScheduleRepository.class),
+                mock(CommentRepository.class), COMMIT_LAG, GAP_TIMEOUT, RETENTION);
+        when(changeLogRepository.findFirstId()).thenReturn(1L);
+    }
+
+    @Test
+    void logsOlderThanCommitLagAreServed() {
+        LocalDateTime old = LocalDateTime.now().minusMinutes(1);
+        when(changeLogRepository.findAllAfter(eq(10L), any())).thenReturn(List.of(
+                deleted(11L, 101L, old),
+                deleted(12L, 102L, old)));
+
+        ChangesResponse response = changeFeedService.changes(10L, null, 20);
+
+        assertThat(response.getDeletedScheduleIds()).containsExactly(101L, 102L);
+        assertThat(response.getNextSince()).isEqualTo(12L);
+        assertThat(response.isHasMore()).isFalse();
+    }
+
+    @Test
+    void pageIsCutAtTheFirstLogInsideCommitLag() {
+        LocalDateTime old = LocalDateTime.now().minusMinutes(1);
+        LocalDateTime recent = LocalDateTime.now().plusSeconds(1);
+        // 12 는 방금 기록됨 → 13 이 오래되었더라도 12 앞에서 멈춘다
+        when(changeLogRepository.findAllAfter(eq(10L), any())).thenReturn(List.of(
+                deleted(11L, 101L, old),
+                deleted(12L, 102L, recent),
+                deleted(13L, 103L, old)));
+
+        ChangesResponse response = changeFeedService.changes(10L, null, 2);
+
+        assertThat(response.getDeletedScheduleIds()).containsExactly(101L);
+        assertThat(response.getNextSince()).isEqualTo(11L);
+        assertThat(response.isHasMore()).isFalse();
+    }
+
+    @Test
+    void onlyRecentLogsKeepTheCursor() {
+        when(changeLogRepository.findAllAfter(eq(10L), any())).thenReturn(List.of(
+                deleted(11L, 101L, LocalDateTime.now().plusSeconds(1))));
+
+        ChangesResponse response = changeFeedService.changes(10L, null, 20);
+
+        assertThat(response.getDeletedScheduleIds()).isEmpty();
+        assertThat(response.getNextSince()).isEqualTo(10L);
+    }
+
+    @Test
+    void higherIdCommittedFirstHoldsTheCursorUntilTheLowerIdCommits() {
+        LocalDateTime committed = LocalDateTime.now().minusSeconds(30);
+        // 13 이 먼저 커밋되고 12 는 아직 커밋 전 (commit-lag 보다 오래 걸리는 일괄 작업)
+        when(changeLogRepository.findAllAfter(eq(10L), any())).thenReturn(List.of(
+                deleted(11L, 101L, committed),
+                deleted(13L, 103L, committed)));
+
+        ChangesResponse first = changeFeedService.changes(10L, null, 20);
+
+        assertThat(first.getDeletedScheduleIds()).containsExactly(101L);
+        assertThat(first.getNextSince()).isEqualTo(11L);
+        assertThat(first.isHasMore()).isFalse();
+
+        // 12 가 커밋된 뒤 이어서 조회하면 12, 13 을 모두 받는다
+        when(changeLogRepository.findAllAfter(eq(11L), any())).thenReturn(List.of(
+                deleted(12L, 102L, committed.minusSeconds(20)),
+                deleted(13L, 103L, committed)));
+
+        ChangesResponse second = changeFeedService.changes(first.getNextSince(), null, 20);
+
+        assertThat(second.getDeletedScheduleIds()).containsExactly(102L, 103L);
+        assertThat(second.getNextSince()).isEqualTo(13L);
+    }
+
+    @Test
+    void gapRightAfterTheCursorKeepsTheCursor() {
+        when(changeLogRepository.findAllAfter(eq(10L), any())).thenReturn(List.of(
+                deleted(12L, 102L, LocalDateTime.now().minusSeconds(30))));
+
+        ChangesResponse response = changeFeedService.changes(10L, null, 20);
+
+        assertThat(response.getDeletedScheduleIds()).isEmpty();
+        assertThat(response.getNextSince()).isEqualTo(10L);
+    }
+
+    @Test
+    void gapOlderThanTheTimeoutIsSkipped() {
+        LocalDateTime old = LocalDateTime.now().minus(GAP_TIMEOUT).minusMinutes(1);
+        // 11 은 롤백되어 채워지지 않는 id
+        when(changeLogRepository.findAllAfter(eq(10L), any())).thenReturn(List.of(
+                deleted(12L, 102L, old),
+                deleted(13L, 103L, LocalDateTime.now().minusSeconds(30))));
+
+        ChangesResponse response = changeFeedService.changes(10L, null, 20);
+
+        assertThat(response.getDeletedScheduleIds()).containsExactly(102L, 103L);
+        assertThat(response.getNextSince()).isEqualTo(13L);
+    }
+
+    @Test
+    void startCursorIsTheLastLogBeforeTheHorizon() {
+        when(changeLogRepository.findFirstByChangedAtLessThanEqualOrderByChangedAtDescIdDesc(any()))
+                .thenReturn(Optional.of(deleted(42L, 1L, LocalDateTime.now().minusMinutes(1))));
+
+        assertThat(changeFeedService.changes(null, null, null).getNextSince()).isEqualTo(42L);
+    }
+
+    @Test
+    void startCursorIsZeroWithoutLogs() {
+        when(changeLogRepository.findFirstByChangedAtLessThanEqualOrderByChangedAtDescIdDesc(any()))
+                .thenReturn(Optional.empty());
+
+        assertThat(changeFeedService.changes(null, null, null).getNextSince()).isZero();
+    }
+
+    @Test
+    void cursorRightBeforeTheFirstRetainedLogIsAccepted() {
+        when(changeLogRepository.findFirstId()).thenReturn(500L);
+        when(changeLogRepository.findAllAfter(anyLong(), any())).thenReturn(List.of());
+
+        assertThat(changeFeedService.changes(499L, null, null).getNextSince()).isEqualTo(499L);
+    }
+
+    @Test
+    void cursorOlderThanRetainedRangeRequiresResync() {
+        when(changeLogRepository.findFirstId()).thenReturn(500L);
+
+        assertResync(() -> changeFeedService.changes(498L, null, null));
+    }
+
+    @Test
+    void sinceTimeOlderThanRetentionRequiresResync() {
+        assertResync(() -> changeFeedService.changes(null, LocalDateTime.now().minus(RETENTION).minusMinutes(1), null));
+    }
+
+    private static void assertResync(ThrowingCallable call) {
+        assertThatThrownBy(call)
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(RESYNC_REQUIRED);
+    }
+
+    private static ChangeLog deleted(Long id, Long scheduleId, LocalDateTime changedAt) {
+        ChangeLog log = ChangeLog.of(EntityType.SCHEDULE, scheduleId, scheduleId, ChangeType.DELETE, changedAt);
+        ReflectionTestUtils.setField(log, "id", id);
+        return log;
+    }
+}
@@ -0,0 +1,225 @@
+package com.scheduleappdevelop2.sync.service;
+
+import com.scheduleappdevelop2.comment.dto.CommentResponse;
+import com.scheduleappdevelop2.comment.repository.CommentOwner;
+import com.scheduleappdevelop2.comment.repository.CommentRepository;
+import com.scheduleappdevelop2.comment.service.CommentService;
+import com.scheduleappdevelop2.global.exception.CustomException;
+import com.scheduleappdevelop2.global.web.ETags;
+import com.scheduleappdevelop2.schedule.repository.ScheduleOwner;
+import com.scheduleappdevelop2.schedule.repository.ScheduleRepository;
+import com.scheduleappdevelop2.schedule.service.ScheduleService;
+import com.scheduleappdevelop2.sync.dto.SyncOperation;
+import com.scheduleappdevelop2.sync.dto.SyncOperation.Type;
+import com.scheduleappdevelop2.sync.dto.SyncRequest;
+import com.scheduleappdevelop2.sync.dto.SyncResponse;
+import com.scheduleappdevelop2.sync.dto.SyncResponse.OperationResult;
+import com.scheduleappdevelop2.user.dto.sessionUser.SessionUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static com.scheduleappdevelop2.global.exception.ErrorCode.COMMENT_NOT_FOUND;
+import static com.scheduleappdevelop2.global.exception.ErrorCode.NOT_VALID_OWNER;
+import static com.scheduleappdevelop2.global.exception.ErrorCode.PRECONDITION_FAILED;
+import static com.scheduleappdevelop2.global.exception.ErrorCode.PRECONDITION_REQUIRED;
+import static com.scheduleappdevelop2.global.exception.ErrorCode.SCHEDULE_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * SyncService 단위 테스트 (DB 없이)
+ * - 서비스/리포지토리를 가짜로 두고, 요청이 가리키는 대상의 작성자를 시도마다 한 번씩만 조회하는지,
+ *   없는 대상이나 남의 대상을 고치는 작업은 서비스를 부르지 않고 실패하는지 검증한다.
+ * - expectedVersion 이 REST 의 If-Match 처럼 동작하는지(없으면 428 사유, 다르거나 동시 수정이면 412 사유) 검증한다.
+ * - 트랜잭션은 콜백을 바로 실행하는 것으로 대신한다.
+ */
+class SyncServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Long OTHER_USER_ID = 99L;
+    private static final SessionUser SESSION_USER = new SessionUser(USER_ID, "me@example.com");
+
+    private ScheduleService scheduleService;
+    private CommentService commentService;
+    private ScheduleRepository scheduleRepository;
+    private CommentRepository commentRepository;
+    private SyncService syncService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        scheduleService = mock(ScheduleService.class);
+        commentService = mock(CommentService.class);
+        scheduleRepository = mock(ScheduleRepository.class);
+        commentRepository = mock(CommentRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        syncService = new SyncService(scheduleService, commentService, scheduleRepository, commentRepository,
+                transactionTemplate);
+
+        when(scheduleRepository.findOwnersByIdIn(anyCollection())).thenReturn(List.of(
+                scheduleOwner(1L, USER_ID),
+                scheduleOwner(2L, OTHER_USER_ID)));
+        when(commentRepository.findOwnersByIdIn(anyCollection())).thenReturn(List.of(
+                commentOwner(10L, USER_ID),
+                commentOwner(20L, OTHER_USER_ID)));
+        when(scheduleRepository.findAllById(anyCollection())).thenReturn(List.of());
+        when(commentRepository.findAllById(anyCollection())).thenReturn(List.of());
+    }
+
+    @Test
+    void missingOrForeignTargetsFailWithoutCallingTheServices() {
+        SyncResponse response = syncService.apply(new SyncRequest(List.of(
+                operation(Type.UPDATE_SCHEDULE, 2L, null, 1L),   // 남의 일정
+                operation(Type.DELETE_SCHEDULE, 3L, null, null), // 없는 일정
+                operation(Type.CREATE_COMMENT, 3L, null, null),  // 없는 일정에 댓글
+                operation(Type.UPDATE_COMMENT, null, 20L, 1L),   // 남의 댓글
+                operation(Type.DELETE_COMMENT, null, 30L, null)  // 없는 댓글
+        )), SESSION_USER);
+
+        assertThat(response.getResults()).extracting(OperationResult::getError).containsExactly(
+                NOT_VALID_OWNER.getMessage(),
+                SCHEDULE_NOT_FOUND.getMessage(),
+                SCHEDULE_NOT_FOUND.getMessage(),
+                NOT_VALID_OWNER.getMessage(),
+                COMMENT_NOT_FOUND.getMessage());
+        verifyNoInteractions(scheduleService, commentService);
+    }
+
+    @Test
+    void commentOnSomeoneElsesScheduleIsStillAllowed() {
+        CommentResponse created = mock(CommentResponse.class);
+        when(created.getId()).thenReturn(50L);
+        when(commentService.createComment(eq(2L), any(), eq(SESSION_USER))).thenReturn(created);
+
+        SyncResponse response = syncService.apply(new SyncRequest(List.of(
+                operation(Type.CREATE_COMMENT, 2L, null, null)
+        )), SESSION_USER);
+
+        assertThat(response.getResults()).extracting(OperationResult::getEntityId).containsExactly(50L);
+    }
+
+    @Test
+    void ownersAreResolvedOnceForAllOperations() {
+        when(commentService.deleteComment(10L, SESSION_USER)).thenReturn(List.of(10L));
+
+        SyncResponse response = syncService.apply(new SyncRequest(List.of(
+                operation(Type.UPDATE_SCHEDULE, 1L, null, 3L),
+                operation(Type.UPDATE_SCHEDULE, 1L, null, null), // 앞 작업에 이어서 고침 → 버전 확인 없음
+                operation(Type.DELETE_COMMENT, null, 10L, null)
+        )), SESSION_USER);
+
+        assertThat(response.getResults()).allMatch(OperationResult::isApplied);
+        verify(scheduleService).updateSchedule(eq(1L), any(), eq(ETags.of(1L, 3L)), eq(SESSION_USER));
+        verify(scheduleService).updateSchedule(eq(1L), any(), eq("*"), eq(SESSION_USER));
+        verify(scheduleRepository, times(1)).findOwnersByIdIn(anyCollection());
+        verify(commentRepository, times(1)).findOwnersByIdIn(anyCollection());
+        assertThat(response.getDeletedCommentIds()).containsExactly(10L);
+    }
+
+    @Test
+    void replayAfterDatabaseErrorResolvesOwnersAgain() {
+        // 첫 시도의 첫 작업 flush 에서 DB 오류 → 그 작업만 실패로 두고 새 트랜잭션에서 다시 적용
+        doThrow(new CannotAcquireLockException("lock wait timeout")).doNothing().when(scheduleRepository).flush();
+
+        SyncResponse response = syncService.apply(new SyncRequest(List.of(
+                operation(Type.UPDATE_SCHEDULE, 1L, null, 3L),
+                operation(Type.UPDATE_COMMENT, null, 10L, 5L)
+        )), SESSION_USER);
+
+        assertThat(response.getResults()).extracting(OperationResult::isApplied).containsExactly(false, true);
+        verify(scheduleRepository, times(2)).findOwnersByIdIn(anyCollection());
+        verify(commentService).updateComment(eq(10L), any(), eq(ETags.of(10L, 5L)), eq(SESSION_USER));
+    }
+
+    @Test
+    void updateWithoutExpectedVersionFailsAsPreconditionRequired() {
+        SyncResponse response = syncService.apply(new SyncRequest(List.of(
+                operation(Type.UPDATE_SCHEDULE, 1L, null, null),
+                operation(Type.UPDATE_COMMENT, null, 10L, null)
+        )), SESSION_USER);
+
+        assertThat(response.getResults()).extracting(OperationResult::getError)
+                .containsExactly(PRECONDITION_REQUIRED.getMessage(), PRECONDITION_REQUIRED.getMessage());
+        verifyNoInteractions(scheduleService, commentService);
+    }
+
+    @Test
+    void staleExpectedVersionFailsAsPreconditionFailed() {
+        when(scheduleService.updateSchedule(eq(1L), any(), eq(ETags.of(1L, 2L)), eq(SESSION_USER)))
+                .thenThrow(new CustomException(PRECONDITION_FAILED));
+
+        SyncResponse response = syncService.apply(new SyncRequest(List.of(
+                operation(Type.UPDATE_SCHEDULE, 1L, null, 2L),
+                operation(Type.UPDATE_COMMENT, null, 10L, 5L)
+        )), SESSION_USER);
+
+        assertThat(response.getResults()).extracting(OperationResult::getError)
+                .containsExactly(PRECONDITION_FAILED.getMessage(), null);
+        verify(commentService).updateComment(eq(10L), any(), eq(ETags.of(10L, 5L)), eq(SESSION_USER));
+    }
+
+    @Test
+    void concurrentUpdateOnFlushFailsOnlyThatOperationAsPreconditionFailed() {
+        // 버전 조건 UPDATE 가 0건 → 그 작업만 412 사유로 실패시키고 나머지는 새 트랜잭션에서 다시 적용
+        doThrow(new ObjectOptimisticLockingFailureException("Schedule", 1L)).doNothing().when(scheduleRepository).flush();
+
+        SyncResponse response = syncService.apply(new SyncRequest(List.of(
+                operation(Type.UPDATE_SCHEDULE, 1L, null, 3L),
+                operation(Type.UPDATE_COMMENT, null, 10L, 5L)
+        )), SESSION_USER);
+
+        assertThat(response.getResults()).extracting(OperationResult::getError)
+                .containsExactly(PRECONDITION_FAILED.getMessage(), null);
+        assertThat(response.getResults()).extracting(OperationResult::isApplied).containsExactly(false, true);
+        verify(scheduleService, times(1)).updateSchedule(eq(1L), any(), any(), eq(SESSION_USER));
+    }
+
+    private static SyncOperation operation(Type type, Long scheduleId, Long commentId, Long expectedVersion) {
+        return new SyncOperation(type.name().toLowerCase() + "-" + scheduleId + "-" + commentId, type,
+                scheduleId, null, commentId, null, null, "제목", "내용", null, null, null, expectedVersion);
+    }
+
+    private static ScheduleOwner scheduleOwner(Long id, Long ownerId) {
+        return new ScheduleOwner() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getOwnerId() {
+                return ownerId;
+            }
+        };
+    }
+
+    private static CommentOwner commentOwner(Long id, Long ownerId) {
+        return new CommentOwner() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getOwnerId() {
+                return ownerId;
+            }
+        };
+    }
+}
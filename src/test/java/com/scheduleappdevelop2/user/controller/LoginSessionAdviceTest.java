@@ -0,0 +1,52 @@
+package com.scheduleappdevelop2.user.controller;
+
+import com.scheduleappdevelop2.user.dto.login.LoginResponse;
+import com.scheduleappdevelop2.user.dto.sessionUser.SessionUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LoginSessionAdvice 단위 테스트
+ * - 로그인 응답을 쓰기 직전에 세션이 만들어지고 로그인 정보가 저장되는지,
+ *   다른 응답에서는 세션을 만들지 않는지 검증한다.
+ */
+class LoginSessionAdviceTest {
+
+    private final LoginSessionAdvice advice = new LoginSessionAdvice();
+    private final MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+
+    @Test
+    void loginResponseStoresTheSessionUser() {
+        LoginResponse body = new LoginResponse(7L, "me@example.com", LocalDateTime.now(), LocalDateTime.now());
+
+        Object written = write(body);
+
+        assertThat(written).isSameAs(body);
+        assertThat(servletRequest.getSession(false)).isNotNull();
+        SessionUser sessionUser = (SessionUser) servletRequest.getSession(false).getAttribute("loginUser");
+        assertThat(sessionUser.getId()).isEqualTo(7L);
+        assertThat(sessionUser.getEmail()).isEqualTo("me@example.com");
+    }
+
+    @Test
+    void otherResponsesDoNotCreateASession() {
+        Object written = write("other");
+
+        assertThat(written).isEqualTo("other");
+        assertThat(servletRequest.getSession(false)).isNull();
+    }
+
+    private Object write(Object body) {
+        return advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON, MappingJackson2HttpMessageConverter.class,
+                new ServletServerHttpRequest(servletRequest), new ServletServerHttpResponse(new MockHttpServletResponse()));
+    }
+}
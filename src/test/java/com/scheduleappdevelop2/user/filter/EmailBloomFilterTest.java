@@ -0,0 +1,193 @@
+package com.scheduleappdevelop2.user.filter;
+
+import com.scheduleappdevelop2.user.repository.UserEmail;
+import com.scheduleappdevelop2.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * EmailBloomFilter 단위 테스트 (DB 없이)
+ * - UserRepository 를 메모리 목록으로 흉내 내고 오탐률, 정규화(대소문자/악센트), 재구축 조건과 교체,
+ *   재구축 중 추가된 이메일이 새 필터에 남는지를 검증한다.
+ */
+class EmailBloomFilterTest {
+
+    private final List<UserEmail> rows = new ArrayList<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private UserRepository userRepository;
+    private EmailBloomFilter filter;
+
+    /** 다음 페이지를 읽기 직전에 한 번만 실행할 동작 (재구축 도중의 가입 흉내) */
+    private Runnable duringScan;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.count()).thenAnswer(invocation -> (long) rows.size());
+        when(userRepository.findEmailsAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            if (duringScan != null) {
+                duringScan.run();
+                duringScan = null;
+            }
+            Long afterId = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            return rows.stream().filter(row -> row.getId() > afterId).limit(pageable.getPageSize()).toList();
+        });
+        filter = new EmailBloomFilter(userRepository, 1000, 0.01);
+        filter.bindTo(registry);
+    }
+
+    @Test
+    void answersMaybeBeforeTheFirstBuild() {
+        assertThat(filter.mightContain("nobody@example.com")).isTrue();
+    }
+
+    @Test
+    void hasNoFalseNegativesAndStaysUnderTheConfiguredFalsePositiveRate() {
+        for (int i = 1; i <= 20_000; i++) {
+            addRow("user" + i + "@example.com");
+        }
+        filter.buildOnStartup();
+
+        for (UserEmail row : rows) {
+            assertThat(filter.mightContain(row.getEmail())).isTrue();
+        }
+
+        int trials = 100_000;
+        int falsePositives = 0;
+        for (int i = 0; i < trials; i++) {
+            if (filter.mightContain("other" + i + "@example.org")) {
+                falsePositives++;
+            }
+        }
+        // 용량은 유저 수의 2배로 잡히므로 설정한 오탐률(1%)보다 낮아야 한다
+        assertThat((double) falsePositives / trials).isLessThan(0.01);
+        assertThat(registry.get("user.email.filter.expected.fpp").gauge().value()).isLessThan(0.01);
+    }
+
+    @Test
+    void normalizesCaseAccentsAndCompatibilityForms() {
+        assertThat(EmailBloomFilter.normalize("Élodie@Example.COM")).isEqualTo("elodie@example.com");
+        assertThat(EmailBloomFilter.normalize("ｅｌｏｄｉｅ@example.com ")).isEqualTo("elodie@example.com");
+        assertThat(EmailBloomFilter.normalize("STRAẞE@example.com")).isEqualTo("strasse@example.com");
+        assertThat(EmailBloomFilter.normalize("a.b@example.com")).isNotEqualTo(EmailBloomFilter.normalize("ab@example.com"));
+
+        addRow("élodie@example.com");
+        filter.buildOnStartup();
+
+        assertThat(filter.mightContain("ELODIE@EXAMPLE.COM")).isTrue();
+        assertThat(filter.mightContain("Elodie@example.com")).isTrue();
+    }
+
+    @Test
+    void skipsRebuildWhenNothingChanged() {
+        addRow("a@example.com");
+        filter.buildOnStartup();
+        filter.put("b@example.com"); // 가입 (커밋 뒤 추가)
+        addRow("b@example.com");
+
+        filter.rebuildIfNeeded();
+
+        assertThat(rebuilds()).isEqualTo(1);
+    }
+
+    @Test
+    void rebuildsWhenTheDatabaseHasUsersTheFilterNeverSaw() {
+        addRow("a@example.com");
+        filter.buildOnStartup();
+        addRow("other-instance@example.com"); // 이 필터를 거치지 않은 가입
+        assertThat(filter.mightContain("other-instance@example.com")).isFalse();
+
+        filter.rebuildIfNeeded();
+
+        assertThat(rebuilds()).isEqualTo(2);
+        assertThat(filter.mightContain("other-instance@example.com")).isTrue();
+    }
+
+    @Test
+    void rebuildDropsDeletedEmailsWhenStale() {
+        addRow("a@example.com");
+        addRow("b@example.com");
+        filter.buildOnStartup();
+        rows.removeIf(row -> row.getEmail().equals("a@example.com"));
+        filter.markStale();
+
+        filter.rebuildIfNeeded();
+
+        assertThat(filter.mightContain("a@example.com")).isFalse();
+        assertThat(filter.mightContain("b@example.com")).isTrue();
+        assertThat(registry.get("user.email.filter.stale").gauge().value()).isZero();
+    }
+
+    @Test
+    void missIsAddedAndTriggersRebuild() {
+        addRow("a@example.com");
+        filter.buildOnStartup();
+        rows.add(row(100, "missed@example.com"));
+        // count 로는 알 수 없도록 같은 수를 유지
+        rows.removeIf(row -> row.getEmail().equals("a@example.com"));
+
+        filter.recordMiss("missed@example.com");
+        assertThat(filter.mightContain("missed@example.com")).isTrue();
+
+        filter.rebuildIfNeeded();
+
+        assertThat(rebuilds()).isEqualTo(2);
+        assertThat(filter.mightContain("missed@example.com")).isTrue();
+        assertThat(registry.get("user.email.filter.misses").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void emailPutDuringRebuildSurvivesTheSwap() {
+        addRow("a@example.com");
+        filter.buildOnStartup();
+        filter.markStale();
+
+        // 재구축이 DB를 읽기 시작한 뒤에 커밋된 가입 (이번 읽기에는 잡히지 않는다)
+        AtomicBoolean putDuringScan = new AtomicBoolean();
+        duringScan = () -> {
+            filter.put("late@example.com");
+            putDuringScan.set(true);
+        };
+
+        filter.rebuildIfNeeded();
+
+        assertThat(putDuringScan).isTrue();
+        assertThat(rebuilds()).isEqualTo(2);
+        assertThat(filter.mightContain("late@example.com")).isTrue();
+    }
+
+    private double rebuilds() {
+        return registry.get("user.email.filter.rebuilds").functionCounter().count();
+    }
+
+    private void addRow(String email) {
+        rows.add(row(rows.isEmpty() ? 1 : rows.get(rows.size() - 1).getId() + 1, email));
+    }
+
+    private static UserEmail row(long id, String email) {
+        return new UserEmail() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package com.scheduleappdevelop2.user.service;
+
+import com.scheduleappdevelop2.global.config.PasswordEncoder;
+import com.scheduleappdevelop2.global.config.PasswordHashExecutor;
+import com.scheduleappdevelop2.global.exception.ServiceBusyException;
+import com.scheduleappdevelop2.user.dto.login.LoginRequest;
+import com.scheduleappdevelop2.user.dto.login.LoginResponse;
+import com.scheduleappdevelop2.user.entity.User;
+import com.scheduleappdevelop2.user.filter.EmailBloomFilter;
+import com.scheduleappdevelop2.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * UserService 로그인 재해시 단위 테스트 (DB/BCrypt 없이)
+ * - 저장된 해시가 현재 cost 보다 약할 때만 새 해시를 만들고, 예전 해시를 조건으로 한 UPDATE 로 저장하는지,
+ *   해시 풀이 바쁘면 재해시를 건너뛰고 로그인은 성공하는지 검증한다.
+ */
+class UserServiceTest {
+
+    private static final String EMAIL = "me@example.com";
+    private static final String OLD_HASH = "$2a$10$abcdefghijklmnopqrstuv";
+
+    private UserRepository userRepository;
+    private PasswordEncoder passwordEncoder;
+    private PasswordHashExecutor passwordHashExecutor;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        passwordEncoder = mock(PasswordEncoder.class);
+        passwordHashExecutor = mock(PasswordHashExecutor.class);
+        EmailBloomFilter emailFilter = mock(EmailBloomFilter.class);
+        userService = new UserService(userRepository, passwordEncoder, passwordHashExecutor, emailFilter,
+                mock(ApplicationEventPublisher.class));
+
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(7L);
+        when(user.getEmail()).thenReturn(EMAIL);
+        when(user.getPassword()).thenReturn(OLD_HASH);
+        when(emailFilter.mightContain(EMAIL)).thenReturn(true);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordHashExecutor.matches("secret", OLD_HASH)).thenReturn(CompletableFuture.completedFuture(true));
+    }
+
+    @Test
+    void weakHashIsReplacedOnlyIfUnchanged() {
+        when(passwordEncoder.needsRehash(OLD_HASH)).thenReturn(true);
+        when(passwordHashExecutor.encode("secret")).thenReturn(CompletableFuture.completedFuture("$2a$12$new"));
+
+        LoginResponse response = userService.login(new LoginRequest(EMAIL, "secret")).join();
+
+        assertThat(response.getId()).isEqualTo(7L);
+        verify(userRepository).updatePasswordIfUnchanged(7L, OLD_HASH, "$2a$12$new");
+    }
+
+    @Test
+    void currentHashIsNotRehashed() {
+        when(passwordEncoder.needsRehash(OLD_HASH)).thenReturn(false);
+
+        userService.login(new LoginRequest(EMAIL, "secret")).join();
+
+        verify(passwordHashExecutor, never()).encode(anyString());
+        verify(userRepository, never()).updatePasswordIfUnchanged(anyLong(), any(), any());
+    }
+
+    @Test
+    void busyHashPoolSkipsTheRehashButLoginSucceeds() {
+        when(passwordEncoder.needsRehash(OLD_HASH)).thenReturn(true);
+        when(passwordHashExecutor.encode("secret")).thenThrow(new ServiceBusyException(1));
+
+        LoginResponse response = userService.login(new LoginRequest(EMAIL, "secret")).join();
+
+        assertThat(response.getEmail()).isEqualTo(EMAIL);
+        verify(userRepository, never()).updatePasswordIfUnchanged(anyLong(), any(), any());
+    }
+
+    @Test
+    void failedRehashStoreDoesNotFailTheLogin() {
+        when(passwordEncoder.needsRehash(OLD_HASH)).thenReturn(true);
+        when(passwordHashExecutor.encode("secret")).thenReturn(CompletableFuture.completedFuture("$2a$12$new"));
+        when(userRepository.updatePasswordIfUnchanged(7L, OLD_HASH, "$2a$12$new"))
+                .thenThrow(new IllegalStateException("connection reset"));
+
+        LoginResponse response = userService.login(new LoginRequest(EMAIL, "secret")).join();
+
+        assertThat(response.getId()).isEqualTo(7L);
+    }
+}